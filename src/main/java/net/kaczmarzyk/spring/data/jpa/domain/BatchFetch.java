@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import net.kaczmarzyk.spring.data.jpa.utils.FetchGraph;
+
+
+/**
+ * <p>Marks associations to be loaded in batches after the query (see {@link FetchGraph#addBatch(String)}).
+ * It does not modify the query.</p>
+ */
+public class BatchFetch<T> implements Specification<T>, Fake {
+
+	private static final long serialVersionUID = 1L;
+
+	private List<String> paths;
+
+
+	public BatchFetch(String... paths) {
+		if (paths.length == 0) {
+			throw new IllegalArgumentException("At least one path to batch fetch must be specified");
+		}
+		this.paths = Arrays.asList(paths);
+	}
+
+	@Override
+	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		if (JoinPlanner.mayFetch(query, root)) { // e.g. count query does not load the entities
+			paths.forEach(FetchGraph::addBatch);
+		}
+		return null;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(paths);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		BatchFetch<?> other = (BatchFetch<?>) obj;
+		return Objects.equals(paths, other.paths);
+	}
+
+	@Override
+	public String toString() {
+		return "BatchFetch [paths=" + paths + "]";
+	}
+}
@@ -22,6 +22,7 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import java.io.Serial;
@@ -72,7 +73,19 @@ public class Between<T> extends PathSpecification<T> {
 		Comparable<Object> lowerBoundary = (Comparable<Object>) converter.convert(lowerBoundaryStr, typeOnPath);
 		Comparable<Object> upperBoundary = (Comparable<Object>) converter.convert(upperBoundaryStr, typeOnPath);
 		
-		return criteriaBuilder.between(targetExpression, lowerBoundary, upperBoundary);
+		return criteriaBuilder.between(targetExpression, CriteriaValues.bound(criteriaBuilder, lowerBoundary), CriteriaValues.bound(criteriaBuilder, upperBoundary));
+	}
+
+	@Override
+	boolean applyTo(PathConstraint constraint, Class<?> typeOnPath) {
+		return constraint.lowerBound(converter.convert(lowerBoundaryStr, typeOnPath), true)
+				&& constraint.upperBound(converter.convert(upperBoundaryStr, typeOnPath), true);
+	}
+
+	@Override
+	String toSql(String column, Class<?> typeOnPath, SqlPredicate.Parameters parameters) {
+		return column + " between " + parameters.bind(converter.convert(lowerBoundaryStr, typeOnPath))
+				+ " and " + parameters.bind(converter.convert(upperBoundaryStr, typeOnPath));
 	}
 
 	@Override
@@ -72,6 +72,10 @@ public abstract class ComparableSpecification<T> extends PathSpecification<T> {
 	protected abstract <Y extends Comparable<? super Y>> 
 		Predicate makePredicate(CriteriaBuilder cb, Expression<? extends Y> x, Y y);
 
+	Object convertedComparedTo(Class<?> typeOnPath) {
+		return converter.convert(comparedTo, typeOnPath);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
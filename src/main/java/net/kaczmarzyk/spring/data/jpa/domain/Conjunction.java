@@ -22,11 +22,11 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.util.*;
-
-import static java.util.stream.Collectors.toList;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Helper for easier joining lists of specs with {@code AND} operator
+ * Helper for easier joining lists of specs with {@code AND} operator.
+ * Built-in specs which refer to the same path are merged into a single predicate (see {@link PathConstraint}).
  *
  * @author Tomasz Kaczmarzyk
  */
@@ -43,9 +43,21 @@ public class Conjunction<T> implements Specification<T>, FakeSpecWrapper<T> {
 	 * The first time during standard search.
 	 * The second time during count(*) query which is executed for paging purposes.
 	 *
-	 * Fakes should be initialized in both.
+	 * Fakes should be initialized in both. The queries may be also built concurrently (see {@code ParallelCountSpecificationExecutor}).
+	 */
+	private Set<CriteriaQuery<?>> queriesWithInitializedFakes = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Queries in which the conjunction is nested in a {@link Disjunction}, so its left joins must not be promoted to inner joins,
+	 * as the other branches of the disjunction may match the rows without the joined part.
+	 */
+	private Set<CriteriaQuery<?>> queriesWithEnclosingDisjunction = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Aliases referred to outside of the conjunction, so its joins on them cannot be evaluated as semi-joins
+	 * (see {@link JoinPlanner#planSemiJoins(Collection, Root, CriteriaQuery, Set)}).
 	 */
-	private Set<CriteriaQuery<?>> queriesWithInitializedFakes = new HashSet<>();
+	private Map<CriteriaQuery<?>, Set<String>> aliasesReferencedOutside = new ConcurrentHashMap<>();
 
 	@SafeVarargs
 	public Conjunction(Specification<T>... innerSpecs) {
@@ -60,7 +72,17 @@ public class Conjunction<T> implements Specification<T>, FakeSpecWrapper<T> {
 	@Override
 	public void initializeFakes(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
 		if (!queriesWithInitializedFakes.contains(query)) {
-			for (Specification<T> spec : innerSpecs) {
+			boolean enclosedInDisjunction = queriesWithEnclosingDisjunction.contains(query);
+			if (!enclosedInDisjunction) {
+				JoinPlanner.promoteNullRejectedJoins(innerSpecs, root);
+			}
+			Set<String> referencedOutside = aliasesReferencedOutside.getOrDefault(query, Collections.emptySet());
+			JoinPlanner.planSemiJoins(innerSpecs, root, query, referencedOutside);
+			JoinPlanner.propagateReferencedAliases(innerSpecs, referencedOutside, query);
+			for (Specification<T> spec : JoinPlanner.inDependencyOrder(innerSpecs)) {
+				if (enclosedInDisjunction && spec instanceof Conjunction) {
+					((Conjunction<T>) spec).enclosedInDisjunction(query);
+				}
 				if (spec instanceof FakeSpecWrapper) {
 					((FakeSpecWrapper<T>) spec).initializeFakes(root, query, cb);
 				}
@@ -77,13 +99,56 @@ public class Conjunction<T> implements Specification<T>, FakeSpecWrapper<T> {
 	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
     	initializeFakes(root, query, cb);
 
-		return cb.and(
-				innerSpecs.stream()
-						.filter(spec -> !(spec instanceof Fake))
-						.map(spec -> spec.toPredicate(root, query, cb))
-						.filter(Objects::nonNull)
-						.collect(toList()).toArray(new Predicate[]{})
-		);
+		Map<String, Join<T>> semiJoinsByAlias = JoinPlanner.semiJoinsByAlias(innerSpecs, join -> join.isEvaluatedAsSemiJoin(root));
+		List<Specification<T>> mainQuerySpecs = new ArrayList<>();
+		Map<Join<T>, List<Specification<T>>> subquerySpecs = new IdentityHashMap<>();
+		for (Specification<T> spec : innerSpecs) {
+			if (spec instanceof Fake) {
+				continue;
+			}
+			Set<Join<T>> semiJoins = JoinPlanner.semiJoinsReferencedBy(spec, semiJoinsByAlias);
+			if (semiJoins.isEmpty()) {
+				mainQuerySpecs.add(spec);
+			} else { // a spec never refers to more than one semi-join (see JoinPlanner.planSemiJoins)
+				subquerySpecs.computeIfAbsent(semiJoins.iterator().next(), join -> new ArrayList<>()).add(spec);
+			}
+		}
+
+		Predicate predicate = PathConstraint.and(mainQuerySpecs, root, query, cb);
+		if (semiJoinsByAlias.isEmpty()) {
+			return predicate;
+		}
+
+		// each semi-join has its own subquery with the filters referring to it, the other filters stay in the main query
+		List<Predicate> predicates = new ArrayList<>();
+		if (!mainQuerySpecs.isEmpty()) {
+			predicates.add(predicate);
+		}
+		for (Join<T> semiJoin : new LinkedHashSet<>(semiJoinsByAlias.values())) {
+			List<Specification<T>> specs = subquerySpecs.get(semiJoin);
+			Predicate filter = specs == null ? null : PathConstraint.and(specs, root, query, cb);
+			Predicate exists = semiJoin.exists(filter, root, cb);
+			if (exists != null) {
+				predicates.add(exists);
+			}
+		}
+		return cb.and(predicates.toArray(new Predicate[0]));
+	}
+
+	void referencedOutside(CriteriaQuery<?> query, Set<String> aliases) {
+		aliasesReferencedOutside.merge(query, aliases, (existing, added) -> {
+			Set<String> union = new HashSet<>(existing);
+			union.addAll(added);
+			return union;
+		});
+	}
+
+	void enclosedInDisjunction(CriteriaQuery<?> query) {
+		queriesWithEnclosingDisjunction.add(query);
+	}
+
+	public Collection<Specification<T>> getInnerSpecs() {
+		return innerSpecs;
 	}
 
 	@Override
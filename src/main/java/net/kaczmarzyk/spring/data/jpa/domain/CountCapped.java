@@ -0,0 +1,34 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+/**
+ * <p>Interface of a {@code Specification} whose total number of results should be counted only up to a limit
+ * (e.g. a specification resolved with {@code @CountCap}).</p>
+ *
+ * <p>It allows to skip an exact (and possibly slow) count of a broad filter, e.g. with
+ * {@link net.kaczmarzyk.spring.data.jpa.repository.ParameterizedSpecificationExecutor ParameterizedSpecificationExecutor}.
+ * The interface is retained when the resolved specification is wrapped into a custom specification interface.</p>
+ *
+ * @see WithCountCap
+ */
+public interface CountCapped {
+
+	/**
+	 * @return the maximum number of rows to count
+	 */
+	int getCountCap();
+}
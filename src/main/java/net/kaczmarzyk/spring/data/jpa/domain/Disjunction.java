@@ -17,8 +17,11 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 
+import static java.util.stream.Collectors.toList;
+
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
@@ -28,7 +31,10 @@ import org.springframework.data.jpa.domain.Specification;
 
 
 /**
- * Helper for easier joining lists of specs with {@code OR} operator
+ * <p>Helper for easier joining lists of specs with {@code OR} operator.</p>
+ *
+ * <p>All inner predicates are combined with a single, flat {@code cb.or(...)} call
+ * (instead of a left-deep chain of binary {@code OR}s). Unrestricted specs are filtered out upon construction.</p>
  * 
  * @author Tomasz Kaczmarzyk
  */
@@ -45,28 +51,35 @@ public class Disjunction<T> implements Specification<T> {
     }
     
     public Disjunction(Collection<Specification<T>> innerSpecs) {
-        this.innerSpecs = innerSpecs;
+        this.innerSpecs = innerSpecs.stream()
+                .filter(spec -> !spec.equals(Specification.unrestricted()))
+                .collect(toList());
     }
     
+    @SuppressWarnings("unchecked")
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-        Specification<T> combinedSpecs = null;
         for (Specification<T> spec : innerSpecs) {
-            if (spec.equals(Specification.unrestricted())) {
-                continue;
-            }
-            if (combinedSpecs == null) {
-                combinedSpecs = spec;
-            } else {
-                combinedSpecs = combinedSpecs.or(spec);
+            if (spec instanceof Conjunction) {
+                ((Conjunction<T>) spec).enclosedInDisjunction(query);
             }
         }
+        JoinPlanner.propagateReferencedAliases(innerSpecs, Collections.emptySet(), query);
 
-        if (combinedSpecs == null) {
-            combinedSpecs = Specification.unrestricted();
+        Predicate[] predicates = innerSpecs.stream()
+                .map(spec -> spec.toPredicate(root, query, cb))
+                .filter(Objects::nonNull)
+                .toArray(Predicate[]::new);
+
+        if (predicates.length == 0) {
+            return null;
         }
 
-        return combinedSpecs.toPredicate(root, query, cb);
+        return predicates.length == 1 ? predicates[0] : cb.or(predicates);
+    }
+
+    public Collection<Specification<T>> getInnerSpecs() {
+        return innerSpecs;
     }
 
 	@Override
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+/**
+ * <p>Defines how a distinct {@link Join} or {@link JoinFetch} removes the duplicated root entities produced by the joined rows.</p>
+ *
+ * <p>SQL {@code distinct} makes the database compare whole rows (including e.g. LOB columns), while Hibernate (since 6.0)
+ * de-duplicates the root entities of a query in memory anyway. The in-memory de-duplication is not sufficient though
+ * if the results are counted, projected to scalar values or limited in SQL (the limit is applied to the joined rows,
+ * so a page would have fewer elements than requested).</p>
+ */
+public enum DistinctStrategy {
+
+	/**
+	 * Always makes the query distinct in SQL. Strategy used by default.
+	 */
+	SQL,
+
+	/**
+	 * Does not make a query selecting the root entity distinct in SQL (i.e. relies on in-memory de-duplication)
+	 * if it is safe to do so, i.e. if the query is executed by {@code ParameterizedSpecificationExecutor}
+	 * (which loads pages of such queries in two phases, with a distinct query of ids of the page first)
+	 * or the rows are multiplied by a fetch join (Hibernate de-duplicates such results and applies the limit in memory).
+	 * Otherwise uses {@link #SQL}, so that e.g. a limit of a page of a Spring Data repository is not applied to the duplicated rows.
+	 */
+	AUTO,
+
+	/**
+	 * The default strategy of {@code SpecificationArgumentResolver} (i.e. {@link #SQL} unless configured otherwise),
+	 * to be used in {@code @Join} and {@code @JoinFetch} annotations. Equivalent to {@link #SQL} if used directly in a spec.
+	 */
+	DEFAULT
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.util.Objects;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * <p>Specification which is known to produce an empty result (i.e. {@code where 0 = 1}),
+ * e.g. because of a type mismatch detected during resolution (see {@link EmptyResultDetector}).</p>
+ *
+ * <p>It still produces a valid (always false) predicate, but it can be recognized (see {@link ProvablyEmpty})
+ * to skip the query altogether.</p>
+ */
+public class EmptyResult<T> implements Specification<T>, ProvablyEmpty {
+
+	private static final long serialVersionUID = 1L;
+
+	private Specification<T> replacedSpec;
+
+	/**
+	 * @param replacedSpec the original specification which has been proven to be empty
+	 */
+	public EmptyResult(Specification<T> replacedSpec) {
+		this.replacedSpec = replacedSpec;
+	}
+
+	@Override
+	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return cb.equal(cb.literal(0), cb.literal(1));
+	}
+
+	public Specification<T> getReplacedSpec() {
+		return replacedSpec;
+	}
+
+	@Override
+	public String toString() {
+		return "EmptyResult [replacedSpec=" + replacedSpec + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(replacedSpec);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		EmptyResult<?> other = (EmptyResult<?>) obj;
+		return Objects.equals(replacedSpec, other.replacedSpec);
+	}
+}
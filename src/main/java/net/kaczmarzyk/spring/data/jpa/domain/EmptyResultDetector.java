@@ -0,0 +1,249 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * <p>Detects specifications which are known to produce an empty result, without executing any query.
+ * Types on paths are taken from the JPA metamodel, so that the values from HTTP params can be converted eagerly.</p>
+ *
+ * <p>The following specifications are replaced with {@link EmptyResult}:</p>
+ * <ul>
+ *     <li>{@link EmptyResultOnTypeMismatch} if the value of the wrapped spec cannot be converted to the type on path,</li>
+ *     <li>{@link Conjunction} with contradicting inner specs on the same path (see {@link PathConstraint})
+ *         or with any inner spec which is empty,</li>
+ *     <li>{@link Disjunction} with all inner specs empty (empty inner specs are removed otherwise,
+ *         unless they contain fakes such as {@link Join}, which affect the whole query).</li>
+ * </ul>
+ *
+ * <p>The same rules are applied by {@link SpecificationSimplifier}, while simplifying the tree of specs.</p>
+ *
+ * <p>Only the built-in specs are analyzed. Any path which cannot be resolved with the metamodel is left intact,
+ * to be evaluated by the database as usual.</p>
+ */
+public abstract class EmptyResultDetector {
+
+	public static <T> Specification<T> detect(Specification<T> spec, Class<?> domainClass, Metamodel metamodel) {
+		return detect(spec, typeResolver(spec, domainClass, metamodel));
+	}
+
+	/**
+	 * @return function resolving the type on path (or {@code null} if it cannot be resolved with the metamodel),
+	 * with the aliases of the joins from given spec
+	 */
+	static Function<String, Class<?>> typeResolver(Specification<?> spec, Class<?> domainClass, Metamodel metamodel) {
+		Map<String, String> joinPathsByAlias = new HashMap<>();
+		collectJoinAliases(spec, joinPathsByAlias);
+		return path -> resolveTypeOnPath(path, domainClass, joinPathsByAlias, metamodel);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Specification<T> detect(Specification<T> spec, Function<String, Class<?>> typeResolver) {
+		if (spec instanceof ProvablyEmpty) {
+			return spec;
+		} else if (spec instanceof Conjunction) {
+			return detectInConjunction((Conjunction<T>) spec, typeResolver);
+		} else if (spec instanceof Disjunction) {
+			return detectInDisjunction((Disjunction<T>) spec, typeResolver);
+		} else if (spec instanceof EmptyResultOnTypeMismatch) {
+			return isTypeMismatch((EmptyResultOnTypeMismatch<T>) spec, typeResolver) ? new EmptyResult<>(spec) : spec;
+		}
+		return spec;
+	}
+
+	private static <T> Specification<T> detectInConjunction(Conjunction<T> conjunction, Function<String, Class<?>> typeResolver) {
+		List<Specification<T>> detectedInnerSpecs = new ArrayList<>();
+		boolean changed = false;
+		for (Specification<T> innerSpec : conjunction.getInnerSpecs()) {
+			Specification<T> detected = detect(innerSpec, typeResolver);
+			detectedInnerSpecs.add(detected);
+			changed |= detected != innerSpec;
+		}
+		if (isEmptyConjunction(detectedInnerSpecs, typeResolver)) {
+			return new EmptyResult<>(conjunction);
+		}
+		return changed ? new Conjunction<>(detectedInnerSpecs) : conjunction; // e.g. empty branches removed from a nested disjunction
+	}
+
+	private static <T> Specification<T> detectInDisjunction(Disjunction<T> disjunction, Function<String, Class<?>> typeResolver) {
+		List<Specification<T>> detectedInnerSpecs = new ArrayList<>();
+		for (Specification<T> innerSpec : disjunction.getInnerSpecs()) {
+			detectedInnerSpecs.add(detect(innerSpec, typeResolver));
+		}
+		if (isEmptyDisjunction(detectedInnerSpecs)) {
+			return new EmptyResult<>(disjunction);
+		}
+		List<Specification<T>> remainingInnerSpecs = withoutEmptyBranches(detectedInnerSpecs);
+		if (isSameSpecs(remainingInnerSpecs, disjunction.getInnerSpecs())) {
+			return disjunction;
+		} else if (remainingInnerSpecs.size() == 1) {
+			return remainingInnerSpecs.get(0);
+		}
+		return new Disjunction<>(remainingInnerSpecs);
+	}
+
+	/**
+	 * @param innerSpecs inner specs of a {@link Conjunction}, already analyzed
+	 * @return whether any of the specs is empty or there are contradicting specs on the same path (see {@link PathConstraint})
+	 */
+	static <T> boolean isEmptyConjunction(Collection<Specification<T>> innerSpecs, Function<String, Class<?>> typeResolver) {
+		if (innerSpecs.stream().anyMatch(ProvablyEmpty.class::isInstance)) {
+			return true;
+		}
+		for (List<PathSpecification<T>> specsOnPath : PathConstraint.groupMergeableSpecsByPath(innerSpecs).values()) {
+			if (specsOnPath.size() > 1) {
+				Class<?> typeOnPath = typeResolver.apply(specsOnPath.get(0).path);
+				PathConstraint constraint = typeOnPath != null ? PathConstraint.mergeIfAnalyzable(specsOnPath, typeOnPath) : null;
+				if (constraint != null && constraint.isUnsatisfiable()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param innerSpecs inner specs of a {@link Disjunction}, already analyzed
+	 * @return whether there is at least one spec and all of them are empty
+	 */
+	static <T> boolean isEmptyDisjunction(Collection<Specification<T>> innerSpecs) {
+		return !innerSpecs.isEmpty() && innerSpecs.stream().allMatch(ProvablyEmpty.class::isInstance);
+	}
+
+	/**
+	 * @param innerSpecs inner specs of a {@link Disjunction}, already analyzed
+	 * @return the specs without the empty ones, except for these with fakes (such as {@link Join}), which are kept
+	 * as they were before the analysis, because their joins are applied to the whole query, even though the branch matches nothing
+	 */
+	static <T> List<Specification<T>> withoutEmptyBranches(Collection<Specification<T>> innerSpecs) {
+		List<Specification<T>> remainingInnerSpecs = new ArrayList<>();
+		for (Specification<T> innerSpec : innerSpecs) {
+			if (!(innerSpec instanceof ProvablyEmpty)) {
+				remainingInnerSpecs.add(innerSpec);
+			} else if (containsFakes(innerSpec)) {
+				remainingInnerSpecs.add(innerSpec instanceof EmptyResult<T> emptyResult ? emptyResult.getReplacedSpec() : innerSpec);
+			}
+		}
+		return remainingInnerSpecs;
+	}
+
+	/**
+	 * @return whether the spec is an {@link EmptyResultOnTypeMismatch} (but not {@link IgnoreOnTypeMismatch})
+	 * with a value which cannot be converted to the type on path
+	 */
+	static <T> boolean isTypeMismatch(EmptyResultOnTypeMismatch<T> wrapper, Function<String, Class<?>> typeResolver) {
+		if (wrapper.getClass() != EmptyResultOnTypeMismatch.class) {
+			return false;
+		}
+		PathSpecification<T> wrappedSpec = PathConstraint.mergeable(wrapper);
+		if (wrappedSpec == null) {
+			return false;
+		}
+		Class<?> typeOnPath = typeResolver.apply(wrappedSpec.path);
+		if (typeOnPath == null) {
+			return false;
+		}
+		try {
+			PathConstraint constraint = PathConstraint.merge(Collections.singletonList(wrappedSpec), typeOnPath);
+			return constraint != null && constraint.isUnsatisfiable(); // e.g. "in" with all values rejected by the converter
+		} catch (IllegalArgumentException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * @return whether the spec contains a fake (such as {@link Join}), which affects the query even if the spec is known to be empty
+	 */
+	@SuppressWarnings("unchecked")
+	static boolean containsFakes(Specification<?> spec) {
+		if (spec instanceof Fake) {
+			return true;
+		} else if (spec instanceof Conjunction) {
+			return ((Conjunction<Object>) spec).getInnerSpecs().stream().anyMatch(EmptyResultDetector::containsFakes);
+		} else if (spec instanceof Disjunction) {
+			return ((Disjunction<Object>) spec).getInnerSpecs().stream().anyMatch(EmptyResultDetector::containsFakes);
+		} else if (spec instanceof EmptyResultOnTypeMismatch) {
+			return containsFakes(((EmptyResultOnTypeMismatch<?>) spec).getWrappedSpec());
+		} else if (spec instanceof EmptyResult) {
+			return containsFakes(((EmptyResult<?>) spec).getReplacedSpec());
+		}
+		return false;
+	}
+
+	private static <T> boolean isSameSpecs(List<Specification<T>> specs, Collection<Specification<T>> otherSpecs) {
+		if (specs.size() != otherSpecs.size()) {
+			return false;
+		}
+		Iterator<Specification<T>> otherSpecsIterator = otherSpecs.iterator();
+		return specs.stream().allMatch(spec -> spec == otherSpecsIterator.next());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void collectJoinAliases(Specification<?> spec, Map<String, String> joinPathsByAlias) {
+		if (spec instanceof Join<?> join) {
+			if (!join.getAlias().isEmpty()) {
+				joinPathsByAlias.put(join.getAlias(), join.getPathToJoinOn());
+			}
+		} else if (spec instanceof JoinFetch<?> joinFetch) {
+			if (!joinFetch.getAlias().isEmpty()) {
+				joinPathsByAlias.put(joinFetch.getAlias(), joinFetch.getPathsToFetch().get(0));
+			}
+		} else if (spec instanceof Conjunction) {
+			((Conjunction<Object>) spec).getInnerSpecs().forEach(innerSpec -> collectJoinAliases(innerSpec, joinPathsByAlias));
+		} else if (spec instanceof Disjunction) {
+			((Disjunction<Object>) spec).getInnerSpecs().forEach(innerSpec -> collectJoinAliases(innerSpec, joinPathsByAlias));
+		} else if (spec instanceof EmptyResultOnTypeMismatch) {
+			collectJoinAliases(((EmptyResultOnTypeMismatch<?>) spec).getWrappedSpec(), joinPathsByAlias);
+		}
+	}
+
+	/**
+	 * @return type on path or {@code null} if it cannot be resolved with the metamodel
+	 */
+	private static Class<?> resolveTypeOnPath(String path, Class<?> domainClass, Map<String, String> joinPathsByAlias, Metamodel metamodel) {
+		String resolvedPath = path;
+		for (int i = 0; i <= joinPathsByAlias.size(); i++) { // alias might refer to another alias (e.g. multi-level joins)
+			String firstSegment = resolvedPath.split("\\.")[0];
+			if (!joinPathsByAlias.containsKey(firstSegment)) {
+				break;
+			}
+			resolvedPath = joinPathsByAlias.get(firstSegment) + resolvedPath.substring(firstSegment.length());
+		}
+
+		ManagedType<?> managedType;
+		try {
+			managedType = metamodel.managedType(domainClass);
+		} catch (IllegalArgumentException e) {
+			return null; // not an entity, the spec will be evaluated by the database as usual
+		}
+		Attribute<?, ?> attribute = MetamodelPaths.attributeOnPath(managedType, resolvedPath);
+		return attribute != null && !attribute.isCollection() ? attribute.getJavaType() : null;
+	}
+}
@@ -21,9 +21,11 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
 
 /**
@@ -53,7 +55,18 @@ public class Equal<T> extends PathSpecification<T> {
 	@Override
 	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
 		Class<?> typeOnPath = path(root).getJavaType();
-		return cb.equal(path(root), converter.convert(expectedValue, typeOnPath));
+		return cb.equal(path(root), CriteriaValues.bound(cb, converter.convert(expectedValue, typeOnPath)));
+	}
+
+	@Override
+	boolean applyTo(PathConstraint constraint, Class<?> typeOnPath) {
+		constraint.restrictTo(Collections.singletonList(converter.convert(expectedValue, typeOnPath)));
+		return true;
+	}
+
+	@Override
+	String toSql(String column, Class<?> typeOnPath, SqlPredicate.Parameters parameters) {
+		return column + " = " + parameters.bind(converter.convert(expectedValue, typeOnPath));
 	}
 
 	@Override
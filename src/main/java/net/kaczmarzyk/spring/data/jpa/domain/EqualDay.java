@@ -21,6 +21,7 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Expression;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import java.util.Arrays;
@@ -59,8 +60,8 @@ public class EqualDay<T> extends PathSpecification<T> {
 		Class<?> typeOnPath = targetExpression.getJavaType();
 
 		Object targetDayDate = converter.convert(expectedDay, typeOnPath);
-		Predicate lowerBoundaryPredicate = criteriaBuilder.greaterThanOrEqualTo(targetExpression, (Comparable<Object>) startOfDay(targetDayDate));
-		Predicate upperBoundaryPredicate = criteriaBuilder.lessThan(targetExpression, (Comparable<Object>) startOfNextDay(targetDayDate));
+		Predicate lowerBoundaryPredicate = criteriaBuilder.greaterThanOrEqualTo(targetExpression, CriteriaValues.bound(criteriaBuilder, (Comparable<Object>) startOfDay(targetDayDate)));
+		Predicate upperBoundaryPredicate = criteriaBuilder.lessThan(targetExpression, CriteriaValues.bound(criteriaBuilder, (Comparable<Object>) startOfNextDay(targetDayDate)));
 		return criteriaBuilder.and(lowerBoundaryPredicate, upperBoundaryPredicate);
 	}
 
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.util.List;
+
+/**
+ * <p>Interface of a {@code Specification} whose results should be read as values of selected attributes rather than entities
+ * (e.g. a specification resolved with {@code @SelectedFields}).</p>
+ *
+ * <p>Only the selected columns are read then, e.g. with
+ * {@link net.kaczmarzyk.spring.data.jpa.repository.ParameterizedSpecificationExecutor#findFields(org.springframework.data.jpa.domain.Specification, org.springframework.data.domain.Pageable)
+ * ParameterizedSpecificationExecutor#findFields}. The interface is retained when the resolved specification is wrapped into a custom specification interface.</p>
+ *
+ * @see WithSelectedFields
+ */
+public interface FieldSelection {
+
+	/**
+	 * @return names of the selected attributes of the entity, e.g. {@code firstName}
+	 */
+	List<String> getSelectedFields();
+}
@@ -20,6 +20,7 @@ import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 /**
@@ -48,7 +49,11 @@ public class GreaterThanOrEqual<T> extends ComparableSpecification<T> {
 
 	@Override
 	protected <Y extends Comparable<? super Y>> Predicate makePredicate(CriteriaBuilder cb, Expression<? extends Y> x, Y y) {
-		return cb.greaterThanOrEqualTo(x, y);
+		return cb.greaterThanOrEqualTo(x, CriteriaValues.bound(cb, y));
+	}
+
+	@Override
+	boolean applyTo(PathConstraint constraint, Class<?> typeOnPath) {
+		return constraint.lowerBound(convertedComparedTo(typeOnPath), true);
 	}
-	
 }
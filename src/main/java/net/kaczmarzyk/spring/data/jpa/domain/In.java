@@ -17,6 +17,7 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -39,12 +40,13 @@ import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
  * @author Tomasz Kaczmarzyk
  * @author Maciej Szewczyszyn
  */
-public class In<T> extends PathSpecification<T> {
+public class In<T> extends PathSpecification<T> implements InListStrategyAware {
 
 	private static final long serialVersionUID = 1L;
 	
 	private String[] allowedValues;
 	private Converter converter;
+	private InListStrategy inListStrategy = InListStrategy.PLAIN;
 
 	public In(QueryContext queryContext, String path, String[] httpParamValues, Converter converter) {
 		super(queryContext, path);
@@ -59,7 +61,28 @@ public class In<T> extends PathSpecification<T> {
 	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
 		Path<?> path = path(root);
 		Class<?> typeOnPath = path.getJavaType();
-		return path.in(converter.convert(Arrays.asList(allowedValues), typeOnPath));
+		return inListStrategy.in(path, converter.convert(Arrays.asList(allowedValues), typeOnPath), cb);
+	}
+
+	@Override
+	boolean applyTo(PathConstraint constraint, Class<?> typeOnPath) {
+		if (!constraint.inListStrategy(inListStrategy)) {
+			return false;
+		}
+		constraint.restrictTo(converter.convert(Arrays.asList(allowedValues), typeOnPath));
+		return true;
+	}
+
+	@Override
+	String toSql(String column, Class<?> typeOnPath, SqlPredicate.Parameters parameters) {
+		return converter.convert(Arrays.asList(allowedValues), typeOnPath).stream()
+				.map(parameters::bind)
+				.collect(Collectors.joining(", ", column + " in (", ")"));
+	}
+
+	@Override
+	public void setInListStrategy(InListStrategy inListStrategy) {
+		this.inListStrategy = inListStrategy;
 	}
 
 	@Override
@@ -68,6 +91,7 @@ public class In<T> extends PathSpecification<T> {
 		int result = super.hashCode();
 		result = prime * result + Arrays.hashCode(allowedValues);
 		result = prime * result + ((converter == null) ? 0 : converter.hashCode());
+		result = prime * result + ((inListStrategy == null) ? 0 : inListStrategy.hashCode());
 		return result;
 	}
 
@@ -84,7 +108,8 @@ public class In<T> extends PathSpecification<T> {
 		}
 		In<?> in = (In<?>) o;
 		return Arrays.equals(allowedValues, in.allowedValues) &&
-				Objects.equals(converter, in.converter);
+				Objects.equals(converter, in.converter) &&
+				Objects.equals(inListStrategy, in.inListStrategy);
 	}
 
 	@Override
@@ -92,6 +117,7 @@ public class In<T> extends PathSpecification<T> {
 		return "In[" +
 				"allowedValues=" + Arrays.toString(allowedValues) +
 				", converter=" + converter +
+				", inListStrategy=" + inListStrategy +
 				", path='" + path + '\'' +
 				']';
 	}
@@ -37,7 +37,7 @@ import java.util.Objects;
  *
  * @author cschierle
  */
-public class InIgnoreCase<T> extends PathSpecification<T> implements IgnoreCaseStrategyAware, LocaleAware {
+public class InIgnoreCase<T> extends PathSpecification<T> implements IgnoreCaseStrategyAware, LocaleAware, InListStrategyAware {
 
     private static final long serialVersionUID = 1L;
 
@@ -45,6 +45,7 @@ public class InIgnoreCase<T> extends PathSpecification<T> implements IgnoreCaseS
     protected Converter converter;
     protected IgnoreCaseStrategy ignoreCaseStrategy;
     protected Locale locale;
+    protected InListStrategy inListStrategy = InListStrategy.PLAIN;
 
     public InIgnoreCase(QueryContext queryContext, String path, String[] httpParamValues, Converter converter) {
         super(queryContext, path);
@@ -68,18 +69,16 @@ public class InIgnoreCase<T> extends PathSpecification<T> implements IgnoreCaseS
                     ignoreCaseStrategy,
                     locale
             );
-            var inExpression = cb.in(converted.column());
-            converted.values().forEach(inExpression::value);
-            return inExpression;
+            return inListStrategy.in(converted.column(), converted.values(), cb);
         }
-        return path.in(converter.convert(Arrays.asList(allowedValues), typeOnPath, true));
+        return inListStrategy.in(path, converter.convert(Arrays.asList(allowedValues), typeOnPath, true), cb);
     }
 
     @Override
     public int hashCode() {
         final int prime = 31;
         int result = super.hashCode();
-        result = prime * result + Objects.hash(Arrays.hashCode(allowedValues), converter, ignoreCaseStrategy, locale);
+        result = prime * result + Objects.hash(Arrays.hashCode(allowedValues), converter, ignoreCaseStrategy, locale, inListStrategy);
         return result;
     }
 
@@ -98,7 +97,8 @@ public class InIgnoreCase<T> extends PathSpecification<T> implements IgnoreCaseS
         return Arrays.equals(allowedValues, other.allowedValues) &&
                 Objects.equals(converter, other.converter) &&
                 Objects.equals(ignoreCaseStrategy, other.ignoreCaseStrategy) &&
-                Objects.equals(locale, other.locale);
+                Objects.equals(locale, other.locale) &&
+                Objects.equals(inListStrategy, other.inListStrategy);
     }
 
     @Override
@@ -109,6 +109,7 @@ public class InIgnoreCase<T> extends PathSpecification<T> implements IgnoreCaseS
                 ", path='" + path + '\'' +
                 ", ignoreCaseStrategy=" + ignoreCaseStrategy +
                 ", locale=" + locale +
+                ", inListStrategy=" + inListStrategy +
                 ']';
     }
 
@@ -121,4 +122,9 @@ public class InIgnoreCase<T> extends PathSpecification<T> implements IgnoreCaseS
     public void setLocale(Locale locale) {
         this.locale = locale;
     }
+
+    @Override
+    public void setInListStrategy(InListStrategy inListStrategy) {
+        this.inListStrategy = inListStrategy;
+    }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+
+/**
+ * <p>Strategy of rendering the {@code in} predicate of {@link In}, {@link NotIn}, {@link InIgnoreCase} and {@link NotInIgnoreCase}.
+ * It makes a difference for very long lists of values, e.g. some databases limit the number of elements of an {@code in} list
+ * (e.g. 1000 in Oracle) and each length of the list produces a different SQL statement.</p>
+ *
+ * <p>Built-in strategies:</p>
+ * <ul>
+ *     <li>{@link #PLAIN} -- a single {@code in} list (default),</li>
+ *     <li>{@link #partitioned(int)} -- {@code in} lists of limited size joined with {@code or},</li>
+ *     <li>{@link #ARRAY_PARAMETER} -- all values bound as a single array parameter,</li>
+ *     <li>{@link #threshold(int, InListStrategy, InListStrategy)} -- chooses one of two strategies depending on the number of values,</li>
+ *     <li>{@link #padded(InListStrategy)} -- de-duplicates, sorts and pads the values before passing them to another strategy.</li>
+ * </ul>
+ *
+ * <p>Custom strategies should be serializable and implement {@code equals} and {@code hashCode}
+ * (as they are compared as a part of the specification).</p>
+ *
+ * @see InListStrategyAware
+ */
+public interface InListStrategy extends Serializable {
+
+	/**
+	 * {@code path in (?, ?, ...)}
+	 */
+	InListStrategy PLAIN = new Plain();
+
+	/**
+	 * {@code array_contains(?, path)} with all the values bound as a single array parameter, so that the SQL statement
+	 * does not depend on the number of values. It is rendered by Hibernate according to the dialect, e.g. as {@code path = any(?)}
+	 * in PostgreSQL or {@code array_contains(?, path)} in H2. The database has to support arrays.
+	 * Providers other than Hibernate may render the array as a literal (as JPA Criteria API has no way to bind a value within a specification).
+	 * <p>
+	 * Falls back to {@link #PLAIN} if the values cannot be bound as an array of the type of the expression
+	 * (e.g. values converted by the database in {@link InIgnoreCase}).
+	 */
+	InListStrategy ARRAY_PARAMETER = new ArrayParameter();
+
+	/**
+	 * @param expression the expression to match (e.g. the path)
+	 * @param values values (or expressions) to match against
+	 */
+	Predicate in(Expression<?> expression, List<?> values, CriteriaBuilder cb);
+
+	/**
+	 * {@code (path in (?, ?, ...) or path in (?, ?, ...) or ...)} with at most {@code maxPartitionSize} values in each {@code in} list
+	 */
+	static InListStrategy partitioned(int maxPartitionSize) {
+		return new Partitioned(maxPartitionSize);
+	}
+
+	/**
+	 * Uses {@code upToThreshold} strategy if the number of values does not exceed the threshold, and {@code aboveThreshold} otherwise.
+	 * E.g. {@code threshold(100, PLAIN, ARRAY_PARAMETER)}.
+	 */
+	static InListStrategy threshold(int threshold, InListStrategy upToThreshold, InListStrategy aboveThreshold) {
+		return new Threshold(threshold, upToThreshold, aboveThreshold);
+	}
+
+	/**
+	 * De-duplicates and sorts the values (if they are comparable and of the same type), then pads the list to the next power of two
+	 * by repeating the last value and passes it to the {@code delegate} strategy. It does not change the result, but only a few
+	 * SQL statements are produced for all the lengths of the list (e.g. lists of 5 to 8 values produce the same statement),
+	 * so the statement and plan caches can be reused.
+	 * <p>
+	 * Unlike {@code hibernate.query.in_clause_parameter_padding}, it also removes duplicated values (e.g. {@code ?id=1&id=1})
+	 * and can be applied to selected specifications only (see {@link InListStrategyAware#setInListStrategy(InListStrategy)}).
+	 */
+	static InListStrategy padded(InListStrategy delegate) {
+		return new Padded(delegate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Predicate plainIn(Expression<?> expression, List<?> values, CriteriaBuilder cb) {
+		CriteriaBuilder.In<Object> in = cb.in((Expression<Object>) expression);
+		for (Object value : values) {
+			if (value instanceof Expression) {
+				in.value((Expression<?>) value);
+			} else {
+				in.value(CriteriaValues.bound(cb, value));
+			}
+		}
+		return in;
+	}
+
+	record Plain() implements InListStrategy {
+
+		@Override
+		public Predicate in(Expression<?> expression, List<?> values, CriteriaBuilder cb) {
+			return plainIn(expression, values, cb);
+		}
+	}
+
+	record Partitioned(int maxPartitionSize) implements InListStrategy {
+
+		public Partitioned {
+			if (maxPartitionSize < 1) {
+				throw new IllegalArgumentException("Max partition size must be positive, but was " + maxPartitionSize);
+			}
+		}
+
+		@Override
+		public Predicate in(Expression<?> expression, List<?> values, CriteriaBuilder cb) {
+			if (values.size() <= maxPartitionSize) {
+				return plainIn(expression, values, cb);
+			}
+			List<Predicate> partitions = new ArrayList<>();
+			for (int from = 0; from < values.size(); from += maxPartitionSize) {
+				partitions.add(plainIn(expression, values.subList(from, Math.min(from + maxPartitionSize, values.size())), cb));
+			}
+			return cb.or(partitions.toArray(new Predicate[0]));
+		}
+	}
+
+	record ArrayParameter() implements InListStrategy {
+
+		@Override
+		public Predicate in(Expression<?> expression, List<?> values, CriteriaBuilder cb) {
+			Class<?> elementType = expression.getJavaType() != null ? ClassUtils.resolvePrimitiveIfNecessary(expression.getJavaType()) : null;
+			if (values.isEmpty() || elementType == null || elementType == Object.class) {
+				return plainIn(expression, values, cb);
+			}
+			Object array = Array.newInstance(elementType, values.size());
+			for (int i = 0; i < values.size(); i++) {
+				Object element = toElementType(values.get(i), elementType);
+				if (element == null) {
+					return plainIn(expression, values, cb); // e.g. null, expression or value of other type
+				}
+				Array.set(array, i, element);
+			}
+			return cb.isTrue(cb.function("array_contains", Boolean.class, CriteriaValues.bound(cb, array), expression));
+		}
+
+		private static Object toElementType(Object value, Class<?> elementType) {
+			if (elementType.isInstance(value)) {
+				return value;
+			}
+			if (value instanceof Number number && Number.class.isAssignableFrom(elementType)) {
+				// e.g. Long produced by the converter for an Integer attribute (a plain in list would be coerced by JPA provider)
+				try {
+					return NumberUtils.convertNumberToTargetClass(number, elementType.asSubclass(Number.class));
+				} catch (IllegalArgumentException e) {
+					return null;
+				}
+			}
+			return null;
+		}
+	}
+
+	record Threshold(int threshold, InListStrategy upToThreshold, InListStrategy aboveThreshold) implements InListStrategy {
+
+		public Threshold {
+			if (upToThreshold == null || aboveThreshold == null) {
+				throw new IllegalArgumentException("Both strategies must be provided");
+			}
+		}
+
+		@Override
+		public Predicate in(Expression<?> expression, List<?> values, CriteriaBuilder cb) {
+			return values.size() <= threshold ?
+					upToThreshold.in(expression, values, cb) :
+					aboveThreshold.in(expression, values, cb);
+		}
+	}
+
+	record Padded(InListStrategy delegate) implements InListStrategy {
+
+		public Padded {
+			if (delegate == null) {
+				throw new IllegalArgumentException("Delegate strategy must be provided");
+			}
+		}
+
+		@Override
+		public Predicate in(Expression<?> expression, List<?> values, CriteriaBuilder cb) {
+			return delegate.in(expression, canonicalize(values), cb);
+		}
+
+		static List<Object> canonicalize(List<?> values) {
+			List<Object> canonical = new ArrayList<>(new LinkedHashSet<>(values));
+			if (isSortable(canonical)) {
+				canonical.sort(null);
+			}
+			int paddedSize = canonical.isEmpty() ? 0 : Integer.highestOneBit(canonical.size() - 1) << 1;
+			Object last = canonical.isEmpty() ? null : canonical.get(canonical.size() - 1);
+			while (canonical.size() < paddedSize) {
+				canonical.add(last);
+			}
+			return canonical;
+		}
+
+		private static boolean isSortable(List<Object> values) {
+			Class<?> type = null;
+			for (Object value : values) {
+				if (!(value instanceof Comparable) || (type != null && value.getClass() != type)) {
+					return false; // e.g. null, expression or values of different types
+				}
+				type = value.getClass();
+			}
+			return true;
+		}
+	}
+}
@@ -39,23 +39,42 @@ public class Join<T> implements Specification<T>, Fake {
 	private JoinType joinType;
 	private QueryContext queryContext;
 	private boolean distinctQuery;
+	private JoinStrategy strategy;
+	private DistinctStrategy distinctStrategy;
 
 
 	public Join(QueryContext queryContext, String pathToJoinOn, String alias, JoinType joinType, boolean distinctQuery) {
+		this(queryContext, pathToJoinOn, alias, joinType, distinctQuery, JoinStrategy.JOIN);
+	}
+
+	public Join(QueryContext queryContext, String pathToJoinOn, String alias, JoinType joinType, boolean distinctQuery, JoinStrategy strategy) {
+		this(queryContext, pathToJoinOn, alias, joinType, distinctQuery, strategy, DistinctStrategy.SQL);
+	}
+
+	public Join(QueryContext queryContext, String pathToJoinOn, String alias, JoinType joinType, boolean distinctQuery, JoinStrategy strategy,
+			DistinctStrategy distinctStrategy) {
 		this.pathToJoinOn = pathToJoinOn;
 		this.alias = alias;
 		this.joinType = joinType;
 		this.queryContext = queryContext;
 		this.distinctQuery = distinctQuery;
+		this.strategy = strategy;
+		this.distinctStrategy = distinctStrategy;
 	}
 
 	@Override
 	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
 		if (!pathToJoinContainsAlias(pathToJoinOn)) {
 			if (!queryContext.existsJoin(alias, root)) {
-				putValToQueryContext(alias, root, (r) -> {
-					query.distinct(distinctQuery);
-					return r.join(pathToJoinOn, joinType);
+				putValToQueryContext(alias, pathToJoinOn, root, (r) -> {
+					if (isEvaluatedAsSemiJoin(root)) {
+						// semi-join: the subquery requires a related row, and the main query is not multiplied, so no distinct is needed
+						return JoinPlanner.join(existsSubqueryRoot(root, query, builder), pathToJoinOn, JoinType.INNER);
+					}
+					if (affectsNumberOfRows(root, query, pathToJoinOn)) {
+						applyDistinct(root, query);
+					}
+					return JoinPlanner.join(r, pathToJoinOn, effectiveJoinType(root));
 				});
 			}
 		} else {
@@ -71,35 +90,148 @@ public class Join<T> implements Specification<T>, Fake {
 			}
 
 			String extractedPathToJoin = pathToJoinOnSplittedByDot[1];
+			String extractedAliasPath = queryContext.getJoinPath(extractedAlias);
+			String pathFromRoot = extractedAliasPath != null ? extractedAliasPath + "." + extractedPathToJoin : null;
 			putValToQueryContext(
 					alias,
+					pathFromRoot,
 					root,
 					(r) -> {
-						query.distinct(distinctQuery);
 						jakarta.persistence.criteria.Join<?, ?> evaluated = queryContext.getEvaluated(extractedAlias, root);
-						return evaluated.join(extractedPathToJoin, joinType);
+						if (!isJoinedWithinExistsSubquery(evaluated, root) && affectsNumberOfRows(root, query, pathFromRoot)) {
+							applyDistinct(root, query);
+						}
+						return JoinPlanner.join(evaluated, extractedPathToJoin, effectiveJoinType(root));
 					}
 			);
 		}
 		return null;
 	}
 
-	private void putValToQueryContext(String alias, Root<T> root, Function<Root<?>, jakarta.persistence.criteria.Join<?, ?>> lazyVal) {
+	private void applyDistinct(Root<T> root, CriteriaQuery<?> query) {
+		if (distinctQuery) {
+			JoinPlanner.distinct(query, root, distinctStrategy, false);
+		} else {
+			query.distinct(false);
+		}
+	}
+
+	private boolean affectsNumberOfRows(Root<T> root, CriteriaQuery<?> query, String pathFromRoot) {
+		// a join on a to-one association cannot affect the count, so distinct is not needed in a count query
+		// (data queries are left as they are, as the distinct is a part of the public contract of the join)
+		return !JoinPlanner.isCountQuery(query) || !JoinPlanner.isSingularAssociation(root, pathFromRoot);
+	}
+
+	private void putValToQueryContext(String alias, String pathFromRoot, Root<T> root, Function<Root<?>, jakarta.persistence.criteria.Join<?, ?>> lazyVal) {
 		// generally we want to evaluate join lazily
 		// because most typical scenario tends to be a LEFT join with distinct = true
 		// and in such scenario if there is no filtering on the joined part (e.g. no related http param was sent)
 		// then we can optimize behaviour by not joining at all
 		queryContext.putLazyVal(Alias.of(alias, root), lazyVal);
+		if (pathFromRoot != null) {
+			queryContext.putJoinPath(alias, pathFromRoot);
+		}
 		// but inner joins or non-distinct queries must have them evaluated eagerly
 		// because they affect query result even when there is no filtering applied
-		if (!distinctQuery || joinType == JoinType.INNER) {
+		// (except for left joins on to-one associations, which never change the number of rows, and for EXISTS semi-joins)
+		if (joinType == JoinType.INNER
+				|| (strategy == JoinStrategy.JOIN && !distinctQuery && !isLeftJoinOnSingularAssociation(root, pathFromRoot))) {
 			queryContext.getEvaluated(alias, root);
 		}
 	}
 
+	private boolean isLeftJoinOnSingularAssociation(Root<T> root, String pathFromRoot) {
+		return joinType == JoinType.LEFT && JoinPlanner.isSingularAssociation(root, pathFromRoot);
+	}
+
+	/**
+	 * Marks the join as an inner join or a join referenced by a null-rejecting filter
+	 * (see {@link JoinPlanner#promoteNullRejectedJoins(java.util.Collection, Root)}).
+	 */
+	void rejectNulls(Root<T> root) {
+		queryContext.putNullRejectedJoin(Alias.of(alias, root));
+	}
+
+	private JoinType effectiveJoinType(Root<T> root) {
+		// a left join filtered with a null-rejecting predicate has inner join semantics already,
+		// but an inner join is easier to optimize for the database (e.g. join reordering)
+		if (joinType == JoinType.LEFT && queryContext.isNullRejectedJoin(Alias.of(alias, root))) {
+			return JoinType.INNER;
+		}
+		return joinType;
+	}
+
+	private From<?, ?> existsSubqueryRoot(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+		Subquery<Integer> subquery = query.subquery(Integer.class);
+		From<?, ?> correlatedRoot = subquery.correlate(root);
+		subquery.select(builder.literal(1));
+		queryContext.putExistsSubquery(Alias.of(alias, root), subquery);
+		return correlatedRoot;
+	}
+
+	private boolean isJoinedWithinExistsSubquery(From<?, ?> from, Root<T> root) {
+		while (from instanceof jakarta.persistence.criteria.Join) {
+			from = ((jakarta.persistence.criteria.Join<?, ?>) from).getParent();
+		}
+		return from != root; // the correlated root of the subquery
+	}
+
+	/**
+	 * A join may be evaluated as a semi-join if it uses {@link JoinStrategy#EXISTS} or if it is an inner (or promoted) join
+	 * on a collection in a distinct count query. The final decision is made by the conjunction declaring the join
+	 * (see {@link JoinPlanner#planSemiJoins}).
+	 */
+	boolean mayBeEvaluatedAsSemiJoin(Root<T> root, CriteriaQuery<?> query) {
+		if (strategy == JoinStrategy.EXISTS) {
+			return true;
+		}
+		// in a distinct count query an inner (or promoted) join on a collection is replaced with an EXISTS subquery,
+		// so that neither the rows are multiplied nor count(distinct ...) is needed
+		return distinctQuery && JoinPlanner.isCountQuery(query)
+				&& queryContext.isNullRejectedJoin(Alias.of(alias, root))
+				&& !JoinPlanner.isSingularAssociation(root, pathToJoinOn);
+	}
+
+	void evaluateAsSemiJoin(Root<T> root) {
+		queryContext.putSemiJoin(Alias.of(alias, root));
+	}
+
+	boolean isEvaluatedAsSemiJoin(Root<T> root) {
+		return queryContext.isSemiJoin(Alias.of(alias, root));
+	}
+
+	/**
+	 * Puts given filter into the correlated subquery of the join (evaluated as a semi-join) and returns {@code exists} predicate for it.
+	 *
+	 * @param filter predicate of the specs referring to the join, or {@code null} if there are none
+	 * @return {@code exists} predicate or {@code null} if the join has not been evaluated (e.g. an unreferenced left join)
+	 */
+	Predicate exists(Predicate filter, Root<T> root, CriteriaBuilder builder) {
+		Subquery<?> subquery = queryContext.getExistsSubquery(Alias.of(alias, root));
+		if (subquery == null) {
+			return null;
+		}
+		if (filter != null) {
+			subquery.where(filter);
+		}
+		return builder.exists(subquery);
+	}
+
+	JoinType getJoinType() {
+		return joinType;
+	}
+
+	String getPathToJoinOn() {
+		return pathToJoinOn;
+	}
+
+	String getAlias() {
+		return alias;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(alias, distinctQuery, joinType, pathToJoinOn, queryContext);
+		return Objects.hash(alias, distinctQuery, joinType, pathToJoinOn, queryContext, strategy, distinctStrategy);
 	}
 
 	@Override
@@ -115,12 +247,13 @@ public class Join<T> implements Specification<T>, Fake {
 		}
 		Join other = (Join) obj;
 		return Objects.equals(alias, other.alias) && distinctQuery == other.distinctQuery && joinType == other.joinType
-				&& Objects.equals(pathToJoinOn, other.pathToJoinOn) && Objects.equals(queryContext, other.queryContext);
+				&& Objects.equals(pathToJoinOn, other.pathToJoinOn) && Objects.equals(queryContext, other.queryContext)
+				&& strategy == other.strategy && distinctStrategy == other.distinctStrategy;
 	}
 
 	@Override
 	public String toString() {
 		return "Join [pathToJoinOn=" + pathToJoinOn + ", alias=" + alias + ", joinType=" + joinType + ", queryContext=" + queryContext
-				+ ", distinctQuery=" + distinctQuery + "]";
+				+ ", distinctQuery=" + distinctQuery + ", strategy=" + strategy + ", distinctStrategy=" + distinctStrategy + "]";
 	}
 }
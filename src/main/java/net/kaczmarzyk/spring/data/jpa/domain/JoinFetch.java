@@ -18,6 +18,7 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinContainsAlias;
 import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinSplittedByDot;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -32,6 +33,7 @@ import jakarta.persistence.criteria.Root;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
+import net.kaczmarzyk.spring.data.jpa.utils.FetchGraph;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 
@@ -52,6 +54,8 @@ public class JoinFetch<T> implements Specification<T>, Fake {
 	private String alias;
 	private JoinType joinType;
 	private boolean distinct;
+	private JoinFetchStrategy strategy;
+	private DistinctStrategy distinctStrategy;
 
 
 	public JoinFetch(QueryContext queryContext, String[] pathsToFetch, JoinType joinType, boolean distinct) {
@@ -59,11 +63,22 @@ public class JoinFetch<T> implements Specification<T>, Fake {
 	}
 
 	public JoinFetch(QueryContext queryContext, String[] pathsToFetch, String alias, JoinType joinType, boolean distinct) {
+		this(queryContext, pathsToFetch, alias, joinType, distinct, JoinFetchStrategy.JOIN);
+	}
+
+	public JoinFetch(QueryContext queryContext, String[] pathsToFetch, String alias, JoinType joinType, boolean distinct, JoinFetchStrategy strategy) {
+		this(queryContext, pathsToFetch, alias, joinType, distinct, strategy, DistinctStrategy.SQL);
+	}
+
+	public JoinFetch(QueryContext queryContext, String[] pathsToFetch, String alias, JoinType joinType, boolean distinct, JoinFetchStrategy strategy,
+			DistinctStrategy distinctStrategy) {
 		this.context = queryContext;
 		this.pathsToFetch = Arrays.asList(pathsToFetch);
 		this.alias = alias;
 		this.joinType = joinType;
 		this.distinct = distinct;
+		this.strategy = strategy;
+		this.distinctStrategy = distinctStrategy;
 
 		if (!alias.isEmpty() && pathsToFetch.length != 1) {
 			throw new IllegalArgumentException(
@@ -75,8 +90,16 @@ public class JoinFetch<T> implements Specification<T>, Fake {
 
 	@Override
 	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
-		query.distinct(distinct);
-		if (!Number.class.isAssignableFrom(query.getResultType())) { // if it's not a count query, then just execute the fetch
+		if (JoinPlanner.mayFetch(query, root) && strategy != JoinFetchStrategy.JOIN && addToFetchGraph()) {
+			// the paths are loaded by the entity graph, so the query needs only the join used for filtering (if any)
+			return joinForFiltering(root, query, cb);
+		}
+		if (JoinPlanner.mayFetch(query, root)) { // if it's not a count query (or other query not selecting the root), then just execute the fetch
+			if (distinct) {
+				JoinPlanner.distinct(query, root, distinctStrategy, true);
+			} else {
+				query.distinct(false);
+			}
 			if (pathsToFetch.size() == 1) {
 				String pathToFetch = pathsToFetch.get(0);
 				if (pathToJoinContainsAlias(pathToFetch)) {
@@ -84,7 +107,7 @@ public class JoinFetch<T> implements Specification<T>, Fake {
 					String alias = pathToJoinFetchOnSplittedByDot[0];
 					String path = pathToJoinFetchOnSplittedByDot[1];
 
-					Fetch<?, ?> evaluatedJoinFetchForGivenAlias = context.getEvaluatedJoinFetch(alias);
+					Fetch<?, ?> evaluatedJoinFetchForGivenAlias = context.getEvaluatedJoinFetch(alias, root);
 
 					if(evaluatedJoinFetchForGivenAlias == null) {
 						throw new IllegalArgumentException(
@@ -95,35 +118,75 @@ public class JoinFetch<T> implements Specification<T>, Fake {
 
 					Fetch<?,?> joinFetch = evaluatedJoinFetchForGivenAlias.fetch(path, joinType);
 					if (StringUtils.isNotBlank(this.alias)) {
-						context.putEvaluatedJoinFetch(this.alias, joinFetch);
+						context.putEvaluatedJoinFetch(this.alias, root, joinFetch);
 					}
 				} else {
 					Fetch<Object, Object> evaluated = root.fetch(pathToFetch, joinType);
-					context.putEvaluatedJoinFetch(alias, evaluated);
+					context.putEvaluatedJoinFetch(alias, root, evaluated);
 				}
 			} else {
 				for (String path : pathsToFetch) {
 					root.fetch(path, joinType);
 				}
 			}
-		} else { // count query -- join fetch can be skipped unless it is used not only for fetching but for filtering as well
-			if (!alias.isEmpty()) { // assumption: presence of a non-empty alias means that join fetch is used for filtering as well
-									//  unfortunately, Hibernate disallows adding join fetches to count queries 
-									//  (or more specifcally, does not allow fetching if fetch-root is not present in the query result)
-									//  so we need to convert the join fetch into a regular join.
-									//  In case that an alias exist, but is not used, then join won't be applied (as joins are lazily evaluated by the lib)
-									//  so theoretically we could skip this if and let Join logic just work, but keeping it can hopefully reduce potential for hard-to-debug errors
-				
-				String pathToJoin = pathsToFetch.iterator().next(); // see the constructor, if alias is used, then pathsToFetch must have size 1
-				
-				Join<T> regularJoin = new Join<T>(context, pathToJoin, alias, joinType, distinct);
-				
-				return regularJoin.toPredicate(root, query, cb);				
-			}
+		} else { // count query (or e.g. query of ids) -- join fetch can be skipped unless it is used not only for fetching but for filtering as well
+			return joinForFiltering(root, query, cb);
+		}
+		return null;
+	}
+
+	private Predicate joinForFiltering(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		if (!alias.isEmpty()) { // assumption: presence of a non-empty alias means that join fetch is used for filtering as well
+								//  unfortunately, Hibernate disallows adding join fetches to count queries 
+								//  (or more specifcally, does not allow fetching if fetch-root is not present in the query result)
+								//  so we need to convert the join fetch into a regular join.
+								//  In case that an alias exist, but is not used, then join won't be applied (as joins are lazily evaluated by the lib)
+								//  so theoretically we could skip this if and let Join logic just work, but keeping it can hopefully reduce potential for hard-to-debug errors
+			
+			String pathToJoin = pathsToFetch.iterator().next(); // see the constructor, if alias is used, then pathsToFetch must have size 1
+			
+			Join<T> regularJoin = new Join<T>(context, pathToJoin, alias, joinType, distinct, JoinStrategy.JOIN, distinctStrategy);
+			
+			return regularJoin.toPredicate(root, query, cb);				
 		}
 		return null;
 	}
 
+	/**
+	 * Adds the paths (with aliases resolved) to the entity graph collected for the query (see {@link FetchGraph}).
+	 *
+	 * @return {@code false} if the graph is not collected or an alias cannot be resolved (e.g. it belongs to a fetch join),
+	 * so the paths have to be fetched with fetch joins
+	 */
+	private boolean addToFetchGraph() {
+		if (!FetchGraph.isCollecting()) {
+			return false;
+		}
+		List<String> pathsFromRoot = new ArrayList<>();
+		for (String path : pathsToFetch) {
+			if (pathToJoinContainsAlias(path)) {
+				String[] pathSplittedByDot = pathToJoinSplittedByDot(path);
+				String aliasPath = context.getJoinPath(pathSplittedByDot[0]);
+				if (aliasPath == null) {
+					return false;
+				}
+				pathsFromRoot.add(aliasPath + "." + pathSplittedByDot[1]);
+			} else {
+				pathsFromRoot.add(path);
+			}
+		}
+		pathsFromRoot.forEach(path -> FetchGraph.add(path, strategy == JoinFetchStrategy.FETCH_GRAPH));
+		return true;
+	}
+
+	List<String> getPathsToFetch() {
+		return pathsToFetch;
+	}
+
+	String getAlias() {
+		return alias;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
@@ -134,6 +197,8 @@ public class JoinFetch<T> implements Specification<T>, Fake {
 		}
 		JoinFetch<?> joinFetch = (JoinFetch<?>) o;
 		return distinct == joinFetch.distinct &&
+				strategy == joinFetch.strategy &&
+				distinctStrategy == joinFetch.distinctStrategy &&
 				Objects.equals(context, joinFetch.context) &&
 				Objects.equals(pathsToFetch, joinFetch.pathsToFetch) &&
 				Objects.equals(alias, joinFetch.alias) &&
@@ -142,7 +207,7 @@ public class JoinFetch<T> implements Specification<T>, Fake {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(context, pathsToFetch, alias, joinType, distinct);
+		return Objects.hash(context, pathsToFetch, alias, joinType, distinct, strategy, distinctStrategy);
 	}
 
 	@Override
@@ -150,6 +215,8 @@ public class JoinFetch<T> implements Specification<T>, Fake {
 		return "JoinFetch[" +
 				"pathsToFetch=" + pathsToFetch +
 				", joinType=" + joinType +
+				", strategy=" + strategy +
+				", distinctStrategy=" + distinctStrategy +
 				']';
 	}
 }
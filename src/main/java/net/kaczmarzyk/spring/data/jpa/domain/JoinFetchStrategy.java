@@ -0,0 +1,45 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+/**
+ * Defines how a {@link JoinFetch} loads the associations.
+ */
+public enum JoinFetchStrategy {
+
+	/**
+	 * Adds fetch joins to the criteria query, e.g. {@code select distinct c from Customer c left join fetch c.orders}.
+	 * Strategy used by default.
+	 */
+	JOIN,
+
+	/**
+	 * Adds the paths to a JPA entity graph applied as a load graph ({@code jakarta.persistence.loadgraph} hint), i.e. the attributes
+	 * which are not in the graph are loaded according to their mappings. The criteria query is not modified
+	 * (except for the joins needed by filters referring to the alias), so it does not have to be distinct,
+	 * and the JPA provider decides how to load the associations.
+	 * <p>
+	 * The graph is applied by the executors which build the queries themselves (such as {@code ParameterizedSpecificationExecutor}).
+	 * In other queries (e.g. executed by a Spring Data repository) the paths are fetched as with {@link #JOIN}.
+	 */
+	LOAD_GRAPH,
+
+	/**
+	 * The same as {@link #LOAD_GRAPH}, but the entity graph is applied as a fetch graph ({@code jakarta.persistence.fetchgraph} hint),
+	 * i.e. the attributes which are not in the graph are treated as lazy.
+	 */
+	FETCH_GRAPH
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import net.kaczmarzyk.spring.data.jpa.utils.FetchGraph;
+
+import static net.kaczmarzyk.spring.data.jpa.utils.JoinPathUtils.pathToJoinContainsAlias;
+
+/**
+ * <p>Plans joins declared with {@link Join} and {@link JoinFetch} specs:</p>
+ * <ul>
+ *     <li>orders the join declarations, so that a join which defines an alias is processed before the joins which refer to it
+ *     (regardless of the order of annotations),</li>
+ *     <li>reuses an existing join on the same to-one association (with the same join type, or an inner join in place of a left one),
+ *     instead of joining the same table again,</li>
+ *     <li>tells whether an unreferenced join can be skipped (see {@link #isSingularAssociation(Root, String)}),</li>
+ *     <li>promotes left joins filtered with null-rejecting predicates to inner joins
+ *     (see {@link #promoteNullRejectedJoins(Collection, Root)}),</li>
+ *     <li>decides which joins are evaluated as semi-joins within their own {@code EXISTS} subquery
+ *     (see {@link #planSemiJoins(Collection, Root, CriteriaQuery, Set)}).</li>
+ * </ul>
+ *
+ * <p>Joins on to-many associations are never merged, as two aliases for the same collection
+ * can be used intentionally (e.g. to find customers who ordered both item A and item B).</p>
+ */
+abstract class JoinPlanner {
+
+	/**
+	 * Built-in specs which are never satisfied if the value on the path is {@code null}. Exact classes are used,
+	 * as custom subclasses may handle nulls differently. Value-dependent specs ({@link Null} and {@link NotNull}) are checked separately.
+	 */
+	private static final Set<Class<?>> NULL_REJECTING_SPECS = new HashSet<>(Arrays.asList(
+			Equal.class, EqualIgnoreCase.class, NotEqual.class, NotEqualIgnoreCase.class,
+			In.class, InIgnoreCase.class, NotIn.class, NotInIgnoreCase.class,
+			Like.class, LikeIgnoreCase.class, NotLike.class, NotLikeIgnoreCase.class,
+			StartingWith.class, StartingWithIgnoreCase.class, EndingWith.class, EndingWithIgnoreCase.class,
+			GreaterThan.class, GreaterThanOrEqual.class, LessThan.class, LessThanOrEqual.class, Between.class,
+			EqualDay.class, InTheFuture.class, InThePast.class, IsTrue.class, IsFalse.class, IsNotNull.class));
+
+	/**
+	 * Stable topological sort of the specs -- the relative order is changed only if a join refers to an alias defined later.
+	 * In case of a cycle, the remaining specs are left in the original order (and the join reports a missing alias as usual).
+	 */
+	static <T> List<Specification<T>> inDependencyOrder(Collection<Specification<T>> specs) {
+		Set<String> declaredAliases = new HashSet<>();
+		for (Specification<T> spec : specs) {
+			String alias = definedAlias(spec);
+			if (alias != null) {
+				declaredAliases.add(alias);
+			}
+		}
+
+		List<Specification<T>> ordered = new ArrayList<>(specs.size());
+		List<Specification<T>> remaining = new ArrayList<>(specs);
+		Set<String> processedAliases = new HashSet<>();
+		boolean progress = true;
+		while (!remaining.isEmpty() && progress) {
+			progress = false;
+			for (Iterator<Specification<T>> it = remaining.iterator(); it.hasNext(); ) {
+				Specification<T> spec = it.next();
+				String requiredAlias = requiredAlias(spec);
+				if (requiredAlias == null || !declaredAliases.contains(requiredAlias) || processedAliases.contains(requiredAlias)) {
+					ordered.add(spec);
+					String definedAlias = definedAlias(spec);
+					if (definedAlias != null) {
+						processedAliases.add(definedAlias);
+					}
+					it.remove();
+					progress = true;
+				}
+			}
+		}
+		ordered.addAll(remaining);
+		return ordered;
+	}
+
+	/**
+	 * Marks the joins which are referenced by a null-rejecting filter of the conjunction (e.g. {@code o.itemName = ?}),
+	 * so that left joins are evaluated as inner joins (see {@link Join}). The row of nulls produced by a left join
+	 * would be rejected by the filter anyway. A join which a null-rejected join refers to (e.g. {@code o} for {@code o.tags})
+	 * is marked as well. Inner joins are marked too, which allows to evaluate them as semi-joins in count queries.
+	 *
+	 * @param specs inner specs of a conjunction which is not nested in a disjunction
+	 */
+	static <T> void promoteNullRejectedJoins(Collection<Specification<T>> specs, Root<T> root) {
+		Set<String> nullRejectedAliases = new HashSet<>();
+		for (Specification<T> spec : specs) {
+			String alias = nullRejectedAlias(spec);
+			if (alias != null) {
+				nullRejectedAliases.add(alias);
+			}
+		}
+		for (Specification<T> spec : specs) {
+			if (spec instanceof Join<T> join && join.getJoinType() == JoinType.INNER) {
+				nullRejectedAliases.add(join.getAlias());
+			}
+		}
+		if (nullRejectedAliases.isEmpty()) {
+			return;
+		}
+
+		List<Specification<T>> ordered = inDependencyOrder(specs);
+		for (int i = ordered.size() - 1; i >= 0; i--) {
+			if (ordered.get(i) instanceof Join<T> join && nullRejectedAliases.contains(join.getAlias())) {
+				join.rejectNulls(root);
+				String requiredAlias = requiredAlias(join);
+				if (requiredAlias != null) {
+					nullRejectedAliases.add(requiredAlias);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <p>Decides which joins of the conjunction are evaluated as semi-joins (see {@link Join#mayBeEvaluatedAsSemiJoin(Root, CriteriaQuery)}).
+	 * Each such join has its own correlated subquery, which contains the joins referring to its alias (e.g. {@code o.tags})
+	 * and the filters of the conjunction which refer to any of these aliases (see {@link #semiJoinsReferencedBy(Specification, Map)}).
+	 * Other filters stay in the main query.</p>
+	 *
+	 * <p>A join is evaluated as a regular join instead if:</p>
+	 * <ul>
+	 *     <li>it is a left join, and none of its filters rejects the row of nulls (e.g. {@code o.id is null}),
+	 *     as there is no such row in the subquery,</li>
+	 *     <li>a filter refers to it and to another semi-join at the same time (e.g. {@code o.itemName = ? or b.name = ?}),</li>
+	 *     <li>it is referred to by a join fetch or by a spec outside of the conjunction.</li>
+	 * </ul>
+	 *
+	 * @param specs inner specs of a conjunction
+	 * @param aliasesReferencedOutside aliases referred to by the specs outside of the conjunction
+	 * (see {@link #propagateReferencedAliases(Collection, Set, CriteriaQuery)})
+	 */
+	static <T> void planSemiJoins(Collection<Specification<T>> specs, Root<T> root, CriteriaQuery<?> query, Set<String> aliasesReferencedOutside) {
+		Map<String, Join<T>> semiJoinsByAlias = semiJoinsByAlias(specs, join -> join.mayBeEvaluatedAsSemiJoin(root, query));
+		if (semiJoinsByAlias.isEmpty()) {
+			return;
+		}
+
+		Set<Join<T>> rejected = identitySet();
+		Set<Join<T>> referenced = identitySet();
+		Set<Join<T>> nullRejected = identitySet();
+		for (Map.Entry<String, Join<T>> entry : semiJoinsByAlias.entrySet()) {
+			if (aliasesReferencedOutside.contains(entry.getKey())) {
+				rejected.add(entry.getValue());
+			}
+		}
+		for (Specification<T> spec : specs) {
+			if (spec instanceof Join<T> join && semiJoinsByAlias.containsKey(join.getAlias())) {
+				if (join.getJoinType() == JoinType.INNER) {
+					nullRejected.add(semiJoinsByAlias.get(join.getAlias()));
+				}
+				continue;
+			}
+			Set<Join<T>> semiJoins = semiJoinsReferencedBy(spec, semiJoinsByAlias);
+			if (spec instanceof Fake || semiJoins.size() > 1) {
+				rejected.addAll(semiJoins);
+			} else if (!semiJoins.isEmpty()) {
+				Join<T> semiJoin = semiJoins.iterator().next();
+				referenced.add(semiJoin);
+				String alias = nullRejectedAlias(spec);
+				if (alias != null && semiJoinsByAlias.get(alias) == semiJoin) {
+					nullRejected.add(semiJoin);
+				}
+			}
+		}
+
+		for (Join<T> join : new LinkedHashSet<>(semiJoinsByAlias.values())) {
+			if (!rejected.contains(join) && (nullRejected.contains(join) || !referenced.contains(join))) {
+				join.evaluateAsSemiJoin(root);
+			}
+		}
+	}
+
+	/**
+	 * @return joins matching given condition (and not referring to another alias), by their alias and by the aliases of the joins
+	 * which refer to them, e.g. {@code o -> Join(orders o)} and {@code t -> Join(orders o)} for {@code Join(o.tags t)}
+	 */
+	static <T> Map<String, Join<T>> semiJoinsByAlias(Collection<Specification<T>> specs, Predicate<Join<T>> isSemiJoin) {
+		Map<String, Join<T>> semiJoinsByAlias = new LinkedHashMap<>();
+		for (Specification<T> spec : inDependencyOrder(specs)) {
+			if (spec instanceof Join<T> join) {
+				String requiredAlias = requiredAlias(join);
+				if (requiredAlias == null && isSemiJoin.test(join)) {
+					semiJoinsByAlias.put(join.getAlias(), join);
+				} else if (requiredAlias != null && semiJoinsByAlias.containsKey(requiredAlias)) {
+					semiJoinsByAlias.put(join.getAlias(), semiJoinsByAlias.get(requiredAlias));
+				}
+			}
+		}
+		return semiJoinsByAlias;
+	}
+
+	/**
+	 * @return semi-joins which the spec refers to, including the nested specs (e.g. of a {@link Disjunction})
+	 */
+	static <T> Set<Join<T>> semiJoinsReferencedBy(Specification<T> spec, Map<String, Join<T>> semiJoinsByAlias) {
+		Set<String> aliases = new HashSet<>();
+		collectReferencedAliases(spec, aliases);
+		Set<Join<T>> semiJoins = identitySet();
+		for (String alias : aliases) {
+			Join<T> semiJoin = semiJoinsByAlias.get(alias);
+			if (semiJoin != null) {
+				semiJoins.add(semiJoin);
+			}
+		}
+		return semiJoins;
+	}
+
+	/**
+	 * Tells each conjunction nested in the specs (directly or in a {@link Disjunction}) which aliases are referred to outside of it,
+	 * so that it does not evaluate the joins on these aliases as semi-joins (see {@link #planSemiJoins(Collection, Root, CriteriaQuery, Set)}).
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> void propagateReferencedAliases(Collection<Specification<T>> specs, Set<String> aliasesReferencedOutside, CriteriaQuery<?> query) {
+		List<Specification<T>> specList = new ArrayList<>(specs);
+		for (int i = 0; i < specList.size(); i++) {
+			Specification<T> spec = specList.get(i);
+			if (!(spec instanceof Conjunction) && !(spec instanceof Disjunction)) {
+				continue;
+			}
+			Set<String> aliases = new HashSet<>(aliasesReferencedOutside);
+			for (int j = 0; j < specList.size(); j++) {
+				if (j != i) {
+					collectReferencedAliases(specList.get(j), aliases);
+				}
+			}
+			if (spec instanceof Conjunction) {
+				((Conjunction<T>) spec).referencedOutside(query, aliases);
+			} else {
+				propagateReferencedAliases(((Disjunction<T>) spec).getInnerSpecs(), aliases, query);
+			}
+		}
+	}
+
+	/**
+	 * @return existing join on the same to-one association with the same join type (if any) or a new join otherwise.
+	 * A left join can also reuse an inner join, which already removed the rows without the associated entity.
+	 */
+	static jakarta.persistence.criteria.Join<?, ?> join(From<?, ?> from, String attributeName, JoinType joinType) {
+		for (jakarta.persistence.criteria.Join<?, ?> existing : from.getJoins()) {
+			if (isReusable(existing, attributeName, joinType) && !from.getFetches().contains(existing)) {
+				return existing;
+			}
+		}
+		return from.join(attributeName, joinType);
+	}
+
+	/**
+	 * @return whether the query is a count query, e.g. the one executed by Spring Data to get the total number of elements of a page
+	 */
+	static boolean isCountQuery(CriteriaQuery<?> query) {
+		return Number.class.isAssignableFrom(query.getResultType());
+	}
+
+	/**
+	 * @return whether the query may select the root entity, so that associations can be fetched. The owner of a fetched association
+	 * must be present in the select list, so e.g. a count query or a query of ids (such as the first phase of a paged query
+	 * with a collection fetch in {@code ParameterizedSpecificationExecutor}) cannot have fetches
+	 */
+	static boolean mayFetch(CriteriaQuery<?> query, Root<?> root) {
+		return !isCountQuery(query) && query.getResultType().isAssignableFrom(root.getJavaType());
+	}
+
+	/**
+	 * Makes the query distinct according to given strategy (see {@link DistinctStrategy}).
+	 *
+	 * @param fetch whether the rows are multiplied by a fetch join (rather than by a join used for filtering)
+	 */
+	static void distinct(CriteriaQuery<?> query, Root<?> root, DistinctStrategy strategy, boolean fetch) {
+		boolean inMemory = mayFetch(query, root) && strategy == DistinctStrategy.AUTO && (fetch || FetchGraph.isCollecting());
+		if (inMemory) {
+			FetchGraph.deduplicateInMemory();
+		} else {
+			query.distinct(true);
+		}
+	}
+
+	/**
+	 * A left join on a to-one association does not affect the number of rows in the result,
+	 * so it can be skipped if it is not referenced by any predicate (even if the query is not distinct).
+	 *
+	 * @param pathFromRoot joined path with all aliases resolved, e.g. {@code orders.note}
+	 */
+	static boolean isSingularAssociation(Root<?> root, String pathFromRoot) {
+		if (pathFromRoot == null) {
+			return false;
+		}
+		Attribute<?, ?> attribute = MetamodelPaths.attributeOnPath(root.getModel(), pathFromRoot);
+		return attribute != null && !attribute.isCollection();
+	}
+
+	private static boolean isReusable(jakarta.persistence.criteria.Join<?, ?> existing, String attributeName, JoinType joinType) {
+		Attribute<?, ?> attribute = existing.getAttribute();
+		return attribute != null && !attribute.isCollection()
+				&& attribute.getName().equals(attributeName)
+				&& (existing.getJoinType() == joinType || (joinType == JoinType.LEFT && existing.getJoinType() == JoinType.INNER))
+				&& existing.getOn() == null; // join with custom conditions is not equivalent
+	}
+
+	private static String nullRejectedAlias(Specification<?> spec) {
+		if (spec != null && spec.getClass() == EmptyResultOnTypeMismatch.class) {
+			// in case of a type mismatch the wrapper rejects all the rows
+			spec = ((EmptyResultOnTypeMismatch<?>) spec).getWrappedSpec();
+		}
+		if (!(spec instanceof PathSpecification<?> pathSpec) || pathSpec.path == null || !pathSpec.path.contains(".")) {
+			return null;
+		}
+		if (!NULL_REJECTING_SPECS.contains(spec.getClass()) && !isNotNullCheck(spec)) { // the path is checked first, as it requires conversion of the value
+			return null;
+		}
+		return pathSpec.path.substring(0, pathSpec.path.indexOf('.'));
+	}
+
+	private static boolean isNotNullCheck(Specification<?> spec) {
+		return spec.getClass() == Null.class && ((Null<?>) spec).rejectsNulls()
+				|| spec.getClass() == NotNull.class && ((NotNull<?>) spec).rejectsNulls();
+	}
+
+	private static void collectReferencedAliases(Specification<?> spec, Set<String> aliases) {
+		if (spec instanceof EmptyResultOnTypeMismatch<?> wrapper) {
+			collectReferencedAliases(wrapper.getWrappedSpec(), aliases);
+		} else if (spec instanceof Conjunction<?> conjunction) {
+			conjunction.getInnerSpecs().forEach(innerSpec -> collectReferencedAliases(innerSpec, aliases));
+		} else if (spec instanceof Disjunction<?> disjunction) {
+			disjunction.getInnerSpecs().forEach(innerSpec -> collectReferencedAliases(innerSpec, aliases));
+		} else if (spec instanceof PathSpecification<?> pathSpec) {
+			String path = pathSpec.path;
+			if (path != null && path.contains(".")) {
+				aliases.add(path.substring(0, path.indexOf('.')));
+			}
+		} else {
+			String requiredAlias = requiredAlias(spec);
+			if (requiredAlias != null) {
+				aliases.add(requiredAlias);
+			}
+		}
+	}
+
+	private static <E> Set<E> identitySet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+	private static String definedAlias(Specification<?> spec) {
+		String alias = null;
+		if (spec instanceof Join<?> join) {
+			alias = join.getAlias();
+		} else if (spec instanceof JoinFetch<?> joinFetch) {
+			alias = joinFetch.getAlias();
+		}
+		return alias == null || alias.isEmpty() ? null : alias;
+	}
+
+	private static String requiredAlias(Specification<?> spec) {
+		String path = null;
+		if (spec instanceof Join<?> join) {
+			path = join.getPathToJoinOn();
+		} else if (spec instanceof JoinFetch<?> joinFetch && joinFetch.getPathsToFetch().size() == 1) {
+			path = joinFetch.getPathsToFetch().get(0);
+		}
+		return path != null && pathToJoinContainsAlias(path) ? path.substring(0, path.indexOf('.')) : null;
+	}
+}
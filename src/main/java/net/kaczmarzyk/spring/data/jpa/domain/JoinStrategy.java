@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+/**
+ * Defines how a {@link Join} is applied to the query.
+ */
+public enum JoinStrategy {
+
+	/**
+	 * Joins the path in the main query, e.g. {@code select distinct c from Customer c left join c.orders o where o.itemName = ?}.
+	 * Strategy used by default.
+	 */
+	JOIN,
+
+	/**
+	 * Evaluates the join as a semi-join in a correlated subquery, e.g.
+	 * {@code select c from Customer c where exists (select 1 from c.orders o where o.itemName = ?)}.
+	 * Filtering on a collection-valued path does not multiply result rows then, so the query does not have to be distinct.
+	 * <p>
+	 * Each join has its own subquery, which contains the filters of the conjunction declaring the join that refer to the alias
+	 * (the other filters stay in the main query). Therefore the joined path matches only the entities which have at least one related element
+	 * (just like with an inner join) whenever the alias is used in filters. A left join whose filters accept the entities without related elements
+	 * (e.g. {@code o.id is null}) is evaluated as a regular join. The alias cannot be used for sorting.
+	 */
+	EXISTS
+}
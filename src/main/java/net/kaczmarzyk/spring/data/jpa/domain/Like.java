@@ -17,6 +17,7 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 
 import jakarta.persistence.criteria.*;
 import net.kaczmarzyk.spring.data.jpa.utils.CharEscaper;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import java.util.Arrays;
@@ -57,8 +58,17 @@ public class Like<T> extends PathSpecification<T> implements WithoutTypeConversi
 
     @Override
     public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
-        Expression<Character> escapeLiteral = escapeChar != null ? builder.literal(escapeChar) : null;
-        return builder.like(this.<String>path(root), pattern, escapeLiteral);
+        Expression<Character> escape = escapeChar != null ? CriteriaValues.bound(builder, escapeChar) : null;
+        return builder.like(this.<String>path(root), CriteriaValues.bound(builder, pattern), escape);
+    }
+
+    @Override
+    String toSql(String column, Class<?> typeOnPath, SqlPredicate.Parameters parameters) {
+        if (typeOnPath != String.class) {
+            return null;
+        }
+        String escape = escapeChar != null ? " escape '" + (escapeChar == '\'' ? "''" : escapeChar) + "'" : "";
+        return column + " like " + parameters.bind(pattern) + escape;
     }
 
     @Override
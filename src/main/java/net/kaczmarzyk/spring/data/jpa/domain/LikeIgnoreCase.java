@@ -17,6 +17,7 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 
 import jakarta.persistence.criteria.*;
 import net.kaczmarzyk.spring.data.jpa.utils.CaseConversionHelper;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import java.util.Locale;
@@ -48,8 +49,8 @@ public class LikeIgnoreCase<T> extends Like<T> implements IgnoreCaseStrategyAwar
             ignoreCaseStrategy,
             locale
         );
-		Expression<Character> escapeLiteral = escapeChar != null ? builder.literal(escapeChar) : null;
-        return builder.like(converted.column(), converted.value(), escapeLiteral);
+		Expression<Character> escape = escapeChar != null ? CriteriaValues.bound(builder, escapeChar) : null;
+        return builder.like(converted.column(), converted.value(), escape);
     }
 
     @Override
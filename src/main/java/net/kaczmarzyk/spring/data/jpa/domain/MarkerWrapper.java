@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.util.Optional;
+
+/**
+ * <p>Implemented by specifications that wrap another one, e.g. {@link WithCountCap} or {@link WithSelectedFields}.</p>
+ *
+ * <p>Marker interfaces (such as {@link ProvablyEmpty}, {@link CountCapped} or {@link FieldSelection}) may be implemented
+ * by any specification in the chain of wrappers, so they should be looked up with {@link #findMarker(Object, Class)}
+ * rather than with {@code instanceof}.</p>
+ */
+public interface MarkerWrapper {
+
+	/**
+	 * @return the wrapped specification
+	 */
+	Object getWrappedSpec();
+
+	/**
+	 * @return the first specification in the chain of wrappers (starting with the given one) that implements the marker interface
+	 */
+	static <M> Optional<M> findMarker(Object spec, Class<M> markerType) {
+		Object current = spec;
+		while (current != null) {
+			if (markerType.isInstance(current)) {
+				return Optional.of(markerType.cast(current));
+			}
+			current = current instanceof MarkerWrapper wrapper ? wrapper.getWrappedSpec() : null;
+		}
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+/**
+ * Helper for resolving paths (e.g. {@code orders.note.title}) with JPA metamodel.
+ */
+abstract class MetamodelPaths {
+
+	/**
+	 * @return the attribute at the end of the path or {@code null} if the path cannot be resolved
+	 */
+	static Attribute<?, ?> attributeOnPath(ManagedType<?> managedType, String path) {
+		if (managedType == null) {
+			return null;
+		}
+		try {
+			String[] segments = path.split("\\.");
+			for (int i = 0; i < segments.length; i++) {
+				Attribute<?, ?> attribute = managedType.getAttribute(segments[i]);
+				if (i == segments.length - 1) {
+					return attribute;
+				}
+				Type<?> nextType = attribute.isCollection() ?
+						((PluralAttribute<?, ?, ?>) attribute).getElementType() :
+						((SingularAttribute<?, ?>) attribute).getType();
+				if (!(nextType instanceof ManagedType)) {
+					return null;
+				}
+				managedType = (ManagedType<?>) nextType;
+			}
+		} catch (IllegalArgumentException e) {
+			// unknown attribute
+		}
+		return null;
+	}
+}
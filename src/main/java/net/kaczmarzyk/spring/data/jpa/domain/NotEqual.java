@@ -16,6 +16,7 @@
 package net.kaczmarzyk.spring.data.jpa.domain;
 
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -23,6 +24,7 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
 
 /**
@@ -51,7 +53,13 @@ public class NotEqual<T> extends PathSpecification<T> {
 	@Override
 	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
 		Class<?> typeOnPath = path(root).getJavaType();
-		return cb.notEqual(path(root), converter.convert(expectedValue, typeOnPath));
+		return cb.notEqual(path(root), CriteriaValues.bound(cb, converter.convert(expectedValue, typeOnPath)));
+	}
+
+	@Override
+	boolean applyTo(PathConstraint constraint, Class<?> typeOnPath) {
+		constraint.exclude(Collections.singletonList(converter.convert(expectedValue, typeOnPath)));
+		return true;
 	}
 
 	@Override
@@ -17,6 +17,7 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 
 import net.kaczmarzyk.spring.data.jpa.utils.CaseConversionHelper;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -70,7 +71,7 @@ public class NotEqualIgnoreCase<T> extends PathSpecification<T> implements Ignor
 		}
 
 		Class<?> typeOnPath = path(root).getJavaType();
-		return cb.notEqual(path(root), converter.convert(expectedValue, typeOnPath, true));
+		return cb.notEqual(path(root), CriteriaValues.bound(cb, converter.convert(expectedValue, typeOnPath, true)));
 	}
 	
 	@Override
@@ -39,12 +39,13 @@ import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
  * 
  * @author Tomasz Kaczmarzyk
  */
-public class NotIn<T> extends PathSpecification<T> {
+public class NotIn<T> extends PathSpecification<T> implements InListStrategyAware {
 
 	private static final long serialVersionUID = 1L;
 	
 	private String[] allowedValues;
 	private Converter converter;
+	private InListStrategy inListStrategy = InListStrategy.PLAIN;
 
 	public NotIn(QueryContext queryContext, String path, String[] httpParamValues, Converter converter) {
 		super(queryContext, path);
@@ -59,7 +60,21 @@ public class NotIn<T> extends PathSpecification<T> {
 	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
 		Path<?> path = path(root);
 		Class<?> typeOnPath = path.getJavaType();
-		return path.in(converter.convert(Arrays.asList(allowedValues), typeOnPath)).not();
+		return inListStrategy.in(path, converter.convert(Arrays.asList(allowedValues), typeOnPath), cb).not();
+	}
+
+	@Override
+	boolean applyTo(PathConstraint constraint, Class<?> typeOnPath) {
+		if (!constraint.inListStrategy(inListStrategy)) {
+			return false;
+		}
+		constraint.exclude(converter.convert(Arrays.asList(allowedValues), typeOnPath));
+		return true;
+	}
+
+	@Override
+	public void setInListStrategy(InListStrategy inListStrategy) {
+		this.inListStrategy = inListStrategy;
 	}
 
 	@Override
@@ -68,6 +83,7 @@ public class NotIn<T> extends PathSpecification<T> {
 		int result = super.hashCode();
 		result = prime * result + Arrays.hashCode(allowedValues);
 		result = prime * result + ((converter == null) ? 0 : converter.hashCode());
+		result = prime * result + ((inListStrategy == null) ? 0 : inListStrategy.hashCode());
 		return result;
 	}
 
@@ -84,7 +100,8 @@ public class NotIn<T> extends PathSpecification<T> {
 		}
 		NotIn<?> notIn = (NotIn<?>) o;
 		return Arrays.equals(allowedValues, notIn.allowedValues) &&
-				Objects.equals(converter, notIn.converter);
+				Objects.equals(converter, notIn.converter) &&
+				Objects.equals(inListStrategy, notIn.inListStrategy);
 	}
 
 	@Override
@@ -92,6 +109,7 @@ public class NotIn<T> extends PathSpecification<T> {
 		return "NotIn[" +
 				"allowedValues=" + Arrays.toString(allowedValues) +
 				", converter=" + converter +
+				", inListStrategy=" + inListStrategy +
 				", path='" + path + '\'' +
 				']';
 	}
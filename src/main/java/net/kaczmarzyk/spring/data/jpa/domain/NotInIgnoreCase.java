@@ -72,6 +72,7 @@ public class NotInIgnoreCase<T> extends InIgnoreCase<T> implements IgnoreCaseStr
         return Arrays.equals(allowedValues, other.allowedValues) &&
                 Objects.equals(converter, other.converter) &&
                 Objects.equals(ignoreCaseStrategy, other.ignoreCaseStrategy) &&
-                Objects.equals(locale, other.locale);
+                Objects.equals(locale, other.locale) &&
+                Objects.equals(inListStrategy, other.inListStrategy);
     }
 }
@@ -59,6 +59,18 @@ public class Null<T> extends PathSpecification<T> {
 		}
 	}
 
+	/**
+	 * @return whether the spec is never satisfied by a {@code null} value on the path (i.e. it is {@code is not null}),
+	 * {@code false} if the value cannot be converted to boolean (the conversion error is reported when the spec is evaluated)
+	 */
+	boolean rejectsNulls() {
+		try {
+			return !converter.convert(expectedValue, Boolean.class);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
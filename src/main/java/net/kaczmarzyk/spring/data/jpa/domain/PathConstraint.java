@@ -0,0 +1,329 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>Constraint on values of a single path, merged out of multiple specs which are combined with {@code AND} (see {@link Conjunction}).</p>
+ *
+ * <p>It allows to narrow the constraints into the tightest predicate (e.g. {@code a > 5 and a >= 10} into {@code a >= 10},
+ * or {@code a in (1, 2, 3) and a in (2, 3, 4) and a <> 3} into {@code a = 2}) and to detect contradictions
+ * (e.g. {@code a = 1 and a <> 1} or {@code a > 10 and a < 5}) before the query is sent to the database.
+ * A contradicting conjunction is replaced with a constant {@code false} predicate.</p>
+ *
+ * <p>Only the built-in {@link Equal}, {@link NotEqual}, {@link In}, {@link NotIn}, {@link Between}, {@link GreaterThan},
+ * {@link GreaterThanOrEqual}, {@link LessThan} and {@link LessThanOrEqual} specs are merged and only on paths of types
+ * which are compared in the same way by Java and by the database (numbers, dates, UUIDs, enums, booleans).
+ * In particular strings are never merged as their comparison depends on the database collation.</p>
+ */
+class PathConstraint {
+
+	private static final Set<Class<?>> MERGEABLE_SPECS = Set.of(
+			Equal.class, NotEqual.class, In.class, NotIn.class, Between.class,
+			GreaterThan.class, GreaterThanOrEqual.class, LessThan.class, LessThanOrEqual.class);
+
+	private static final Set<Class<?>> ORDERED_TYPES = Set.of(LocalDate.class, LocalDateTime.class, Instant.class);
+
+	private static final Set<Class<?>> EQUALITY_ONLY_TYPES = Set.of(Boolean.class, UUID.class);
+
+	private final boolean analyzable;
+	private final boolean ordered;
+
+	private List<Object> allowedValues; // null means that there is no restriction
+	private List<Object> excludedValues = new ArrayList<>();
+
+	private InListStrategy inListStrategy = InListStrategy.PLAIN;
+
+	private Object lowerBound;
+	private boolean lowerBoundInclusive;
+	private Object upperBound;
+	private boolean upperBoundInclusive;
+
+	private PathConstraint(Class<?> typeOnPath) {
+		Class<?> boxedType = ClassUtils.primitiveToWrapper(typeOnPath);
+		this.ordered = Number.class.isAssignableFrom(boxedType) || ORDERED_TYPES.contains(boxedType);
+		this.analyzable = ordered || boxedType.isEnum() || EQUALITY_ONLY_TYPES.contains(boxedType);
+	}
+
+	/**
+	 * Combines predicates of the given specs with {@code AND}, merging mergeable specs which refer to the same path.
+	 */
+	static <T> Predicate and(Collection<Specification<T>> specs, Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		Map<String, PathConstraint> constraintsByPath = new LinkedHashMap<>();
+		for (Map.Entry<String, List<PathSpecification<T>>> entry : groupMergeableSpecsByPath(specs).entrySet()) {
+			if (entry.getValue().size() > 1) {
+				PathConstraint constraint = mergeIfAnalyzable(entry.getValue(), entry.getValue().get(0).path(root).getJavaType());
+				if (constraint != null) {
+					if (constraint.isUnsatisfiable()) {
+						return cb.disjunction();
+					}
+					constraintsByPath.put(entry.getKey(), constraint);
+				}
+			}
+		}
+
+		List<Predicate> predicates = new ArrayList<>();
+		Set<String> appliedPaths = new HashSet<>();
+		for (Specification<T> spec : specs) {
+			PathSpecification<T> mergeable = mergeable(spec);
+			if (mergeable != null && constraintsByPath.containsKey(mergeable.path)) {
+				if (appliedPaths.add(mergeable.path)) { // merged predicate is added only once, in place of the first spec
+					predicates.add(constraintsByPath.get(mergeable.path).toPredicate(cb, mergeable.path(root)));
+				}
+			} else {
+				Predicate predicate = spec.toPredicate(root, query, cb);
+				if (predicate != null) {
+					predicates.add(predicate);
+				}
+			}
+		}
+		return cb.and(predicates.toArray(new Predicate[0]));
+	}
+
+	static <T> Map<String, List<PathSpecification<T>>> groupMergeableSpecsByPath(Collection<Specification<T>> specs) {
+		Map<String, List<PathSpecification<T>>> mergeableSpecsByPath = new LinkedHashMap<>();
+		for (Specification<T> spec : specs) {
+			PathSpecification<T> mergeable = mergeable(spec);
+			if (mergeable != null) {
+				mergeableSpecsByPath.computeIfAbsent(mergeable.path, path -> new ArrayList<>()).add(mergeable);
+			}
+		}
+		return mergeableSpecsByPath;
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> PathSpecification<T> mergeable(Specification<T> spec) {
+		Specification<T> unwrapped = spec;
+		if (spec != null && spec.getClass() == EmptyResultOnTypeMismatch.class) {
+			unwrapped = ((EmptyResultOnTypeMismatch<T>) spec).getWrappedSpec();
+		}
+		return unwrapped != null && MERGEABLE_SPECS.contains(unwrapped.getClass()) ? (PathSpecification<T>) unwrapped : null;
+	}
+
+	/**
+	 * @return merged constraint or {@code null} if the type on path is not supported
+	 * or if any of the values cannot be converted to it (the specs should be evaluated one by one then)
+	 */
+	static <T> PathConstraint mergeIfAnalyzable(List<PathSpecification<T>> specs, Class<?> typeOnPath) {
+		if (!new PathConstraint(typeOnPath).analyzable) {
+			return null;
+		}
+		try {
+			return merge(specs, typeOnPath);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Converts values of the specs to the type on path and merges them.
+	 * The constraint is never unsatisfiable if the type on path is not supported.
+	 *
+	 * @return merged constraint or {@code null} if the specs cannot be merged (e.g. there is a bound on a non-ordered type)
+	 * @throws IllegalArgumentException if any of the values cannot be converted to the type on path
+	 */
+	static <T> PathConstraint merge(List<PathSpecification<T>> specs, Class<?> typeOnPath) {
+		PathConstraint constraint = new PathConstraint(typeOnPath);
+		for (PathSpecification<T> spec : specs) {
+			if (!spec.applyTo(constraint, typeOnPath)) {
+				return null;
+			}
+		}
+		return constraint;
+	}
+
+	void restrictTo(Collection<?> values) {
+		if (allowedValues == null) {
+			allowedValues = new ArrayList<>();
+			for (Object value : values) {
+				if (!containsValue(allowedValues, value)) {
+					allowedValues.add(value);
+				}
+			}
+		} else {
+			allowedValues.removeIf(allowed -> !containsValue(values, allowed));
+		}
+	}
+
+	void exclude(Collection<?> values) {
+		for (Object value : values) {
+			if (!containsValue(excludedValues, value)) {
+				excludedValues.add(value);
+			}
+		}
+	}
+
+	/**
+	 * Sets the strategy of the merged {@code in} lists (see {@link InListStrategyAware}).
+	 *
+	 * @return whether the strategy has been applied, i.e. {@code false} if a different non-plain strategy is used already
+	 */
+	boolean inListStrategy(InListStrategy strategy) {
+		if (strategy.equals(InListStrategy.PLAIN) || strategy.equals(inListStrategy)) {
+			return true;
+		}
+		if (!inListStrategy.equals(InListStrategy.PLAIN)) {
+			return false;
+		}
+		inListStrategy = strategy;
+		return true;
+	}
+
+	/**
+	 * @return whether the bound has been applied, i.e. {@code false} if the type on path is not ordered
+	 */
+	boolean lowerBound(Object value, boolean inclusive) {
+		if (!ordered) {
+			return false;
+		}
+		int comparison = lowerBound == null ? 1 : compare(value, lowerBound);
+		if (comparison > 0 || (comparison == 0 && !inclusive)) {
+			lowerBound = value;
+			lowerBoundInclusive = inclusive;
+		}
+		return true;
+	}
+
+	/**
+	 * @return whether the bound has been applied, i.e. {@code false} if the type on path is not ordered
+	 */
+	boolean upperBound(Object value, boolean inclusive) {
+		if (!ordered) {
+			return false;
+		}
+		int comparison = upperBound == null ? -1 : compare(value, upperBound);
+		if (comparison < 0 || (comparison == 0 && !inclusive)) {
+			upperBound = value;
+			upperBoundInclusive = inclusive;
+		}
+		return true;
+	}
+
+	boolean isUnsatisfiable() {
+		if (!analyzable) {
+			return false;
+		}
+		if (allowedValues != null) {
+			return remainingAllowedValues().isEmpty();
+		}
+		if (lowerBound != null && upperBound != null) {
+			int comparison = compare(lowerBound, upperBound);
+			return comparison > 0 ||
+					(comparison == 0 && (!lowerBoundInclusive || !upperBoundInclusive || containsValue(excludedValues, lowerBound)));
+		}
+		return false;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	Predicate toPredicate(CriteriaBuilder cb, Path<?> path) {
+		if (allowedValues != null) {
+			List<Object> values = remainingAllowedValues();
+			return values.size() == 1 ? cb.equal(path, CriteriaValues.bound(cb, values.get(0))) : inListStrategy.in(path, values, cb);
+		}
+
+		List<Predicate> predicates = new ArrayList<>();
+		Expression<Comparable> comparablePath = (Expression<Comparable>) path;
+		if (lowerBound != null && upperBound != null && lowerBoundInclusive && upperBoundInclusive) {
+			predicates.add(cb.between(comparablePath, CriteriaValues.bound(cb, (Comparable) lowerBound), CriteriaValues.bound(cb, (Comparable) upperBound)));
+		} else {
+			if (lowerBound != null) {
+				predicates.add(lowerBoundInclusive ?
+						cb.greaterThanOrEqualTo(comparablePath, CriteriaValues.bound(cb, (Comparable) lowerBound)) :
+						cb.greaterThan(comparablePath, CriteriaValues.bound(cb, (Comparable) lowerBound)));
+			}
+			if (upperBound != null) {
+				predicates.add(upperBoundInclusive ?
+						cb.lessThanOrEqualTo(comparablePath, CriteriaValues.bound(cb, (Comparable) upperBound)) :
+						cb.lessThan(comparablePath, CriteriaValues.bound(cb, (Comparable) upperBound)));
+			}
+		}
+
+		List<Object> excluded = excludedValues.stream()
+				.filter(this::isWithinBounds) // exclusions outside of the range are redundant
+				.collect(toList());
+		if (excluded.size() == 1) {
+			predicates.add(cb.notEqual(path, CriteriaValues.bound(cb, excluded.get(0))));
+		} else if (excluded.size() > 1) {
+			predicates.add(inListStrategy.in(path, excluded, cb).not());
+		}
+
+		return predicates.size() == 1 ? predicates.get(0) : cb.and(predicates.toArray(new Predicate[0]));
+	}
+
+	private List<Object> remainingAllowedValues() {
+		return allowedValues.stream()
+				.filter(value -> !containsValue(excludedValues, value))
+				.filter(this::isWithinBounds)
+				.collect(toList());
+	}
+
+	private boolean isWithinBounds(Object value) {
+		if (lowerBound != null) {
+			int comparison = compare(value, lowerBound);
+			if (comparison < 0 || (comparison == 0 && !lowerBoundInclusive)) {
+				return false;
+			}
+		}
+		if (upperBound != null) {
+			int comparison = compare(value, upperBound);
+			if (comparison > 0 || (comparison == 0 && !upperBoundInclusive)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean containsValue(Collection<?> values, Object value) {
+		return values.stream().anyMatch(candidate -> valuesEqual(candidate, value));
+	}
+
+	private boolean valuesEqual(Object value1, Object value2) {
+		if (ordered && value1 != null && value2 != null) {
+			return compare(value1, value2) == 0; // e.g. for BigDecimal 1.0 is equal to 1.00
+		}
+		return value1 == null ? value2 == null : value1.equals(value2);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compare(Object value1, Object value2) {
+		return ((Comparable) value1).compareTo(value2);
+	}
+}
@@ -77,12 +77,32 @@ public abstract class PathSpecification<T> implements Specification<T> {
  		 */
 
 		if(evaluated == null) {
-			return (Path<T>) queryContext.getEvaluatedJoinFetch(field);
+			return (Path<T>) queryContext.getEvaluatedJoinFetch(field, root);
 		}
 
 		return evaluated;
 	}
 
+	/**
+	 * Applies the spec onto the constraint merged out of all specs on the same path (see {@link PathConstraint}).
+	 * Overridden by the built-in specs which support merging.
+	 *
+	 * @return whether the spec has been applied, i.e. {@code false} if it cannot be merged with other specs
+	 */
+	boolean applyTo(PathConstraint constraint, Class<?> typeOnPath) {
+		return false;
+	}
+
+	/**
+	 * Compiles the spec to a plain SQL condition on the column of the path (see {@link SqlPredicate}).
+	 * Overridden by the built-in specs which support it.
+	 *
+	 * @return the condition or {@code null} if the spec cannot be compiled
+	 */
+	String toSql(String column, Class<?> typeOnPath, SqlPredicate.Parameters parameters) {
+		return null;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+/**
+ * <p>Marker interface to indicate that a {@code Specification} is known to match no rows at all.</p>
+ *
+ * <p>It allows to skip the database round-trip, e.g. with
+ * {@link net.kaczmarzyk.spring.data.jpa.repository.EmptyResultAwareSpecificationExecutor EmptyResultAwareSpecificationExecutor}.
+ * The marker is retained when the resolved specification is wrapped into a custom specification interface.</p>
+ *
+ * @see EmptyResult
+ */
+public interface ProvablyEmpty {
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.persistence.metamodel.Metamodel;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * <p>Optimization pass that normalizes the tree of specifications built by {@code SpecificationFactory}, e.g.
+ * for a deep interface inheritance tree or nested {@code @Conjunction}/{@code @Disjunction} definitions.</p>
+ *
+ * <p>The following rules are applied (bottom-up):</p>
+ * <ul>
+ *     <li>nested {@link Conjunction}s (and nested {@link Disjunction}s) are flattened into their parent,</li>
+ *     <li>unrestricted (and {@code null}) branches are removed,</li>
+ *     <li>specifications which are equal to each other are de-duplicated (which also merges repeated {@link Join} and {@link JoinFetch} definitions),</li>
+ *     <li>{@link Conjunction}s and {@link Disjunction}s with a single inner spec are replaced with the inner spec
+ *     (unless it is a fake spec such as {@link Join}),</li>
+ *     <li>nested type mismatch wrappers (e.g. {@link EmptyResultOnTypeMismatch}) are collapsed into a single wrapper,</li>
+ *     <li>specifications which are known to be empty are replaced with {@link EmptyResult} (or removed from {@link Disjunction}s)
+ *     according to the rules of {@link EmptyResultDetector}, which are applied while simplifying, so there is no need to run the detector
+ *     afterwards (type mismatches and contradictions are detected only if the metamodel is provided, see {@link #simplify(Specification, Class, Metamodel)}).</li>
+ * </ul>
+ *
+ * <p>The order of the remaining specifications is preserved, so fakes (e.g. joins) are still evaluated in the order of their declaration.</p>
+ */
+public abstract class SpecificationSimplifier {
+
+	public static <T> Specification<T> simplify(Specification<T> spec) {
+		return simplify(spec, path -> null);
+	}
+
+	/**
+	 * Applies the rules with types on paths taken from the JPA metamodel, so that the type mismatches can be detected as well.
+	 */
+	public static <T> Specification<T> simplify(Specification<T> spec, Class<?> domainClass, Metamodel metamodel) {
+		return simplify(spec, EmptyResultDetector.typeResolver(spec, domainClass, metamodel));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Specification<T> simplify(Specification<T> spec, Function<String, Class<?>> typeResolver) {
+		if (spec instanceof Conjunction) {
+			return simplifyConjunction((Conjunction<T>) spec, typeResolver);
+		} else if (spec instanceof Disjunction) {
+			return simplifyDisjunction((Disjunction<T>) spec, typeResolver);
+		} else if (spec instanceof EmptyResultOnTypeMismatch) {
+			return simplifyTypeMismatchWrapper((EmptyResultOnTypeMismatch<T>) spec, typeResolver);
+		}
+		return spec;
+	}
+
+	private static <T> Specification<T> simplifyConjunction(Conjunction<T> conjunction, Function<String, Class<?>> typeResolver) {
+		Set<Specification<T>> simplifiedInnerSpecs = new LinkedHashSet<>();
+		for (Specification<T> innerSpec : conjunction.getInnerSpecs()) {
+			Specification<T> simplified = simplify(innerSpec, typeResolver);
+			if (simplified instanceof Conjunction) {
+				simplifiedInnerSpecs.addAll(((Conjunction<T>) simplified).getInnerSpecs());
+			} else if (!isUnrestricted(simplified)) {
+				simplifiedInnerSpecs.add(simplified);
+			}
+		}
+
+		if (EmptyResultDetector.isEmptyConjunction(simplifiedInnerSpecs, typeResolver)) {
+			return new EmptyResult<>(conjunction);
+		}
+		if (simplifiedInnerSpecs.isEmpty()) {
+			return Specification.unrestricted();
+		}
+		if (simplifiedInnerSpecs.size() == 1 && !(simplifiedInnerSpecs.iterator().next() instanceof Fake)) {
+			// a conjunction with a single fake (e.g. inner join) has to be preserved, as it still affects the result
+			// (e.g. `cb.and()` is used as predicate for the conjunction when it is nested in a disjunction)
+			return simplifiedInnerSpecs.iterator().next();
+		}
+		return new Conjunction<>(new ArrayList<>(simplifiedInnerSpecs));
+	}
+
+	private static <T> Specification<T> simplifyDisjunction(Disjunction<T> disjunction, Function<String, Class<?>> typeResolver) {
+		Set<Specification<T>> simplifiedInnerSpecs = new LinkedHashSet<>();
+		for (Specification<T> innerSpec : disjunction.getInnerSpecs()) {
+			Specification<T> simplified = simplify(innerSpec, typeResolver);
+			if (simplified instanceof Disjunction) {
+				simplifiedInnerSpecs.addAll(((Disjunction<T>) simplified).getInnerSpecs());
+			} else if (!isUnrestricted(simplified)) {
+				simplifiedInnerSpecs.add(simplified);
+			}
+		}
+
+		if (EmptyResultDetector.isEmptyDisjunction(simplifiedInnerSpecs)) {
+			return new EmptyResult<>(disjunction);
+		}
+		Set<Specification<T>> remainingInnerSpecs = new LinkedHashSet<>(EmptyResultDetector.withoutEmptyBranches(simplifiedInnerSpecs));
+		if (remainingInnerSpecs.isEmpty()) {
+			return Specification.unrestricted();
+		}
+		if (remainingInnerSpecs.size() == 1) {
+			return remainingInnerSpecs.iterator().next();
+		}
+		return new Disjunction<>(new ArrayList<>(remainingInnerSpecs));
+	}
+
+	private static <T> Specification<T> simplifyTypeMismatchWrapper(EmptyResultOnTypeMismatch<T> wrapper, Function<String, Class<?>> typeResolver) {
+		Specification<T> simplifiedWrappedSpec = simplify(wrapper.getWrappedSpec(), typeResolver);
+
+		if (isUnrestricted(simplifiedWrappedSpec)) {
+			return Specification.unrestricted();
+		}
+		if (simplifiedWrappedSpec instanceof ProvablyEmpty) {
+			return simplifiedWrappedSpec;
+		}
+		if (simplifiedWrappedSpec instanceof EmptyResultOnTypeMismatch
+				&& simplifiedWrappedSpec.getClass() == wrapper.getClass()) {
+			// e.g. EmptyResultOnTypeMismatch(EmptyResultOnTypeMismatch(spec)) -> EmptyResultOnTypeMismatch(spec)
+			return simplifiedWrappedSpec;
+		}
+		EmptyResultOnTypeMismatch<T> simplified;
+		if (simplifiedWrappedSpec == wrapper.getWrappedSpec()) {
+			simplified = wrapper;
+		} else {
+			simplified = wrapper instanceof IgnoreOnTypeMismatch ?
+					new IgnoreOnTypeMismatch<>(simplifiedWrappedSpec) :
+					new EmptyResultOnTypeMismatch<>(simplifiedWrappedSpec);
+		}
+		if (EmptyResultDetector.isTypeMismatch(simplified, typeResolver)) {
+			return new EmptyResult<>(wrapper);
+		}
+		return simplified;
+	}
+
+	private static boolean isUnrestricted(Specification<?> spec) {
+		return spec == null || spec.equals(Specification.unrestricted());
+	}
+}
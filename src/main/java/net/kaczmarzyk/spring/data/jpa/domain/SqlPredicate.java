@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * <p>Predicate of a specification compiled to a plain SQL condition with named parameters,
+ * e.g. {@code last_name = :p0 and weight in (:p1, :p2)}, so that it can be executed over JDBC without the Criteria API.</p>
+ *
+ * <p>Only {@link Equal}, {@link In}, {@link Between} and {@link Like} specs (exactly of these classes, so e.g. {@link LikeIgnoreCase} is not supported),
+ * on attributes of the root entity (i.e. paths without joins) and combined with {@link Conjunction} can be compiled.
+ * The values are converted to the types on the paths in the same way as by the criteria query.</p>
+ */
+public final class SqlPredicate {
+
+	private static final Set<Class<?>> COMPILABLE_SPECS = Set.of(Equal.class, In.class, Between.class, Like.class);
+
+	private final String sql;
+	private final Map<String, Object> parameters;
+
+	private SqlPredicate(String sql, Map<String, Object> parameters) {
+		this.sql = sql;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * @param columns the column names of the paths, or {@code null} for a path which cannot be used in SQL
+	 * @param types the Java types of the paths (e.g. resolved from the JPA metamodel)
+	 * @return the compiled predicate or empty if the specification (or a value of it) cannot be compiled
+	 * (the specification should be executed as a criteria query then)
+	 */
+	public static Optional<SqlPredicate> compile(Specification<?> spec, Function<String, String> columns, Function<String, Class<?>> types) {
+		Parameters parameters = new Parameters();
+		List<String> conditions = new ArrayList<>();
+		try {
+			if (!appendConditions(spec, columns, types, parameters, conditions)) {
+				return Optional.empty();
+			}
+		} catch (IllegalArgumentException e) {
+			return Optional.empty(); // a value cannot be converted to the type on path, the strategy of the spec (e.g. an empty result) applies then
+		}
+		return Optional.of(new SqlPredicate(String.join(" and ", conditions), parameters.values));
+	}
+
+	private static boolean appendConditions(Object spec, Function<String, String> columns, Function<String, Class<?>> types,
+			Parameters parameters, List<String> conditions) {
+		Object unwrapped = spec;
+		while (unwrapped instanceof MarkerWrapper wrapper) {
+			unwrapped = wrapper.getWrappedSpec();
+		}
+		if (unwrapped != null && unwrapped.getClass() == EmptyResultOnTypeMismatch.class) {
+			unwrapped = ((EmptyResultOnTypeMismatch<?>) unwrapped).getWrappedSpec();
+		}
+		if (unwrapped != null && unwrapped.getClass() == Conjunction.class) {
+			Collection<? extends Specification<?>> innerSpecs = ((Conjunction<?>) unwrapped).getInnerSpecs();
+			return innerSpecs.stream().allMatch(innerSpec -> appendConditions(innerSpec, columns, types, parameters, conditions));
+		}
+		if (unwrapped == null || !COMPILABLE_SPECS.contains(unwrapped.getClass())) {
+			return false;
+		}
+		PathSpecification<?> pathSpec = (PathSpecification<?>) unwrapped;
+		if (pathSpec.path.contains(".")) {
+			return false;
+		}
+		String column = columns.apply(pathSpec.path);
+		Class<?> typeOnPath = types.apply(pathSpec.path);
+		String condition = column != null && typeOnPath != null ? pathSpec.toSql(column, typeOnPath, parameters) : null;
+		if (condition == null) {
+			return false;
+		}
+		conditions.add(condition);
+		return true;
+	}
+
+	/**
+	 * @return the condition, or an empty string if the specification does not restrict the results (e.g. an empty conjunction)
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * @return values of the named parameters of the condition
+	 */
+	public Map<String, Object> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public String toString() {
+		return "SqlPredicate [sql=" + sql + ", parameters=" + parameters + "]";
+	}
+
+	/**
+	 * Named parameters of the compiled condition.
+	 */
+	static final class Parameters {
+
+		private final Map<String, Object> values = new LinkedHashMap<>();
+
+		/**
+		 * @return reference of the parameter with given value, e.g. {@code :p0}
+		 */
+		String bind(Object value) {
+			String name = "p" + values.size();
+			values.put(name, value);
+			return ":" + name;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import java.util.Objects;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Wrapper that marks a {@code Specification} as {@link CountCapped}. The predicate of the wrapped specification is not modified.
+ */
+public class WithCountCap<T> implements Specification<T>, CountCapped, MarkerWrapper {
+
+	private static final long serialVersionUID = 1L;
+
+	private Specification<T> wrappedSpec;
+	private int countCap;
+
+	public WithCountCap(Specification<T> wrappedSpec, int countCap) {
+		if (countCap <= 0) {
+			throw new IllegalArgumentException("Count cap must be positive, but was: " + countCap);
+		}
+		this.wrappedSpec = wrappedSpec;
+		this.countCap = countCap;
+	}
+
+	@Override
+	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return wrappedSpec.toPredicate(root, query, cb);
+	}
+
+	@Override
+	public Specification<T> getWrappedSpec() {
+		return wrappedSpec;
+	}
+
+	@Override
+	public int getCountCap() {
+		return countCap;
+	}
+
+	@Override
+	public String toString() {
+		return "WithCountCap [wrappedSpec=" + wrappedSpec + ", countCap=" + countCap + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(wrappedSpec, countCap);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		WithCountCap<?> other = (WithCountCap<?>) obj;
+		return Objects.equals(wrappedSpec, other.wrappedSpec) && countCap == other.countCap;
+	}
+}
@@ -17,6 +17,7 @@ package net.kaczmarzyk.spring.data.jpa.nativeimage;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
+import net.kaczmarzyk.spring.data.jpa.domain.MarkerWrapper;
 import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.RuntimeHintsRegistrar;
 
@@ -54,7 +55,8 @@ public abstract class SpecificationArgumentResolverProxyHintRegistrar implements
                 .stream()
                 .filter(this::hasSarAnnotations)
                 .forEach(classWithSarAnnotation -> {
-                    hints.proxies().registerJdkProxy(classWithSarAnnotation.loadClass());
+                    // the proxy implements also MarkerWrapper (see EnhancerUtil)
+                    hints.proxies().registerJdkProxy(classWithSarAnnotation.loadClass(), MarkerWrapper.class);
                 });
     }
 
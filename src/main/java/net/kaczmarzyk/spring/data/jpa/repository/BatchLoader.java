@@ -0,0 +1,187 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import jakarta.persistence.metamodel.Type.PersistenceType;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import net.kaczmarzyk.spring.data.jpa.domain.InListStrategy;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues.QueryParameters;
+
+/**
+ * <p>Loads associations of already loaded entities in batches (see {@code @BatchFetch}), i.e. with a single query for each level of a path:
+ * {@code select p from Parent p left join fetch p.association where p.id in (...)}. The query returns the managed instances,
+ * so the associations are initialized in the persistence context, without replacing the entities.</p>
+ *
+ * <p>Associations which are loaded already (e.g. with a fetch join) are not queried again.</p>
+ */
+class BatchLoader {
+
+	// the list of ids is padded, so that pages of different sizes can reuse the statement
+	private static final InListStrategy ID_LIST = InListStrategy.padded(InListStrategy.partitioned(1000));
+
+	private final EntityManager entityManager;
+
+	BatchLoader(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * @param paths paths relative to the entity class, e.g. {@code orders.tags}
+	 */
+	void load(List<?> entities, Class<?> entityClass, Collection<String> paths) {
+		for (String path : paths) {
+			load(entities, entityClass, path.split("\\."), 0);
+		}
+	}
+
+	private void load(Collection<?> parents, Class<?> parentClass, String[] path, int level) {
+		if (parents.isEmpty()) {
+			return;
+		}
+		String attributeName = path[level];
+		if (!(entityManager.getMetamodel().managedType(parentClass) instanceof EntityType<?> parentType)) {
+			return; // e.g. elements of an embeddable collection, which have no ids to query by (their associations are loaded as usual)
+		}
+		Attribute<?, ?> attribute = parentType.getAttribute(attributeName);
+		if (!attribute.isAssociation() && !attribute.isCollection()) {
+			throw new IllegalArgumentException("Batch fetch path must consist of associations, but '" + attributeName + "' of "
+					+ parentClass.getName() + " is not an association");
+		}
+
+		PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+		List<Object> ids = parents.stream()
+				.filter(parent -> !persistenceUnitUtil.isLoaded(parent, attributeName))
+				.map(persistenceUnitUtil::getIdentifier)
+				.distinct()
+				.toList();
+		if (!ids.isEmpty()) {
+			fetch(parentType, attributeName, ids);
+		}
+
+		if (level + 1 < path.length) {
+			Set<Object> children = Collections.newSetFromMap(new IdentityHashMap<>());
+			parents.forEach(parent -> values(parent, attributeName).filter(Objects::nonNull).forEach(children::add));
+			load(children, targetType(attribute).getJavaType(), path, level + 1);
+		}
+	}
+
+	/**
+	 * Detaches given entities and the entities of their associations on given paths (loaded with {@link #load(List, Class, Collection)}),
+	 * so that they can be garbage collected while the persistence context is still in use. Associations which are not loaded are not initialized.
+	 *
+	 * @param paths paths relative to the entity class, e.g. {@code orders.tags}
+	 */
+	void detach(List<?> entities, Class<?> entityClass, Collection<String> paths) {
+		Set<Object> toDetach = Collections.newSetFromMap(new IdentityHashMap<>());
+		toDetach.addAll(entities);
+		for (String path : paths) {
+			collectLoaded(entities, entityClass, path.split("\\."), 0, toDetach);
+		}
+		toDetach.stream()
+				.filter(entityManager::contains) // e.g. already detached by a cascade
+				.forEach(entityManager::detach);
+	}
+
+	private void collectLoaded(Collection<?> parents, Class<?> parentClass, String[] path, int level, Set<Object> collected) {
+		if (!(entityManager.getMetamodel().managedType(parentClass) instanceof EntityType<?> parentType)) {
+			return; // not loaded by the batch loader (see #load)
+		}
+		PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+		String attributeName = path[level];
+		Type<?> targetType = targetType(parentType.getAttribute(attributeName));
+		if (targetType.getPersistenceType() != PersistenceType.ENTITY) {
+			return; // e.g. values of an element collection, which are detached with the owner
+		}
+		Set<Object> children = Collections.newSetFromMap(new IdentityHashMap<>());
+		parents.stream()
+				.filter(parent -> persistenceUnitUtil.isLoaded(parent, attributeName))
+				.forEach(parent -> values(parent, attributeName).filter(Objects::nonNull).forEach(children::add));
+		collected.addAll(children);
+		if (level + 1 < path.length && !children.isEmpty()) {
+			collectLoaded(children, targetType.getJavaType(), path, level + 1, collected);
+		}
+	}
+
+	private <P> void fetch(EntityType<P> parentType, String attributeName, List<Object> ids) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<P> query = cb.createQuery(parentType.getJavaType());
+		Root<P> root = query.from(parentType);
+		root.fetch(attributeName, JoinType.LEFT);
+		query.select(root);
+		QueryParameters parameters = CriteriaValues.collectParameters(
+				() -> query.where(ID_LIST.in(root.get(idAttribute(parentType)), ids, cb)));
+
+		TypedQuery<P> typedQuery = entityManager.createQuery(query);
+		parameters.bindTo(typedQuery);
+		typedQuery.getResultList(); // the results are the instances already loaded, now with the association initialized
+	}
+
+	private static String idAttribute(EntityType<?> type) {
+		if (!type.hasSingleIdAttribute()) {
+			throw new IllegalArgumentException("Batch fetch requires an entity with a single id attribute, but " + type.getJavaType().getName()
+					+ " has a composite id");
+		}
+		return type.getSingularAttributes().stream()
+				.filter(SingularAttribute::isId)
+				.map(Attribute::getName)
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private static Type<?> targetType(Attribute<?, ?> attribute) {
+		return attribute instanceof PluralAttribute<?, ?, ?> plural ? plural.getElementType() : ((SingularAttribute<?, ?>) attribute).getType();
+	}
+
+	private static Stream<?> values(Object entity, String attributeName) {
+		// a getter works with lazy proxies as well (their fields are not initialized)
+		BeanWrapper bean = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+		Object value = bean.isReadableProperty(attributeName)
+				? bean.getPropertyValue(attributeName)
+				: PropertyAccessorFactory.forDirectFieldAccess(entity).getPropertyValue(attributeName);
+		if (value instanceof Collection<?> collection) {
+			return collection.stream();
+		}
+		if (value instanceof Map<?, ?> map) {
+			return map.values().stream();
+		}
+		return Stream.ofNullable(value);
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * <p>Page whose total number of elements may be limited by a count cap (see {@link ParameterizedSpecificationExecutor#findAll(
+ * org.springframework.data.jpa.domain.Specification, Pageable, int)}).</p>
+ *
+ * <p>If {@link #isTotalCapped()} is {@code true}, more elements than {@link #getTotalElements()} match the query (e.g. "10000+"
+ * should be displayed) and the page has the next one whenever it is full.</p>
+ */
+public class CappedPage<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final boolean totalCapped;
+
+	public CappedPage(List<T> content, Pageable pageable, long total, boolean totalCapped) {
+		super(content, pageable, total);
+		this.totalCapped = totalCapped;
+	}
+
+	/**
+	 * @return {@code true} if the count has been stopped at the cap, i.e. the total number of elements is at least {@link #getTotalElements()}
+	 */
+	public boolean isTotalCapped() {
+		return totalCapped;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return super.hasNext() || (totalCapped && getNumberOfElements() == getSize());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return super.equals(obj) && obj instanceof CappedPage<?> other && totalCapped == other.totalCapped;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + Boolean.hashCode(totalCapped);
+	}
+}
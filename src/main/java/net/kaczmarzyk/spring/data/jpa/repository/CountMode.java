@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+/**
+ * Defines how {@link ParameterizedSpecificationExecutor} counts the total number of elements of a page.
+ */
+public enum CountMode {
+
+	/**
+	 * Executes a separate count query with the same filters (unless the total can be computed from the content of the page,
+	 * e.g. if the page is the last one). Mode used by default.
+	 */
+	SEPARATE_QUERY,
+
+	/**
+	 * Adds {@code count(*) over()} window function to the content query, e.g.
+	 * {@code select c, count(c) over() from Customer c where ... offset ? rows fetch first ? rows only},
+	 * so the page and the total are read in a single round trip. The window function is evaluated before the offset and the limit,
+	 * so the total is read from the first row.
+	 * <p>
+	 * Requires a JPA provider which supports window functions in criteria queries (e.g. Hibernate with {@code HibernateCriteriaBuilder})
+	 * and a database which supports them. A separate count query is executed if the page is empty
+	 * (e.g. the offset exceeds the number of results), if the query is distinct, grouped or fetches associations
+	 * (then the window function would count the joined rows instead of the entities) or if the provider does not support window functions.
+	 */
+	WINDOW_FUNCTION
+}
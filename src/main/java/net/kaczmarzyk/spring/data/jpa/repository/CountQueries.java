@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import static net.kaczmarzyk.spring.data.jpa.repository.SpecificationQueries.applyPage;
+import static net.kaczmarzyk.spring.data.jpa.repository.SpecificationQueries.idAttribute;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.ReflectionUtils;
+
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues.QueryParameters;
+
+/**
+ * <p>Counts the results of specifications without a separate {@code select count(*)} query of all the matching rows:</p>
+ * <ul>
+ *     <li>up to a cap (see {@code CountCapped}), by reading at most {@code cap + 1} rows of a constant or the id,</li>
+ *     <li>with a window function, i.e. {@code count(*) over()} selected together with the content of a page (see {@link CountMode#WINDOW_FUNCTION}).</li>
+ * </ul>
+ */
+class CountQueries<T> {
+
+	private static final Map<Class<?>, Optional<WindowCount>> WINDOW_COUNTS = new ConcurrentHashMap<>();
+
+	private final SpecificationQueries<T> queries;
+
+	CountQueries(SpecificationQueries<T> queries) {
+		this.queries = queries;
+	}
+
+	/**
+	 * @return the number of results of the specification, but not more than given limit
+	 */
+	long countUpTo(Specification<T> spec, int limit) {
+		EntityManager entityManager = queries.entityManager();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery(); // not an entity query, so that the specification does not apply fetches
+		Root<T> root = query.from(queries.domainClass());
+		QueryParameters parameters = CriteriaValues.collectParameters(() -> queries.applySpecification(spec, root, query, cb));
+		if (!query.getGroupList().isEmpty()) {
+			return Math.min(queries.count(spec), limit); // rows of a grouped query are not the results to count
+		}
+		// a distinct query has to select the id, as distinct constants would be merged into a single row
+		query.select(cb.tuple(query.isDistinct() ? idOrRoot(root) : cb.literal(1)));
+		query.orderBy(Collections.emptyList());
+
+		TypedQuery<Tuple> countQuery = entityManager.createQuery(query);
+		parameters.bindTo(countQuery);
+		return countQuery.setMaxResults(limit).getResultList().size();
+	}
+
+	private Selection<?> idOrRoot(Root<T> root) {
+		return idAttribute(root)
+				.<Selection<?>>map(attribute -> root.get(attribute.getName()))
+				.orElse(root);
+	}
+
+	/**
+	 * @return page with the total read from {@code count(*) over()} selected by the content query,
+	 * or {@code null} if the window function cannot be used for the specification
+	 */
+	@SuppressWarnings("unchecked")
+	Page<T> findPageWithWindowCount(Specification<T> spec, Pageable pageable) {
+		EntityManager entityManager = queries.entityManager();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		if (WINDOW_COUNTS.computeIfAbsent(cb.getClass(), WindowCount::find).isEmpty()) {
+			return null;
+		}
+		// the result type allows to select the entity, so that the specification applies fetches (and the window function is not used then)
+		CriteriaQuery<Object> query = cb.createQuery(Object.class);
+		Root<T> root = query.from(queries.domainClass());
+		SpecificationQueries<T>.EvaluatedSpecification evaluated = queries.evaluate(() -> queries.applySpecification(spec, root, query, cb));
+		if (query.isDistinct() || evaluated.fetchGraph().isDeduplicatedInMemory() || !query.getGroupList().isEmpty() || !root.getFetches().isEmpty()
+				|| !evaluated.fetchGraph().isEmpty()) {
+			return null; // the window function would count joined rows or groups instead of the entities
+		}
+		query.select(cb.array(root, countOver(cb, root)));
+		if (pageable.getSort().isSorted()) {
+			query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+		}
+
+		TypedQuery<Object> typedQuery = entityManager.createQuery(query);
+		evaluated.applyTo(typedQuery);
+		applyPage(typedQuery, pageable);
+		List<Object[]> rows = typedQuery.getResultList().stream()
+				.map(Object[].class::cast)
+				.toList();
+
+		List<T> content = rows.stream()
+				.map(row -> (T) row[0])
+				.toList();
+		evaluated.loadBatches(content);
+		// the window function is not evaluated if there are no rows (e.g. the offset exceeds the total), so the total is counted separately then
+		return PageableExecutionUtils.getPage(content, pageable,
+				() -> rows.isEmpty() ? queries.count(spec) : ((Number) rows.get(0)[1]).longValue());
+	}
+
+	/**
+	 * @return {@code count(root) over()}, i.e. the number of all the rows of the query (regardless of the selected page),
+	 * or {@code null} if the JPA provider does not support window functions
+	 */
+	Expression<Long> countOver(CriteriaBuilder cb, Root<T> root) {
+		return WINDOW_COUNTS.computeIfAbsent(cb.getClass(), WindowCount::find)
+				.map(windowCount -> windowCount.countOver(cb, root))
+				.orElse(null);
+	}
+
+	/**
+	 * {@code count(x) over()} created with the criteria extensions of the JPA provider (e.g. {@code HibernateCriteriaBuilder#count(Expression, JpaWindow)}),
+	 * as window functions are not a part of the JPA Criteria API.
+	 */
+	private record WindowCount(Method createWindow, Method count) {
+
+		@SuppressWarnings("unchecked")
+		Expression<Long> countOver(CriteriaBuilder cb, Expression<?> expression) {
+			Object window = ReflectionUtils.invokeMethod(createWindow, cb);
+			return (Expression<Long>) ReflectionUtils.invokeMethod(count, cb, expression, window);
+		}
+
+		static Optional<WindowCount> find(Class<?> criteriaBuilderClass) {
+			Method createWindow = ReflectionUtils.findMethod(criteriaBuilderClass, "createWindow");
+			if (createWindow == null) {
+				return Optional.empty();
+			}
+			return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(criteriaBuilderClass))
+					.filter(method -> method.getName().equals("count") && method.getParameterCount() == 2)
+					.filter(method -> method.getParameterTypes()[0] == Expression.class
+							&& method.getParameterTypes()[1].isAssignableFrom(createWindow.getReturnType())
+							&& Expression.class.isAssignableFrom(method.getReturnType()))
+					.findFirst()
+					.map(count -> new WindowCount(createWindow, count));
+		}
+	}
+}
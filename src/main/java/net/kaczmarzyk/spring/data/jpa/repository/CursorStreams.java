@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import static net.kaczmarzyk.spring.data.jpa.repository.SpecificationQueries.fetchesCollection;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Reads the results of specifications from a forward-only database cursor, in chunks of constant size
+ * (see {@link ParameterizedSpecificationExecutor#stream(Specification, Sort, int)}).
+ */
+class CursorStreams<T> {
+
+	private static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+	private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+
+	private final SpecificationQueries<T> queries;
+
+	CursorStreams(SpecificationQueries<T> queries) {
+		this.queries = queries;
+	}
+
+	Stream<T> stream(Specification<T> spec, Sort sort, int fetchSize) {
+		if (fetchSize < 1) {
+			throw new IllegalArgumentException("Fetch size must be positive, but was: " + fetchSize);
+		}
+		EntityManager entityManager = queries.entityManager();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> query = cb.createQuery(queries.domainClass());
+		Root<T> root = query.from(queries.domainClass());
+		SpecificationQueries<T>.EvaluatedSpecification evaluated = queries.evaluate(() -> queries.applySpecification(spec, root, query, cb));
+		if (fetchesCollection(root) || evaluated.fetchGraph().fetchesCollection(root.getModel())) {
+			throw new IllegalArgumentException("Specification which fetches a collection cannot be streamed, use @BatchFetch instead: " + spec);
+		}
+		if (evaluated.multipliesRows(query, root)) {
+			query.distinct(true); // the duplicates cannot be removed in memory without holding all the results
+		}
+		query.select(root);
+		if (sort.isSorted()) {
+			query.orderBy(QueryUtils.toOrders(sort, root, cb));
+		}
+
+		TypedQuery<T> typedQuery = entityManager.createQuery(query);
+		evaluated.applyTo(typedQuery);
+		typedQuery.setHint(FETCH_SIZE_HINT, fetchSize);
+		typedQuery.setHint(READ_ONLY_HINT, true);
+		Stream<T> rows = typedQuery.getResultStream();
+		Iterator<List<T>> chunks = new ChunkIterator(rows.iterator(), fetchSize, evaluated);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.flatMap(List::stream)
+				.onClose(rows::close);
+	}
+
+	/**
+	 * Reads the rows of a cursor in chunks, detaching the entities of the previous chunk (and their associations loaded in batches)
+	 * before reading the next one, i.e. after they have been consumed. The persistence context is not cleared, as it may be used
+	 * by the caller for other entities.
+	 */
+	private class ChunkIterator implements Iterator<List<T>> {
+
+		private final Iterator<T> rows;
+		private final int chunkSize;
+		private final SpecificationQueries<T>.EvaluatedSpecification evaluated;
+		private List<T> consumedChunk;
+
+		ChunkIterator(Iterator<T> rows, int chunkSize, SpecificationQueries<T>.EvaluatedSpecification evaluated) {
+			this.rows = rows;
+			this.chunkSize = chunkSize;
+			this.evaluated = evaluated;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (consumedChunk != null) {
+				evaluated.detach(consumedChunk); // before the next row is read, in case it refers to an entity of the previous chunk
+				consumedChunk = null;
+			}
+			return rows.hasNext();
+		}
+
+		@Override
+		public List<T> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			List<T> chunk = new ArrayList<>(chunkSize);
+			while (chunk.size() < chunkSize && rows.hasNext()) {
+				chunk.add(rows.next());
+			}
+			evaluated.loadBatches(chunk);
+			consumedChunk = chunk;
+			return chunk;
+		}
+	}
+}
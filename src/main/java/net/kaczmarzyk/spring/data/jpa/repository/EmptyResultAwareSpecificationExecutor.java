@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.DeleteSpecification;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.domain.UpdateSpecification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResult;
+import net.kaczmarzyk.spring.data.jpa.domain.MarkerWrapper;
+import net.kaczmarzyk.spring.data.jpa.domain.ProvablyEmpty;
+
+/**
+ * <p>Decorator of {@link JpaSpecificationExecutor} (e.g. a Spring Data repository) which does not touch the database
+ * if the specification is known to produce an empty result (i.e. it is {@link ProvablyEmpty}, such as {@link EmptyResult}).
+ * All other specifications are passed to the decorated executor.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * JpaSpecificationExecutor&lt;Customer&gt; executor = new EmptyResultAwareSpecificationExecutor&lt;&gt;(customerRepository);
+ * Page&lt;Customer&gt; customers = executor.findAll(spec, pageable); // no queries if spec is provably empty
+ * </pre>
+ */
+public class EmptyResultAwareSpecificationExecutor<T> implements JpaSpecificationExecutor<T> {
+
+	private final JpaSpecificationExecutor<T> delegate;
+
+	public EmptyResultAwareSpecificationExecutor(JpaSpecificationExecutor<T> delegate) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("Delegate executor must not be null");
+		}
+		this.delegate = delegate;
+	}
+
+	private static boolean isProvablyEmpty(Object spec) {
+		return MarkerWrapper.findMarker(spec, ProvablyEmpty.class).isPresent();
+	}
+
+	@Override
+	public Optional<T> findOne(Specification<T> spec) {
+		return isProvablyEmpty(spec) ? Optional.empty() : delegate.findOne(spec);
+	}
+
+	@Override
+	public List<T> findAll(Specification<T> spec) {
+		return isProvablyEmpty(spec) ? Collections.emptyList() : delegate.findAll(spec);
+	}
+
+	@Override
+	public Page<T> findAll(Specification<T> spec, Pageable pageable) {
+		return isProvablyEmpty(spec) ? Page.empty(pageable) : delegate.findAll(spec, pageable);
+	}
+
+	@Override
+	public Page<T> findAll(Specification<T> spec, Specification<T> countSpec, Pageable pageable) {
+		return isProvablyEmpty(spec) ? Page.empty(pageable) : delegate.findAll(spec, countSpec, pageable);
+	}
+
+	@Override
+	public List<T> findAll(Specification<T> spec, Sort sort) {
+		return isProvablyEmpty(spec) ? Collections.emptyList() : delegate.findAll(spec, sort);
+	}
+
+	@Override
+	public long count(Specification<T> spec) {
+		return isProvablyEmpty(spec) ? 0 : delegate.count(spec);
+	}
+
+	@Override
+	public boolean exists(Specification<T> spec) {
+		return !isProvablyEmpty(spec) && delegate.exists(spec);
+	}
+
+	@Override
+	public long update(UpdateSpecification<T> spec) {
+		return isProvablyEmpty(spec) ? 0 : delegate.update(spec);
+	}
+
+	@Override
+	public long delete(DeleteSpecification<T> spec) {
+		return isProvablyEmpty(spec) ? 0 : delegate.delete(spec);
+	}
+
+	@Override
+	public <S extends T, R> R findBy(Specification<T> spec, Function<? super SpecificationFluentQuery<S>, R> queryFunction) {
+		// the result type is defined by the query function, so it is always evaluated by the decorated executor
+		return delegate.findBy(spec, queryFunction);
+	}
+}
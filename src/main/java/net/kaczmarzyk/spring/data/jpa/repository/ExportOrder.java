@@ -0,0 +1,34 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+/**
+ * Defines the order in which {@link PartitionedExportExecutor} passes the results of the partitions to the sink.
+ */
+public enum ExportOrder {
+
+	/**
+	 * The results are passed in the order of the partitioning path: partition after partition, each sorted by the path.
+	 * The results of the subsequent partitions are read concurrently, but only up to the fetch size (then their queries wait
+	 * until the previous partitions are passed to the sink).
+	 */
+	ORDERED,
+
+	/**
+	 * The results are passed as soon as they are read by any of the partitions, so the slowest partition does not hold the others.
+	 */
+	UNORDERED
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SecondaryTable;
+import jakarta.persistence.SecondaryTables;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import net.kaczmarzyk.spring.data.jpa.domain.SqlPredicate;
+
+/**
+ * <p>Executes simple specifications projected to records directly over JDBC. The predicate is compiled to SQL (see {@link SqlPredicate})
+ * with the names of the table and the columns of the entity, and the rows are mapped to the records with a {@link RowMapper},
+ * so neither the criteria query is compiled nor the entities are loaded.</p>
+ *
+ * <p>Anything else is executed by {@link ParameterizedSpecificationExecutor#findAll(Specification, Class, Sort)}, e.g. specifications with joins
+ * or disjunctions, custom specifications, interface projections, attributes mapped with {@code @Enumerated}, {@code @Convert} or {@code @Lob},
+ * and entities mapped to multiple tables (with inheritance or secondary tables).</p>
+ *
+ * <p>The names of the table and the columns are read from {@code @Table} and {@code @Column}, and converted in the same way
+ * as by the default physical naming strategy of Spring Boot (e.g. {@code firstName} to {@code first_name}), so the entity
+ * must not be mapped with a different naming strategy. Restrictions of the JPA provider (e.g. Hibernate {@code @SQLRestriction} or filters)
+ * are not applied. Pending changes of the persistence context are flushed before the query (if the flush mode is {@code AUTO}),
+ * so that they are visible to it.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * JdbcSpecificationExecutor&lt;Customer&gt; executor = new JdbcSpecificationExecutor&lt;&gt;(parameterizedExecutor, entityManager, dataSource, Customer.class);
+ * List&lt;CustomerName&gt; names = executor.findAll(spec, CustomerName.class, Sort.by("lastName"));
+ * </pre>
+ */
+public class JdbcSpecificationExecutor<T> {
+
+	private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+			String.class, Boolean.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigDecimal.class, BigInteger.class,
+			LocalDate.class, LocalDateTime.class, LocalTime.class);
+
+	private final ParameterizedSpecificationExecutor<T> fallback;
+	private final EntityManager entityManager;
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final Class<T> domainClass;
+	private final String table; // null if the entity is mapped to multiple tables
+	private final Map<String, Optional<String>> columns = new ConcurrentHashMap<>();
+
+	public JdbcSpecificationExecutor(ParameterizedSpecificationExecutor<T> fallback, EntityManager entityManager, DataSource dataSource,
+			Class<T> domainClass) {
+		if (fallback == null || entityManager == null || dataSource == null || domainClass == null) {
+			throw new IllegalArgumentException("Fallback executor, entity manager, data source and domain class must not be null");
+		}
+		this.fallback = fallback;
+		this.entityManager = entityManager;
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+		this.domainClass = domainClass;
+		this.table = resolveTable();
+	}
+
+	/**
+	 * Returns results projected to given record (see {@link ParameterizedSpecificationExecutor#findAll(Specification, Class, Sort)}),
+	 * selected over JDBC if the specification, the projection and the sort can be compiled to SQL.
+	 */
+	public <R> List<R> findAll(Specification<T> spec, Class<R> projection, Sort sort) {
+		List<String> selections = table != null && projection.isRecord() ? selections(projection) : null;
+		List<String> orders = selections != null ? orders(sort) : null;
+		Optional<SqlPredicate> predicate = orders != null ? SqlPredicate.compile(spec, this::column, this::type) : Optional.empty();
+		if (predicate.isEmpty()) {
+			return fallback.findAll(spec, projection, sort);
+		}
+		StringBuilder sql = new StringBuilder("select ").append(String.join(", ", selections)).append(" from ").append(table);
+		if (!predicate.get().getSql().isEmpty()) {
+			sql.append(" where ").append(predicate.get().getSql());
+		}
+		if (!orders.isEmpty()) {
+			sql.append(" order by ").append(String.join(", ", orders));
+		}
+		if (entityManager.isJoinedToTransaction() && entityManager.getFlushMode() == FlushModeType.AUTO) {
+			entityManager.flush();
+		}
+		return jdbcTemplate.query(sql.toString(), predicate.get().getParameters(), rowMapper(projection));
+	}
+
+	/**
+	 * @return the columns of the components of the record, or {@code null} if any of them cannot be selected over JDBC
+	 */
+	private List<String> selections(Class<?> projection) {
+		List<String> selections = new ArrayList<>();
+		for (RecordComponent component : projection.getRecordComponents()) {
+			String column = column(component.getName());
+			if (column == null || ClassUtils.primitiveToWrapper(component.getType()) != type(component.getName())) {
+				return null;
+			}
+			selections.add(column);
+		}
+		return selections;
+	}
+
+	/**
+	 * @return the {@code order by} items of the sort, or {@code null} if any of them cannot be expressed in plain SQL
+	 */
+	private List<String> orders(Sort sort) {
+		List<String> orders = new ArrayList<>();
+		for (Sort.Order order : sort) {
+			String column = column(order.getProperty());
+			if (column == null || order.isIgnoreCase() || order.getNullHandling() != Sort.NullHandling.NATIVE) {
+				return null;
+			}
+			orders.add(column + (order.isAscending() ? " asc" : " desc"));
+		}
+		return orders;
+	}
+
+	private static <R> RowMapper<R> rowMapper(Class<R> projection) {
+		RecordComponent[] components = projection.getRecordComponents();
+		Class<?>[] types = new Class<?>[components.length];
+		for (int i = 0; i < components.length; i++) {
+			types[i] = components[i].getType();
+		}
+		return (resultSet, rowNum) -> {
+			Object[] values = new Object[components.length];
+			for (int i = 0; i < components.length; i++) {
+				values[i] = JdbcUtils.getResultSetValue(resultSet, i + 1, types[i]);
+			}
+			try {
+				return BeanUtils.instantiateClass(projection.getDeclaredConstructor(types), values);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException("Canonical constructor not found for " + projection.getName(), e);
+			}
+		};
+	}
+
+	/**
+	 * @return name of the table of the entity, or {@code null} if the entity is (or may be) mapped to multiple tables
+	 */
+	private String resolveTable() {
+		// subclasses of an entity are mapped to the table of the root entity, or to tables joined to it
+		if (domainClass.getSuperclass().isAnnotationPresent(Entity.class) || domainClass.isAnnotationPresent(Inheritance.class)
+				|| domainClass.isAnnotationPresent(SecondaryTable.class) || domainClass.isAnnotationPresent(SecondaryTables.class)) {
+			return null;
+		}
+		Table table = domainClass.getAnnotation(Table.class);
+		String name = table != null && !table.name().isEmpty() ? table.name() : entityManager.getMetamodel().entity(domainClass).getName();
+		String schema = table != null && !table.schema().isEmpty() ? physicalName(table.schema()) + "." : "";
+		return schema + physicalName(name);
+	}
+
+	/**
+	 * @return name of the column of the attribute, or {@code null} if it cannot be used over JDBC
+	 */
+	private String column(String attributeName) {
+		return columns.computeIfAbsent(attributeName, this::resolveColumn).orElse(null);
+	}
+
+	/**
+	 * @return the (boxed) type of the attribute, or {@code null} if it cannot be used over JDBC
+	 */
+	private Class<?> type(String attributeName) {
+		if (column(attributeName) == null) {
+			return null;
+		}
+		return ClassUtils.primitiveToWrapper(entityManager.getMetamodel().entity(domainClass).getAttribute(attributeName).getJavaType());
+	}
+
+	/**
+	 * @return name of the column of a basic attribute of a supported type which is not converted by the JPA provider
+	 */
+	private Optional<String> resolveColumn(String attributeName) {
+		EntityType<T> entityType = entityManager.getMetamodel().entity(domainClass);
+		Attribute<? super T, ?> attribute;
+		try {
+			attribute = entityType.getAttribute(attributeName);
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+		if (!(attribute instanceof SingularAttribute<?, ?>) || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+				|| !SUPPORTED_TYPES.contains(ClassUtils.primitiveToWrapper(attribute.getJavaType()))
+				|| !(attribute.getJavaMember() instanceof AnnotatedElement member)
+				|| member.isAnnotationPresent(Enumerated.class) || member.isAnnotationPresent(Convert.class) || member.isAnnotationPresent(Lob.class)) {
+			return Optional.empty();
+		}
+		Column column = member.getAnnotation(Column.class);
+		return Optional.of(physicalName(column != null && !column.name().isEmpty() ? column.name() : attributeName));
+	}
+
+	/**
+	 * @return the name converted as by {@code CamelCaseToUnderscoresNamingStrategy} (the default of Spring Boot), e.g. {@code firstName} to {@code first_name}
+	 */
+	static String physicalName(String logicalName) {
+		StringBuilder name = new StringBuilder(logicalName.replace('.', '_'));
+		for (int i = 1; i < name.length() - 1; i++) {
+			if (Character.isLowerCase(name.charAt(i - 1)) && Character.isUpperCase(name.charAt(i)) && Character.isLowerCase(name.charAt(i + 1))) {
+				name.insert(i++, '_');
+			}
+		}
+		return name.toString().toLowerCase(Locale.ROOT);
+	}
+}
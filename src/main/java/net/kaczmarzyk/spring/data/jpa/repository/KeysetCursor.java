@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Opaque cursor of {@link KeysetSpecificationExecutor}: values of the sort keys of the last returned entity, along with the sort
+ * (so that the cursor cannot be used with a different sort), URL-encoded and then Base64-encoded.
+ */
+final class KeysetCursor {
+
+	private static final String ORDER_SEPARATOR = "&";
+	private static final String PART_SEPARATOR = ":";
+
+	private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+			String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class, BigDecimal.class, BigInteger.class,
+			Boolean.class, Character.class, UUID.class,
+			LocalDate.class, LocalDateTime.class, LocalTime.class, Instant.class, OffsetDateTime.class, ZonedDateTime.class);
+
+	private KeysetCursor() {
+	}
+
+	static String encode(List<Sort.Order> orders, List<Object> values) {
+		List<String> parts = new ArrayList<>(orders.size());
+		for (int i = 0; i < orders.size(); i++) {
+			Sort.Order order = orders.get(i);
+			Object value = values.get(i);
+			String part = urlEncode(order.getProperty()) + PART_SEPARATOR + order.getDirection();
+			parts.add(value == null ? part : part + PART_SEPARATOR + urlEncode(format(value))); // the value is omitted if it is null
+		}
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(String.join(ORDER_SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return raw (not converted) values of the sort keys ({@code null} for null keys)
+	 */
+	static List<String> decode(String cursor, List<Sort.Order> orders) {
+		String decoded;
+		try {
+			decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+		}
+		String[] parts = decoded.split(ORDER_SEPARATOR, -1);
+		if (parts.length != orders.size()) {
+			throw new IllegalArgumentException("Cursor does not match the sort: " + Sort.by(orders));
+		}
+		List<String> values = new ArrayList<>(parts.length);
+		for (int i = 0; i < parts.length; i++) {
+			String[] propertyDirectionValue = parts[i].split(PART_SEPARATOR, 3);
+			Sort.Order order = orders.get(i);
+			if (propertyDirectionValue.length < 2
+					|| !order.getProperty().equals(urlDecode(propertyDirectionValue[0]))
+					|| !order.getDirection().name().equals(propertyDirectionValue[1])) {
+				throw new IllegalArgumentException("Cursor does not match the sort: " + Sort.by(orders));
+			}
+			values.add(propertyDirectionValue.length == 3 ? urlDecode(propertyDirectionValue[2]) : null);
+		}
+		return values;
+	}
+
+	private static String format(Object value) {
+		if (value instanceof Enum<?> enumValue) {
+			return enumValue.name();
+		}
+		return value.toString(); // ISO-8601 for java.time types
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static Object parse(String value, Class<?> type) {
+		Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		try {
+			if (targetType == String.class) {
+				return value;
+			} else if (targetType == Integer.class) {
+				return Integer.valueOf(value);
+			} else if (targetType == Long.class) {
+				return Long.valueOf(value);
+			} else if (targetType == Short.class) {
+				return Short.valueOf(value);
+			} else if (targetType == Byte.class) {
+				return Byte.valueOf(value);
+			} else if (targetType == Double.class) {
+				return Double.valueOf(value);
+			} else if (targetType == Float.class) {
+				return Float.valueOf(value);
+			} else if (targetType == BigDecimal.class) {
+				return new BigDecimal(value);
+			} else if (targetType == BigInteger.class) {
+				return new BigInteger(value);
+			} else if (targetType == Boolean.class) {
+				return Boolean.valueOf(value);
+			} else if (targetType == Character.class && value.length() == 1) {
+				return value.charAt(0);
+			} else if (targetType == UUID.class) {
+				return UUID.fromString(value);
+			} else if (targetType.isEnum()) {
+				return Enum.valueOf((Class<Enum>) targetType, value);
+			} else if (targetType == LocalDate.class) {
+				return LocalDate.parse(value);
+			} else if (targetType == LocalDateTime.class) {
+				return LocalDateTime.parse(value);
+			} else if (targetType == LocalTime.class) {
+				return LocalTime.parse(value);
+			} else if (targetType == Instant.class) {
+				return Instant.parse(value);
+			} else if (targetType == OffsetDateTime.class) {
+				return OffsetDateTime.parse(value);
+			} else if (targetType == ZonedDateTime.class) {
+				return ZonedDateTime.parse(value);
+			}
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid cursor value '" + value + "' for type " + targetType.getName(), e);
+		}
+		throw new IllegalArgumentException("Unsupported type of a sort key: " + type.getName());
+	}
+
+	static boolean isSupportedType(Class<?> type) {
+		Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		return SUPPORTED_TYPES.contains(targetType) || targetType.isEnum();
+	}
+
+	private static String urlEncode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	private static String urlDecode(String value) {
+		return URLDecoder.decode(value, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.util.List;
+
+/**
+ * A slice of results returned by {@link KeysetSpecificationExecutor}.
+ *
+ * @param content the entities of the slice
+ * @param nextCursor the cursor of the next slice, or {@code null} if this is the last one
+ */
+public record KeysetSlice<T>(List<T> content, String nextCursor) {
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
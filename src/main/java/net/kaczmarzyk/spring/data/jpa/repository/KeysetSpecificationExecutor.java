@@ -0,0 +1,252 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.NullValueInNestedPathException;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues.QueryParameters;
+
+/**
+ * <p>Executes specifications with keyset (seek) pagination: instead of skipping {@code offset} rows (which gets slower with each page),
+ * the next slice starts right after the sort keys of the last returned entity, e.g. for {@code Sort.by("lastName")}:</p>
+ *
+ * <pre>
+ * select c from Customer c where (spec) and (c.lastName &gt; ?1 or (c.lastName = ?1 and c.id &gt; ?2)) order by c.lastName, c.id
+ * </pre>
+ *
+ * <p>The sort keys of the last entity are returned as an opaque cursor (see {@link KeysetSlice#nextCursor()}) which should be passed
+ * to get the next slice. The id is appended to the sort (if not present), so that the order is unique. The count query is never executed.</p>
+ *
+ * <p>Sort properties must be basic attributes of the entity (or of its embeddables) and case-sensitive. Optional (nullable) attributes
+ * are sorted with nulls last, unless the sort specifies the null handling explicitly, so that the seek predicate does not depend on
+ * how the database sorts nulls: {@code (c.nickName > ?1 or c.nickName is null) or (c.nickName = ?1 and c.id > ?2)}.
+ * The values of the specifications and of the cursor are bound as parameters (see {@link ParameterizedSpecificationExecutor}).</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * KeysetSpecificationExecutor&lt;Customer&gt; executor = new KeysetSpecificationExecutor&lt;&gt;(entityManager, Customer.class);
+ * KeysetSlice&lt;Customer&gt; first = executor.findSlice(spec, Sort.by("lastName"), null, 20);
+ * KeysetSlice&lt;Customer&gt; second = executor.findSlice(spec, Sort.by("lastName"), first.nextCursor(), 20);
+ * </pre>
+ */
+public class KeysetSpecificationExecutor<T> {
+
+	private final EntityManager entityManager;
+	private final Class<T> domainClass;
+	private final EntityType<T> entityType;
+	private final String idAttribute;
+
+	public KeysetSpecificationExecutor(EntityManager entityManager, Class<T> domainClass) {
+		if (entityManager == null || domainClass == null) {
+			throw new IllegalArgumentException("Entity manager and domain class must not be null");
+		}
+		this.entityManager = entityManager;
+		this.domainClass = domainClass;
+		this.entityType = entityManager.getMetamodel().entity(domainClass);
+		if (!entityType.hasSingleIdAttribute()) {
+			throw new IllegalArgumentException("Keyset pagination requires an entity with a single id attribute, but was: " + domainClass.getName());
+		}
+		this.idAttribute = entityType.getId(entityType.getIdType().getJavaType()).getName();
+	}
+
+	/**
+	 * @param cursor cursor returned with the previous slice, or {@code null} to get the first slice
+	 * @param limit maximum number of entities in the slice
+	 */
+	public KeysetSlice<T> findSlice(Specification<T> spec, Sort sort, String cursor, int limit) {
+		if (limit < 1) {
+			throw new IllegalArgumentException("Limit must be positive, but was: " + limit);
+		}
+		List<Sort.Order> orders = uniqueOrders(sort);
+		List<String> lastKeys = cursor != null ? KeysetCursor.decode(cursor, orders) : null;
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> query = cb.createQuery(domainClass);
+		Root<T> root = query.from(domainClass);
+		QueryParameters parameters = CriteriaValues.collectParameters(() -> {
+			List<Predicate> predicates = new ArrayList<>(2);
+			Predicate specPredicate = spec.toPredicate(root, query, cb);
+			if (specPredicate != null) {
+				predicates.add(specPredicate);
+			}
+			if (lastKeys != null) {
+				predicates.add(seekPredicate(root, cb, orders, lastKeys));
+			}
+			if (!predicates.isEmpty()) {
+				query.where(predicates.toArray(new Predicate[0]));
+			}
+		});
+		query.select(root);
+		query.orderBy(QueryUtils.toOrders(Sort.by(orders), root, cb));
+
+		TypedQuery<T> typedQuery = entityManager.createQuery(query);
+		parameters.bindTo(typedQuery);
+		List<T> results = typedQuery.setMaxResults(limit + 1).getResultList(); // one more to find out if there is a next slice
+
+		if (results.size() <= limit) {
+			return new KeysetSlice<>(results, null);
+		}
+		List<T> content = new ArrayList<>(results.subList(0, limit));
+		return new KeysetSlice<>(content, KeysetCursor.encode(orders, sortKeys(content.get(limit - 1), orders)));
+	}
+
+	/**
+	 * Returns the cursor which points right after given entity, i.e. the slice requested with it starts with the next entity
+	 * in the given sort (e.g. to resume reading after the last processed entity).
+	 */
+	public String cursorOf(T entity, Sort sort) {
+		List<Sort.Order> orders = uniqueOrders(sort);
+		return KeysetCursor.encode(orders, sortKeys(entity, orders));
+	}
+
+	/**
+	 * {@code (a > ?) or (a = ? and b > ?) or ...} ({@code <} for descending orders). Row value comparison ({@code (a, b) > (?, ?)})
+	 * is not available in the Criteria API and would not work with mixed directions anyway.
+	 */
+	private Predicate seekPredicate(Root<T> root, CriteriaBuilder cb, List<Sort.Order> orders, List<String> lastKeys) {
+		List<Predicate> alternatives = new ArrayList<>(orders.size());
+		for (int i = 0; i < orders.size(); i++) {
+			List<Predicate> conditions = new ArrayList<>(i + 1);
+			for (int j = 0; j < i; j++) {
+				Path<?> path = path(root, orders.get(j).getProperty());
+				Object lastKey = parse(lastKeys.get(j), path);
+				conditions.add(lastKey == null ? cb.isNull(path) : cb.equal(path, CriteriaValues.bound(cb, lastKey)));
+			}
+			Predicate following = following(root, cb, orders.get(i), lastKeys.get(i));
+			if (following != null) {
+				conditions.add(following);
+				alternatives.add(cb.and(conditions.toArray(new Predicate[0])));
+			}
+		}
+		return cb.or(alternatives.toArray(new Predicate[0]));
+	}
+
+	/**
+	 * @return predicate matching the values which follow the last key in given order, or {@code null} if there are none
+	 * (i.e. the last key is {@code null} and nulls are sorted last)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Predicate following(Root<T> root, CriteriaBuilder cb, Sort.Order order, String rawLastKey) {
+		Expression<Comparable> path = (Expression<Comparable>) path(root, order.getProperty());
+		Comparable lastKey = (Comparable) parse(rawLastKey, (Path<?>) path);
+		if (lastKey == null) {
+			return order.getNullHandling() == Sort.NullHandling.NULLS_FIRST ? cb.isNotNull(path) : null;
+		}
+		Predicate following = order.isAscending() ?
+				cb.greaterThan(path, CriteriaValues.bound(cb, lastKey)) :
+				cb.lessThan(path, CriteriaValues.bound(cb, lastKey));
+		return order.getNullHandling() == Sort.NullHandling.NULLS_LAST ? cb.or(following, cb.isNull(path)) : following;
+	}
+
+	private static Object parse(String rawKey, Path<?> path) {
+		return rawKey == null ? null : KeysetCursor.parse(rawKey, path.getJavaType());
+	}
+
+	private List<Sort.Order> uniqueOrders(Sort sort) {
+		List<Sort.Order> orders = new ArrayList<>();
+		boolean containsId = false;
+		for (Sort.Order order : sort) {
+			boolean optional = validate(order);
+			containsId |= order.getProperty().equals(idAttribute);
+			// explicit null handling, as databases differ in where they sort nulls by default
+			orders.add(optional && order.getNullHandling() == Sort.NullHandling.NATIVE ? order.nullsLast() : order);
+		}
+		if (!containsId) {
+			orders.add(Sort.Order.asc(idAttribute));
+		}
+		return orders;
+	}
+
+	/**
+	 * @return whether the sort property is optional, i.e. it may be {@code null}
+	 */
+	private boolean validate(Sort.Order order) {
+		if (order.isIgnoreCase()) {
+			throw new IllegalArgumentException("Keyset pagination does not support ignore case sort: " + order);
+		}
+		boolean optional = false;
+		ManagedType<?> type = entityType;
+		String[] segments = order.getProperty().split("\\.");
+		for (int i = 0; i < segments.length; i++) {
+			Attribute<?, ?> attribute;
+			try {
+				attribute = type.getAttribute(segments[i]);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Unknown sort property: " + order.getProperty(), e);
+			}
+			if (!(attribute instanceof SingularAttribute<?, ?> singular)) {
+				throw new IllegalArgumentException("Sort property must not be a collection: " + order.getProperty());
+			}
+			optional |= singular.isOptional();
+			boolean last = i == segments.length - 1;
+			Type.PersistenceType persistenceType = singular.getType().getPersistenceType();
+			if (!last && persistenceType == Type.PersistenceType.EMBEDDABLE) {
+				type = (ManagedType<?>) singular.getType();
+			} else if (!last || persistenceType != Type.PersistenceType.BASIC || !KeysetCursor.isSupportedType(singular.getJavaType())) {
+				throw new IllegalArgumentException("Sort property must be a basic attribute of the entity or of its embeddable: " + order.getProperty());
+			}
+		}
+		return optional;
+	}
+
+	private static Path<?> path(Root<?> root, String property) {
+		Path<?> path = root;
+		for (String segment : property.split("\\.")) {
+			path = path.get(segment);
+		}
+		return path;
+	}
+
+	private List<Object> sortKeys(T entity, List<Sort.Order> orders) {
+		PropertyAccessor accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+		List<Object> keys = new ArrayList<>(orders.size());
+		for (Sort.Order order : orders) {
+			if (order.getProperty().equals(idAttribute)) {
+				keys.add(entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity));
+			} else {
+				try {
+					keys.add(accessor.getPropertyValue(order.getProperty()));
+				} catch (NullValueInNestedPathException e) {
+					keys.add(null); // e.g. address.street of a customer without address
+				}
+			}
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import static net.kaczmarzyk.spring.data.jpa.repository.SpecificationQueries.applyPage;
+import static net.kaczmarzyk.spring.data.jpa.repository.SpecificationQueries.fetchesCollection;
+import static net.kaczmarzyk.spring.data.jpa.repository.SpecificationQueries.idAttribute;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import net.kaczmarzyk.spring.data.jpa.domain.InListStrategy;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues.QueryParameters;
+
+/**
+ * <p>Loads the content of a page of entities (without counting the total).</p>
+ *
+ * <p>If the specification fetches a collection (e.g. with {@code @JoinFetch}), the offset and the limit cannot be applied
+ * to the SQL query, as the rows of an entity are multiplied by the elements of the collection (Hibernate paginates in memory then,
+ * see HHH90003004). Therefore the page is loaded in two phases instead: the ids of the page are selected first
+ * (with the filters, the sort and the limit, but without fetches), then the entities with these ids are loaded with the fetches
+ * and reordered to match the ids.</p>
+ *
+ * <p>The same applies to a join on a collection which is not distinct in SQL (see {@code DistinctStrategy}), as the limit
+ * would count the duplicated rows. Only the query of ids is distinct then.</p>
+ */
+class PageContentLoader<T> {
+
+	private final SpecificationQueries<T> queries;
+
+	PageContentLoader(SpecificationQueries<T> queries) {
+		this.queries = queries;
+	}
+
+	List<T> findContent(Specification<T> spec, Pageable pageable) {
+		EntityManager entityManager = queries.entityManager();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> query = cb.createQuery(queries.domainClass());
+		Root<T> root = query.from(queries.domainClass());
+		SpecificationQueries<T>.EvaluatedSpecification evaluated = queries.evaluate(() -> queries.applySpecification(spec, root, query, cb));
+		Optional<SingularAttribute<?, ?>> idAttribute = idAttribute(root);
+		boolean multipliesRows = evaluated.multipliesRows(query, root);
+		if ((fetchesCollection(root) || evaluated.fetchGraph().fetchesCollection(root.getModel()) || multipliesRows) && idAttribute.isPresent()) {
+			// the query (with the fetches) is reused for the second phase, restricted to the ids of the page
+			return findContentInTwoPhases(spec, pageable, query, root, evaluated, idAttribute.get().getName());
+		}
+		if (multipliesRows) {
+			query.distinct(true); // the ids cannot be selected separately, so the duplicates are removed in SQL
+		}
+		query.select(root);
+		if (pageable.getSort().isSorted()) {
+			query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+		}
+
+		TypedQuery<T> typedQuery = entityManager.createQuery(query);
+		evaluated.applyTo(typedQuery);
+		applyPage(typedQuery, pageable);
+		return evaluated.getResultList(typedQuery);
+	}
+
+	private List<T> findContentInTwoPhases(Specification<T> spec, Pageable pageable, CriteriaQuery<T> query, Root<T> root,
+			SpecificationQueries<T>.EvaluatedSpecification evaluated, String idAttribute) {
+		List<Object> ids = findIds(spec, pageable, idAttribute);
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		EntityManager entityManager = queries.entityManager();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		// not within the parameters collected for the query, as their names are already taken (see CriteriaValues#bound)
+		Predicate idIn = InListStrategy.PLAIN.in(root.get(idAttribute), ids, cb);
+		query.where(query.getRestriction() != null ? cb.and(query.getRestriction(), idIn) : idIn);
+		query.select(root);
+
+		TypedQuery<T> typedQuery = entityManager.createQuery(query);
+		evaluated.applyTo(typedQuery);
+		PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+		Map<Object, T> entitiesById = new HashMap<>();
+		for (T entity : evaluated.getResultList(typedQuery)) {
+			entitiesById.put(persistenceUnitUtil.getIdentifier(entity), entity);
+		}
+		return ids.stream()
+				.map(entitiesById::get)
+				.filter(Objects::nonNull) // e.g. deleted between the phases
+				.toList();
+	}
+
+	/**
+	 * @return ids of the entities of given page, in the order of the page
+	 */
+	private List<Object> findIds(Specification<T> spec, Pageable pageable, String idAttribute) {
+		EntityManager entityManager = queries.entityManager();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery(); // not an entity query, so that the specification does not apply fetches
+		Root<T> root = query.from(queries.domainClass());
+		QueryParameters parameters = CriteriaValues.collectParameters(() -> queries.applySpecification(spec, root, query, cb));
+		List<Selection<?>> selections = new ArrayList<>();
+		selections.add(root.get(idAttribute));
+		if (pageable.getSort().isSorted()) {
+			List<Order> orders = QueryUtils.toOrders(pageable.getSort(), root, cb);
+			query.orderBy(orders);
+			// a distinct query must select the expressions it is ordered by
+			orders.forEach(order -> selections.add(order.getExpression()));
+		}
+		query.select(cb.tuple(selections.toArray(new Selection<?>[0])));
+
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+		parameters.bindTo(typedQuery);
+		applyPage(typedQuery, pageable);
+		return typedQuery.getResultList().stream()
+				.map(tuple -> tuple.get(0))
+				.toList();
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import net.kaczmarzyk.spring.data.jpa.domain.CountCapped;
+import net.kaczmarzyk.spring.data.jpa.domain.MarkerWrapper;
+
+/**
+ * <p>{@link ParameterizedSpecificationExecutor} which executes the count query of a page concurrently with the content query,
+ * so the latency of a page is close to the slower of the two queries rather than to their sum.</p>
+ *
+ * <p>The content query is executed on the calling thread with the given {@code EntityManager} (e.g. within the transaction of the request,
+ * so that the returned entities are managed and can load lazy associations). The count query is executed by the given {@link Executor}
+ * with its own {@code EntityManager} created by the {@code EntityManagerFactory}, i.e. outside the transaction of the caller
+ * (it does not see uncommitted changes of the caller) and with its own database connection. The connection pool should be sized accordingly.</p>
+ *
+ * <p>On Java 21+ the recommended executor is {@code Executors.newVirtualThreadPerTaskExecutor()}, as both queries block on I/O.
+ * The resolved specifications can be evaluated concurrently (the query context of the resolver is thread-safe),
+ * custom specifications must not modify shared state in {@code toPredicate}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * JpaSpecificationExecutor&lt;Customer&gt; executor = new ParallelCountSpecificationExecutor&lt;&gt;(
+ *         customerRepository, entityManager, Customer.class, Executors.newVirtualThreadPerTaskExecutor());
+ * Page&lt;Customer&gt; customers = executor.findAll(spec, pageable);
+ * </pre>
+ */
+public class ParallelCountSpecificationExecutor<T> extends ParameterizedSpecificationExecutor<T> {
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final Class<T> domainClass;
+	private final Executor countExecutor;
+
+	public ParallelCountSpecificationExecutor(JpaSpecificationExecutor<T> delegate, EntityManager entityManager, Class<T> domainClass,
+			Executor countExecutor) {
+		super(delegate, entityManager, domainClass);
+		if (countExecutor == null) {
+			throw new IllegalArgumentException("Count executor must not be null");
+		}
+		this.entityManagerFactory = entityManager.getEntityManagerFactory();
+		this.domainClass = domainClass;
+		this.countExecutor = countExecutor;
+	}
+
+	@Override
+	public Page<T> findAll(Specification<T> spec, Specification<T> countSpec, Pageable pageable) {
+		if (pageable.isUnpaged() || MarkerWrapper.findMarker(countSpec, CountCapped.class).isPresent()) {
+			return super.findAll(spec, countSpec, pageable);
+		}
+		CompletableFuture<Long> total = CompletableFuture.supplyAsync(() -> countWithOwnEntityManager(countSpec), countExecutor);
+		List<T> content;
+		try {
+			content = findContent(spec, pageable);
+		} catch (RuntimeException e) {
+			total.cancel(false);
+			throw e;
+		}
+		// the count is not awaited if the total can be computed from the content (e.g. on the last page)
+		return PageableExecutionUtils.getPage(content, pageable, () -> await(total));
+	}
+
+	private long countWithOwnEntityManager(Specification<T> countSpec) {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			return new ParameterizedSpecificationExecutor<>(this, entityManager, domainClass).count(countSpec);
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	private static long await(CompletableFuture<Long> total) {
+		try {
+			return total.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.DeleteSpecification;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.domain.UpdateSpecification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import net.kaczmarzyk.spring.data.jpa.domain.CountCapped;
+import net.kaczmarzyk.spring.data.jpa.domain.FieldSelection;
+import net.kaczmarzyk.spring.data.jpa.domain.MarkerWrapper;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+
+/**
+ * <p>Decorator of {@link JpaSpecificationExecutor} (e.g. a Spring Data repository) which executes the queries with the values of the specifications
+ * (e.g. HTTP param values) bound as named query parameters (see {@link CriteriaValues#collectParameters(Runnable)}).</p>
+ *
+ * <p>The structure of the criteria query depends then only on the shape of the specification (i.e. spec classes, paths, joins and numbers of values),
+ * but not on the values. Therefore the JPA provider can compile each shape to SQL only once and cache it, e.g. Hibernate does it if
+ * {@code hibernate.criteria.plan_cache_enabled=true} (the size of the cache is limited by {@code hibernate.query.plan_cache_max_size}).
+ * Values passed directly to {@code CriteriaBuilder} (e.g. by custom specifications) work as well, but a query which contains them is not reused.</p>
+ *
+ * <p>{@code findAll}, {@code findOne}, {@code count} and {@code exists} are executed by this class
+ * (query hints and lock modes of the repository methods are not applied), other methods are passed to the decorated executor.</p>
+ *
+ * <p>Results can be also projected to records or interfaces (see {@link #findAll(Specification, Class, Sort)}), or read as values of selected fields
+ * (see {@link #findFields(Specification, Pageable)}). Only the needed attributes are selected and no entities are loaded into the persistence context.</p>
+ *
+ * <p>Associations marked with {@code @BatchFetch} are loaded after the query, with a single query per association
+ * for all the returned entities (e.g. for the whole page).</p>
+ *
+ * <p>Large results (e.g. exports) can be read with a database cursor, in chunks of constant size (see {@link #stream(Specification, Sort, int)}).</p>
+ *
+ * <p>The total number of elements of a page is counted with a separate query by default. With {@link CountMode#WINDOW_FUNCTION}
+ * it is selected together with the content of the page instead, so a page requires a single round trip.
+ * Count of a {@link CountCapped} specification (e.g. resolved with {@code @CountCap}) is limited to the cap
+ * (see {@link #findAll(Specification, Pageable, int)}). Both apply to the pages of projections and selected fields as well.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * JpaSpecificationExecutor&lt;Customer&gt; executor = new ParameterizedSpecificationExecutor&lt;&gt;(customerRepository, entityManager, Customer.class);
+ * Page&lt;Customer&gt; customers = executor.findAll(spec, pageable);
+ * </pre>
+ */
+public class ParameterizedSpecificationExecutor<T> implements JpaSpecificationExecutor<T> {
+
+	/**
+	 * Default number of rows fetched from the database cursor at once by {@link #stream(Specification, Sort)}.
+	 */
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
+	private final JpaSpecificationExecutor<T> delegate;
+	private final CountMode countMode;
+	private final SpecificationQueries<T> queries;
+	private final PageContentLoader<T> contentLoader;
+	private final CountQueries<T> countQueries;
+	private final ProjectionQueries<T> projectionQueries;
+	private final CursorStreams<T> cursorStreams;
+
+	public ParameterizedSpecificationExecutor(JpaSpecificationExecutor<T> delegate, EntityManager entityManager, Class<T> domainClass) {
+		this(delegate, entityManager, domainClass, CountMode.SEPARATE_QUERY);
+	}
+
+	public ParameterizedSpecificationExecutor(JpaSpecificationExecutor<T> delegate, EntityManager entityManager, Class<T> domainClass,
+			CountMode countMode) {
+		if (delegate == null || entityManager == null || domainClass == null || countMode == null) {
+			throw new IllegalArgumentException("Delegate executor, entity manager, domain class and count mode must not be null");
+		}
+		this.delegate = delegate;
+		this.countMode = countMode;
+		this.queries = new SpecificationQueries<>(entityManager, domainClass);
+		this.contentLoader = new PageContentLoader<>(queries);
+		this.countQueries = new CountQueries<>(queries);
+		this.projectionQueries = new ProjectionQueries<>(queries, contentLoader, countQueries);
+		this.cursorStreams = new CursorStreams<>(queries);
+	}
+
+	@Override
+	public Optional<T> findOne(Specification<T> spec) {
+		List<T> results = queries.load(spec, Sort.unsorted(), 2);
+		if (results.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1);
+		}
+		return results.stream().findFirst();
+	}
+
+	@Override
+	public List<T> findAll(Specification<T> spec) {
+		return queries.load(spec, Sort.unsorted(), null);
+	}
+
+	@Override
+	public Page<T> findAll(Specification<T> spec, Pageable pageable) {
+		return findAll(spec, spec, pageable);
+	}
+
+	@Override
+	public Page<T> findAll(Specification<T> spec, Specification<T> countSpec, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(queries.load(spec, pageable.getSort(), null));
+		}
+		if (spec == countSpec && isWindowCount(spec)) {
+			Page<T> page = countQueries.findPageWithWindowCount(spec, pageable);
+			if (page != null) {
+				return page;
+			}
+		}
+		return toPage(findContent(spec, pageable), countSpec, pageable);
+	}
+
+	/**
+	 * @return whether the total should be selected together with the content (the cap of a {@link CountCapped} specification takes precedence)
+	 */
+	private boolean isWindowCount(Specification<T> spec) {
+		return countMode == CountMode.WINDOW_FUNCTION && MarkerWrapper.findMarker(spec, CountCapped.class).isEmpty();
+	}
+
+	/**
+	 * Returns page of given content with the total counted with a separate query, up to the cap if the specification is {@link CountCapped}.
+	 */
+	private <R> Page<R> toPage(List<R> content, Specification<T> countSpec, Pageable pageable) {
+		Optional<CountCapped> capped = MarkerWrapper.findMarker(countSpec, CountCapped.class);
+		if (capped.isPresent()) {
+			return toCappedPage(content, countSpec, pageable, capped.get().getCountCap());
+		}
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(countSpec));
+	}
+
+	/**
+	 * Returns the content of given page (without counting the total), loaded in two phases if the rows of the entities
+	 * are multiplied by a fetched or joined collection (see {@link PageContentLoader}).
+	 */
+	List<T> findContent(Specification<T> spec, Pageable pageable) {
+		return contentLoader.findContent(spec, pageable);
+	}
+
+	/**
+	 * <p>Returns a page of results with the total number of elements counted only up to the given cap. If more elements match the specification,
+	 * the total of the page is equal to the cap and {@link CappedPage#isTotalCapped()} is {@code true}.</p>
+	 *
+	 * <p>Instead of {@code select count(*) from ... where ...}, which has to visit all the matching rows, the rows are read
+	 * with a limit of {@code cap + 1} (selecting only a constant or the id, e.g. {@code select 1 from ... where ... fetch first ? rows only})
+	 * and counted, so an exact count of a broad filter is avoided.</p>
+	 */
+	public CappedPage<T> findAll(Specification<T> spec, Pageable pageable, int countCap) {
+		if (countCap <= 0) {
+			throw new IllegalArgumentException("Count cap must be positive, but was: " + countCap);
+		}
+		if (pageable.isUnpaged()) {
+			List<T> content = queries.load(spec, pageable.getSort(), null);
+			return new CappedPage<>(content, pageable, content.size(), false);
+		}
+		return toCappedPage(findContent(spec, pageable), spec, pageable, countCap);
+	}
+
+	private <R> CappedPage<R> toCappedPage(List<R> content, Specification<T> countSpec, Pageable pageable, int countCap) {
+		if (!content.isEmpty() && content.size() < pageable.getPageSize() || content.isEmpty() && pageable.getOffset() == 0) {
+			// the last page (the same shortcut as in PageableExecutionUtils)
+			return new CappedPage<>(content, pageable, pageable.getOffset() + content.size(), false);
+		}
+		long count = countQueries.countUpTo(countSpec, countCap + 1);
+		return count > countCap
+				? new CappedPage<>(content, pageable, countCap, true)
+				: new CappedPage<>(content, pageable, count, false);
+	}
+
+	@Override
+	public List<T> findAll(Specification<T> spec, Sort sort) {
+		return queries.load(spec, sort, null);
+	}
+
+	/**
+	 * <p>Returns results projected to given record. Its components must have the same names and types as the (basic or embedded) attributes
+	 * of the entity, e.g. {@code record CustomerName(String firstName, String lastName)}. The values are selected with a constructor expression
+	 * ({@code select new CustomerName(c.firstName, c.lastName) ...}), i.e. without loading the entities.</p>
+	 *
+	 * <p>The projection can be also a closed interface projection (e.g. {@code interface CustomerName { String getFirstName(); }}),
+	 * then the attributes of its getters are selected as with {@link #findFields(Specification, List, Sort)}.</p>
+	 *
+	 * <p>If the specification makes the query distinct (e.g. joins a collection) or fetches associations, the projection cannot be selected
+	 * without changing the result (distinct projection would merge different entities with the same values), so the entities
+	 * are loaded and mapped to records instead.</p>
+	 */
+	public <R> List<R> findAll(Specification<T> spec, Class<R> projection, Sort sort) {
+		return projectionQueries.findAll(spec, projection, sort, null);
+	}
+
+	/**
+	 * Returns a page of results projected to given record (see {@link #findAll(Specification, Class, Sort)}).
+	 */
+	public <R> Page<R> findAll(Specification<T> spec, Class<R> projection, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(projectionQueries.findAll(spec, projection, pageable.getSort(), null));
+		}
+		if (isWindowCount(spec)) {
+			Page<R> page = projectionQueries.findAllWithWindowCount(spec, projection, pageable);
+			if (page != null) {
+				return page;
+			}
+		}
+		return toPage(projectionQueries.findAll(spec, projection, pageable.getSort(), pageable), spec, pageable);
+	}
+
+	/**
+	 * <p>Returns values of the fields selected by the specification (see {@link FieldSelection}, e.g. resolved with {@code @SelectedFields}).
+	 * See {@link #findFields(Specification, List, Sort)}.</p>
+	 *
+	 * @throws IllegalArgumentException if the specification does not select fields
+	 */
+	public List<Map<String, Object>> findFields(Specification<T> spec, Sort sort) {
+		return findFields(spec, selectedFields(spec), sort);
+	}
+
+	/**
+	 * Returns a page of values of the fields selected by the specification (see {@link #findFields(Specification, Sort)}).
+	 */
+	public Page<Map<String, Object>> findFields(Specification<T> spec, Pageable pageable) {
+		return findFields(spec, selectedFields(spec), pageable);
+	}
+
+	/**
+	 * <p>Returns values of given (basic or embedded) attributes of the results, as maps from the attribute names to the values
+	 * (in the order of the fields). Only these attributes are selected, e.g. {@code select c.firstName, c.lastName from Customer c ...},
+	 * so neither whole rows are read nor the entities are loaded into the persistence context.</p>
+	 *
+	 * <p>If the specification makes the query distinct (e.g. joins a collection), the id is selected as well (and the attributes of the sort),
+	 * so that different entities with equal values are not merged.</p>
+	 */
+	public List<Map<String, Object>> findFields(Specification<T> spec, List<String> fields, Sort sort) {
+		return projectionQueries.findFields(spec, fields, sort, null);
+	}
+
+	/**
+	 * Returns a page of values of given attributes of the results (see {@link #findFields(Specification, List, Sort)}).
+	 */
+	public Page<Map<String, Object>> findFields(Specification<T> spec, List<String> fields, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(projectionQueries.findFields(spec, fields, pageable.getSort(), null));
+		}
+		if (isWindowCount(spec)) {
+			Page<Map<String, Object>> page = projectionQueries.findFieldsWithWindowCount(spec, fields, pageable);
+			if (page != null) {
+				return page;
+			}
+		}
+		return toPage(projectionQueries.findFields(spec, fields, pageable.getSort(), pageable), spec, pageable);
+	}
+
+	private static List<String> selectedFields(Specification<?> spec) {
+		return MarkerWrapper.findMarker(spec, FieldSelection.class)
+				.orElseThrow(() -> new IllegalArgumentException("Specification does not select fields (e.g. with @SelectedFields): " + spec))
+				.getSelectedFields();
+	}
+
+	/**
+	 * Returns the results as a stream read from a database cursor, with {@link #DEFAULT_FETCH_SIZE}
+	 * (see {@link #stream(Specification, Sort, int)}).
+	 */
+	public Stream<T> stream(Specification<T> spec, Sort sort) {
+		return stream(spec, sort, DEFAULT_FETCH_SIZE);
+	}
+
+	/**
+	 * <p>Returns the results as a stream read from a forward-only database cursor, so that all of them do not have to be held in memory
+	 * (e.g. for CSV exports). The rows are fetched in chunks of {@code fetchSize} (as a hint for the JDBC driver), the entities are loaded
+	 * as read-only (if supported by the JPA provider, e.g. Hibernate), and the associations marked with {@code @BatchFetch} are loaded
+	 * for each chunk.</p>
+	 *
+	 * <p>The streamed entities of each chunk (and their associations loaded with {@code @BatchFetch}) are detached before the next chunk
+	 * is read, so the memory used by the stream does not depend on the number of results. The rest of the persistence context
+	 * is left intact, but the entities loaded along with the streamed ones (e.g. eager to-one associations) stay managed until
+	 * the transaction ends. An entity which was managed before streaming gets detached as well when it is streamed, so its pending
+	 * changes should be flushed first.</p>
+	 *
+	 * <p>The stream must be consumed within the transaction and closed afterwards (e.g. with try-with-resources),
+	 * so that the cursor is released. Some JDBC drivers require additional settings to fetch rows in chunks
+	 * (e.g. PostgreSQL requires a transaction, MySQL requires {@code useCursorFetch=true}).</p>
+	 *
+	 * @throws IllegalArgumentException if the specification fetches a collection (the rows of an entity could be split between chunks),
+	 * use {@code @BatchFetch} instead
+	 */
+	public Stream<T> stream(Specification<T> spec, Sort sort, int fetchSize) {
+		return cursorStreams.stream(spec, sort, fetchSize);
+	}
+
+	/**
+	 * Passes the results read from a database cursor to given action, one by one (see {@link #stream(Specification, Sort, int)}).
+	 * The cursor is closed afterwards.
+	 */
+	public void forEach(Specification<T> spec, Sort sort, int fetchSize, Consumer<? super T> action) {
+		try (Stream<T> results = stream(spec, sort, fetchSize)) {
+			results.forEach(action);
+		}
+	}
+
+	@Override
+	public long count(Specification<T> spec) {
+		return queries.count(spec);
+	}
+
+	@Override
+	public boolean exists(Specification<T> spec) {
+		return queries.exists(spec);
+	}
+
+	@Override
+	public long update(UpdateSpecification<T> spec) {
+		return delegate.update(spec);
+	}
+
+	@Override
+	public long delete(DeleteSpecification<T> spec) {
+		return delegate.delete(spec);
+	}
+
+	@Override
+	public <S extends T, R> R findBy(Specification<T> spec, Function<? super SpecificationFluentQuery<S>, R> queryFunction) {
+		return delegate.findBy(spec, queryFunction);
+	}
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.util.ClassUtils;
+
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues.QueryParameters;
+
+/**
+ * <p>Exports the results of a specification with multiple queries executed in parallel, each reading a range of the values
+ * of a numeric or temporal path (e.g. the id or the registration date). The minimum and the maximum of the path are selected first
+ * (with a single query with the filters of the specification), then the range is split into partitions of equal width
+ * and each of them is read as {@code (spec) and path >= ? and path < ?}:</p>
+ *
+ * <pre>
+ * select min(c.id), max(c.id), count(c), count(c.id) from Customer c where (spec)
+ * select c from Customer c where (spec) and c.id &lt; ?                  -- on thread 1
+ * select c from Customer c where (spec) and c.id &gt;= ? and c.id &lt; ?   -- on thread 2
+ * select c from Customer c where (spec) and c.id &gt;= ?                 -- on thread 3
+ * </pre>
+ *
+ * <p>Each partition is read by the given {@link Executor}, with its own {@code EntityManager} (and database connection),
+ * from a database cursor (see {@link ParameterizedSpecificationExecutor#stream(Specification, Sort, int)}). The rows with {@code null} value
+ * of the path are read by an additional partition (before the others). The number of partitions read at once is limited by the executor
+ * (and by the connection pool), which should run the tasks in the order of submission (e.g. a thread pool or virtual threads).</p>
+ *
+ * <p>The results are passed to the sink on the calling thread, one by one, either in the order of the path or as soon as they are read
+ * (see {@link ExportOrder}). The partitions read ahead only up to the fetch size, so the memory used does not depend on the number of results.
+ * The entities are detached (associations to be exported should be loaded with {@code @BatchFetch}). The partitions are read outside
+ * the transaction of the caller (in read-only transactions of their own), so a resource-local {@code EntityManagerFactory} is required.
+ * If the values of the path are distributed unevenly, the partitions are not equal in size.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * PartitionedExportExecutor&lt;Customer&gt; exporter = new PartitionedExportExecutor&lt;&gt;(
+ *         entityManagerFactory, Customer.class, Executors.newFixedThreadPool(8), 8); // or virtual threads on Java 21+
+ * exporter.export(spec, "id", ExportOrder.UNORDERED, customer -&gt; csvWriter.write(customer));
+ * </pre>
+ */
+public class PartitionedExportExecutor<T> {
+
+	private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(Byte.class, Short.class, Integer.class, Long.class, BigInteger.class,
+			Float.class, Double.class, BigDecimal.class, LocalDate.class, LocalDateTime.class, Instant.class);
+
+	private static final Object END = new Object();
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final Class<T> domainClass;
+	private final Executor executor;
+	private final int partitions;
+	private final int fetchSize;
+
+	public PartitionedExportExecutor(EntityManagerFactory entityManagerFactory, Class<T> domainClass, Executor executor, int partitions) {
+		this(entityManagerFactory, domainClass, executor, partitions, ParameterizedSpecificationExecutor.DEFAULT_FETCH_SIZE);
+	}
+
+	public PartitionedExportExecutor(EntityManagerFactory entityManagerFactory, Class<T> domainClass, Executor executor, int partitions,
+			int fetchSize) {
+		if (entityManagerFactory == null || domainClass == null || executor == null) {
+			throw new IllegalArgumentException("Entity manager factory, domain class and executor must not be null");
+		}
+		if (partitions < 1 || fetchSize < 1) {
+			throw new IllegalArgumentException("Number of partitions and fetch size must be positive, but were: " + partitions + ", " + fetchSize);
+		}
+		this.entityManagerFactory = entityManagerFactory;
+		this.domainClass = domainClass;
+		this.executor = executor;
+		this.partitions = partitions;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Passes all the results of the specification to the sink (on the calling thread), reading the partitions of the values
+	 * of {@code partitionPath} in parallel.
+	 *
+	 * @param partitionPath path of a numeric or temporal (local date, local date-time or instant) attribute of the entity or of its embeddable,
+	 * preferably indexed
+	 * @return number of the exported results
+	 */
+	public long export(Specification<T> spec, String partitionPath, ExportOrder order, Consumer<? super T> sink) {
+		List<Specification<T>> partitionSpecs = partitionSpecs(spec, partitionPath);
+		if (partitionSpecs.isEmpty()) {
+			return 0;
+		}
+		Sort sort = order == ExportOrder.ORDERED ? Sort.by(partitionPath) : Sort.unsorted();
+		AtomicBoolean cancelled = new AtomicBoolean();
+		BlockingQueue<Object> sharedQueue = new ArrayBlockingQueue<>(fetchSize);
+		List<BlockingQueue<Object>> queues = new ArrayList<>(partitionSpecs.size());
+		List<CompletableFuture<Void>> readers = new ArrayList<>(partitionSpecs.size());
+		try {
+			for (Specification<T> partitionSpec : partitionSpecs) {
+				BlockingQueue<Object> queue = order == ExportOrder.ORDERED ? new ArrayBlockingQueue<>(fetchSize) : sharedQueue;
+				queues.add(queue);
+				readers.add(CompletableFuture.runAsync(() -> readPartition(spec.and(partitionSpec), sort, queue, cancelled), executor));
+			}
+			long exported = 0;
+			if (order == ExportOrder.ORDERED) {
+				for (BlockingQueue<Object> queue : queues) {
+					exported += drain(queue, 1, sink);
+				}
+			} else {
+				exported = drain(sharedQueue, partitionSpecs.size(), sink);
+			}
+			CompletableFuture.allOf(readers.toArray(new CompletableFuture<?>[0])).join(); // all the entity managers are closed then
+			return exported;
+		} finally {
+			cancelled.set(true); // stops the partitions which are still being read (e.g. if the sink or another partition failed)
+		}
+	}
+
+	/**
+	 * @return specifications of the ranges of the partitions (without the filters of given specification)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private List<Specification<T>> partitionSpecs(Specification<T> spec, String partitionPath) {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		Object[] range;
+		try {
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+			Root<T> root = query.from(domainClass);
+			Expression<Comparable> path = partitionPath(root, partitionPath);
+			QueryParameters parameters = CriteriaValues.collectParameters(() -> {
+				Predicate predicate = spec.toPredicate(root, query, cb);
+				if (predicate != null) {
+					query.where(predicate);
+				}
+			});
+			// the counts differ if there are rows with null value of the path
+			query.select(cb.array(cb.least(path), cb.greatest(path), cb.count(root), cb.count(path)));
+
+			TypedQuery<Object[]> typedQuery = entityManager.createQuery(query);
+			parameters.bindTo(typedQuery);
+			range = typedQuery.getSingleResult();
+		} finally {
+			entityManager.close();
+		}
+
+		List<Specification<T>> specs = new ArrayList<>();
+		if (((Number) range[2]).longValue() > ((Number) range[3]).longValue()) {
+			specs.add((root, query, cb) -> cb.isNull(partitionPath(root, partitionPath)));
+		}
+		if (range[0] == null) {
+			return specs;
+		}
+		List<Comparable> bounds = split((Comparable) range[0], (Comparable) range[1], partitions);
+		for (int i = 0; i <= bounds.size(); i++) {
+			Comparable lower = i > 0 ? bounds.get(i - 1) : null;
+			Comparable upper = i < bounds.size() ? bounds.get(i) : null;
+			specs.add((root, query, cb) -> {
+				Expression<Comparable> path = partitionPath(root, partitionPath);
+				List<Predicate> predicates = new ArrayList<>(2);
+				predicates.add(lower != null ? cb.greaterThanOrEqualTo(path, CriteriaValues.bound(cb, lower)) : cb.isNotNull(path));
+				if (upper != null) {
+					predicates.add(cb.lessThan(path, CriteriaValues.bound(cb, upper)));
+				}
+				return cb.and(predicates.toArray(new Predicate[0]));
+			});
+		}
+		return specs;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Expression<Comparable> partitionPath(Root<?> root, String partitionPath) {
+		Path<?> path = root;
+		for (String segment : partitionPath.split("\\.")) {
+			path = path.get(segment);
+		}
+		if (!SUPPORTED_TYPES.contains(ClassUtils.resolvePrimitiveIfNecessary(path.getJavaType()))) {
+			throw new IllegalArgumentException("Partitioning path must be numeric or temporal (local date, local date-time or instant), but was: "
+					+ partitionPath + " (" + path.getJavaType().getName() + ")");
+		}
+		return (Expression<Comparable>) path;
+	}
+
+	/**
+	 * @return bounds between the partitions of equal width (i.e. excluding the minimum and the maximum), without duplicates
+	 * (e.g. there are fewer bounds than {@code partitions - 1} if the range of integers is narrower than the number of partitions)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static List<Comparable> split(Comparable min, Comparable max, int partitions) {
+		BigDecimal from = position(min);
+		BigDecimal width = position(max).subtract(from);
+		if (!(min instanceof Float || min instanceof Double || min instanceof BigDecimal)) {
+			width = width.add(BigDecimal.ONE); // number of the discrete values (e.g. integers or days) between the minimum and the maximum
+		}
+		List<Comparable> bounds = new ArrayList<>(partitions - 1);
+		Comparable previous = min;
+		for (int i = 1; i < partitions; i++) {
+			BigDecimal offset = width.multiply(BigDecimal.valueOf(i)).divide(BigDecimal.valueOf(partitions), 9, RoundingMode.FLOOR);
+			Comparable bound = key(from.add(offset), min.getClass());
+			if (bound.compareTo(previous) > 0) {
+				bounds.add(bound);
+				previous = bound;
+			}
+		}
+		return bounds;
+	}
+
+	private static BigDecimal position(Object key) {
+		if (key instanceof LocalDate date) {
+			return BigDecimal.valueOf(date.toEpochDay());
+		} else if (key instanceof LocalDateTime dateTime) {
+			return position(dateTime.toInstant(ZoneOffset.UTC));
+		} else if (key instanceof Instant instant) {
+			return BigDecimal.valueOf(instant.getEpochSecond()).movePointRight(9).add(BigDecimal.valueOf(instant.getNano()));
+		} else if (key instanceof BigDecimal decimal) {
+			return decimal;
+		}
+		return new BigDecimal(key.toString()); // other numbers
+	}
+
+	private static Comparable<?> key(BigDecimal position, Class<?> type) {
+		BigDecimal integral = position.setScale(0, RoundingMode.FLOOR);
+		if (type == LocalDate.class) {
+			return LocalDate.ofEpochDay(integral.longValueExact());
+		} else if (type == LocalDateTime.class) {
+			return LocalDateTime.ofInstant(instant(integral), ZoneOffset.UTC);
+		} else if (type == Instant.class) {
+			return instant(integral);
+		} else if (type == Byte.class) {
+			return integral.byteValueExact();
+		} else if (type == Short.class) {
+			return integral.shortValueExact();
+		} else if (type == Integer.class) {
+			return integral.intValueExact();
+		} else if (type == Long.class) {
+			return integral.longValueExact();
+		} else if (type == BigInteger.class) {
+			return integral.toBigIntegerExact();
+		} else if (type == Float.class) {
+			return position.floatValue();
+		} else if (type == Double.class) {
+			return position.doubleValue();
+		}
+		return position;
+	}
+
+	private static Instant instant(BigDecimal epochNanos) {
+		BigDecimal seconds = epochNanos.movePointLeft(9).setScale(0, RoundingMode.FLOOR);
+		return Instant.ofEpochSecond(seconds.longValueExact(), epochNanos.subtract(seconds.movePointRight(9)).longValueExact());
+	}
+
+	private void readPartition(Specification<T> spec, Sort sort, BlockingQueue<Object> queue, AtomicBoolean cancelled) {
+		if (cancelled.get()) {
+			return;
+		}
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		EntityTransaction transaction = entityManager.getTransaction();
+		try {
+			transaction.begin(); // some JDBC drivers (e.g. PostgreSQL) fetch the rows in chunks only within a transaction
+			new ParameterizedSpecificationExecutor<>(new SimpleJpaRepository<>(domainClass, entityManager), entityManager, domainClass)
+					.forEach(spec, sort, fetchSize, row -> put(queue, row, cancelled));
+			put(queue, END, cancelled);
+		} catch (CancellationException e) {
+			// the export has been finished (e.g. failed) without this partition
+		} catch (RuntimeException | Error e) {
+			try {
+				put(queue, new Failure(e), cancelled);
+			} catch (CancellationException ignored) {
+				// the export has already failed
+			}
+		} finally {
+			if (transaction.isActive()) {
+				transaction.rollback(); // nothing has been modified
+			}
+			entityManager.close();
+		}
+	}
+
+	private static void put(BlockingQueue<Object> queue, Object item, AtomicBoolean cancelled) {
+		try {
+			while (!queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (cancelled.get()) {
+					throw new CancellationException();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException();
+		}
+	}
+
+	/**
+	 * Passes the results from the queue to the sink until all the partitions which use the queue are read.
+	 */
+	@SuppressWarnings("unchecked")
+	private long drain(BlockingQueue<Object> queue, int partitionCount, Consumer<? super T> sink) {
+		long drained = 0;
+		int finished = 0;
+		while (finished < partitionCount) {
+			Object item;
+			try {
+				item = queue.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Export has been interrupted");
+			}
+			if (item == END) {
+				finished++;
+			} else if (item instanceof Failure failure) {
+				failure.rethrow();
+			} else {
+				sink.accept((T) item);
+				drained++;
+			}
+		}
+		return drained;
+	}
+
+	private record Failure(Throwable exception) {
+
+		void rethrow() {
+			if (exception instanceof Error error) {
+				throw error;
+			}
+			throw (RuntimeException) exception;
+		}
+	}
+}
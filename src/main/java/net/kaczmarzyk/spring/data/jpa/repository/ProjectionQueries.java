@@ -0,0 +1,274 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import static net.kaczmarzyk.spring.data.jpa.repository.SpecificationQueries.applyPage;
+import static net.kaczmarzyk.spring.data.jpa.repository.SpecificationQueries.idAttribute;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues.QueryParameters;
+
+/**
+ * <p>Selects only the needed attributes of the results of specifications: projected to records (with a constructor expression)
+ * or to closed interface projections, or as maps of the values of given fields. No entities are loaded into the persistence context,
+ * unless the specification makes the query distinct or fetches associations (the projection cannot be selected without changing
+ * the result then).</p>
+ */
+class ProjectionQueries<T> {
+
+	private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+	private final SpecificationQueries<T> queries;
+	private final PageContentLoader<T> contentLoader;
+	private final CountQueries<T> countQueries;
+
+	ProjectionQueries(SpecificationQueries<T> queries, PageContentLoader<T> contentLoader, CountQueries<T> countQueries) {
+		this.queries = queries;
+		this.contentLoader = contentLoader;
+		this.countQueries = countQueries;
+	}
+
+	/**
+	 * @param pageable the page to select, or {@code null} if all the results should be selected
+	 */
+	<R> List<R> findAll(Specification<T> spec, Class<R> projection, Sort sort, Pageable pageable) {
+		if (projection.isInterface()) {
+			return findFields(spec, projectedFields(projection), sort, pageable).stream()
+					.map(values -> PROJECTION_FACTORY.createProjection(projection, values))
+					.toList();
+		}
+		RecordComponent[] components = recordComponents(projection);
+
+		EntityManager entityManager = queries.entityManager();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<R> query = cb.createQuery(projection);
+		Root<T> root = query.from(queries.domainClass());
+		QueryParameters parameters = CriteriaValues.collectParameters(() -> queries.applySpecification(spec, root, query, cb));
+
+		if (query.isDistinct() || !root.getFetches().isEmpty()) {
+			return loadEntities(spec, sort, pageable).stream()
+					.map(entity -> toRecord(PropertyAccessorFactory.forDirectFieldAccess(entity)::getPropertyValue, projection, components))
+					.toList();
+		}
+
+		query.select(cb.construct(projection, Arrays.stream(components)
+				.map(component -> root.get(component.getName()))
+				.toArray(Selection<?>[]::new)));
+		if (sort.isSorted()) {
+			query.orderBy(QueryUtils.toOrders(sort, root, cb));
+		}
+
+		TypedQuery<R> typedQuery = entityManager.createQuery(query);
+		parameters.bindTo(typedQuery);
+		applyPage(typedQuery, pageable);
+		return typedQuery.getResultList();
+	}
+
+	/**
+	 * @param pageable the page to select, or {@code null} if all the results should be selected
+	 */
+	List<Map<String, Object>> findFields(Specification<T> spec, List<String> fields, Sort sort, Pageable pageable) {
+		if (fields.isEmpty()) {
+			throw new IllegalArgumentException("At least one field must be selected");
+		}
+		EntityManager entityManager = queries.entityManager();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery(); // not an entity query, so that the specification does not apply fetches
+		Root<T> root = query.from(queries.domainClass());
+		QueryParameters parameters = CriteriaValues.collectParameters(() -> queries.applySpecification(spec, root, query, cb));
+
+		List<Selection<?>> selections = new ArrayList<>();
+		fields.forEach(field -> selections.add(root.get(basicAttribute(root, field))));
+		List<Order> orders = sort.isSorted() ? QueryUtils.toOrders(sort, root, cb) : List.of();
+		if (query.isDistinct()) {
+			Optional<SingularAttribute<?, ?>> idAttribute = idAttribute(root);
+			if (idAttribute.isEmpty()) {
+				return loadEntities(spec, sort, pageable).stream()
+						.map(entity -> toMap(entity, fields))
+						.toList();
+			}
+			// the id keeps the rows of different entities (with equal values) apart, and a distinct query must select the expressions it is ordered by
+			selections.add(root.get(idAttribute.get().getName()));
+			orders.forEach(order -> selections.add(order.getExpression()));
+		}
+		query.select(cb.tuple(selections.toArray(new Selection<?>[0])));
+		query.orderBy(orders);
+
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+		parameters.bindTo(typedQuery);
+		applyPage(typedQuery, pageable);
+		return typedQuery.getResultList().stream()
+				.map(tuple -> toMap(tuple, fields))
+				.toList();
+	}
+
+	/**
+	 * @return page of the projected results with the total read from {@code count(*) over()} selected along with them
+	 * (see {@link #findFieldsWithWindowCount(Specification, List, Pageable)}), or {@code null} if the window function cannot be used
+	 */
+	<R> Page<R> findAllWithWindowCount(Specification<T> spec, Class<R> projection, Pageable pageable) {
+		if (projection.isInterface()) {
+			Page<Map<String, Object>> page = findFieldsWithWindowCount(spec, projectedFields(projection), pageable);
+			return page != null ? page.map(values -> PROJECTION_FACTORY.createProjection(projection, values)) : null;
+		}
+		RecordComponent[] components = recordComponents(projection);
+		List<String> fields = Arrays.stream(components)
+				.map(RecordComponent::getName)
+				.toList();
+		Page<Map<String, Object>> page = findFieldsWithWindowCount(spec, fields, pageable);
+		return page != null ? page.map(values -> toRecord(values::get, projection, components)) : null;
+	}
+
+	/**
+	 * @return page of the values of given fields with the total read from {@code count(*) over()} selected along with them,
+	 * or {@code null} if the window function cannot be used (i.e. it is not supported by the JPA provider, the query is distinct or grouped,
+	 * or a field is not a basic attribute)
+	 */
+	Page<Map<String, Object>> findFieldsWithWindowCount(Specification<T> spec, List<String> fields, Pageable pageable) {
+		EntityManager entityManager = queries.entityManager();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<T> root = query.from(queries.domainClass());
+		QueryParameters parameters = CriteriaValues.collectParameters(() -> queries.applySpecification(spec, root, query, cb));
+		Expression<Long> countOver = countQueries.countOver(cb, root);
+		if (countOver == null || fields.isEmpty() || query.isDistinct() || !query.getGroupList().isEmpty()
+				|| !fields.stream().allMatch(field -> isBasicAttribute(root, field))) {
+			return null; // the window function would count joined rows or groups instead of the entities
+		}
+		List<Selection<?>> selections = new ArrayList<>();
+		fields.forEach(field -> selections.add(root.get(field)));
+		selections.add(countOver);
+		query.select(cb.tuple(selections.toArray(new Selection<?>[0])));
+		if (pageable.getSort().isSorted()) {
+			query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+		}
+
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+		parameters.bindTo(typedQuery);
+		applyPage(typedQuery, pageable);
+		List<Tuple> rows = typedQuery.getResultList();
+
+		List<Map<String, Object>> content = rows.stream()
+				.map(tuple -> toMap(tuple, fields))
+				.toList();
+		// the window function is not evaluated if there are no rows (e.g. the offset exceeds the total), so the total is counted separately then
+		return PageableExecutionUtils.getPage(content, pageable,
+				() -> rows.isEmpty() ? queries.count(spec) : rows.get(0).get(fields.size(), Number.class).longValue());
+	}
+
+	private List<T> loadEntities(Specification<T> spec, Sort sort, Pageable pageable) {
+		return pageable != null ? contentLoader.findContent(spec, pageable) : queries.load(spec, sort, null);
+	}
+
+	/**
+	 * @return name of the attribute if it is a basic or embedded attribute of the entity (i.e. it can be selected without a join)
+	 */
+	private static String basicAttribute(Root<?> root, String name) {
+		if (!isBasicAttribute(root, name)) {
+			throw new IllegalArgumentException("Only basic or embedded attributes can be selected, but '" + name + "' is an association or a collection");
+		}
+		return name;
+	}
+
+	private static boolean isBasicAttribute(Root<?> root, String name) {
+		Attribute<?, ?> attribute = root.getModel().getAttribute(name);
+		return !attribute.isAssociation() && !attribute.isCollection();
+	}
+
+	private static List<String> projectedFields(Class<?> projection) {
+		ProjectionInformation information = PROJECTION_FACTORY.getProjectionInformation(projection);
+		if (!information.isClosed()) {
+			throw new IllegalArgumentException("Interface projection must be closed (i.e. must not use @Value), but was: " + projection.getName());
+		}
+		return information.getInputProperties().stream()
+				.map(PropertyDescriptor::getName)
+				.toList();
+	}
+
+	private static RecordComponent[] recordComponents(Class<?> projection) {
+		if (!projection.isRecord()) {
+			throw new IllegalArgumentException("Projection must be a record or an interface, but was: " + projection.getName());
+		}
+		return projection.getRecordComponents();
+	}
+
+	private static Map<String, Object> toMap(Tuple tuple, List<String> fields) {
+		Map<String, Object> values = new LinkedHashMap<>();
+		for (int i = 0; i < fields.size(); i++) {
+			values.put(fields.get(i), tuple.get(i));
+		}
+		return values;
+	}
+
+	private static Map<String, Object> toMap(Object entity, List<String> fields) {
+		PropertyAccessor accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+		Map<String, Object> values = new LinkedHashMap<>();
+		fields.forEach(field -> values.put(field, accessor.getPropertyValue(field)));
+		return values;
+	}
+
+	/**
+	 * @param componentValues the values of the components by their names (e.g. properties of an entity)
+	 */
+	private static <R> R toRecord(Function<String, Object> componentValues, Class<R> projection, RecordComponent[] components) {
+		Object[] values = new Object[components.length];
+		Class<?>[] types = new Class<?>[components.length];
+		for (int i = 0; i < components.length; i++) {
+			values[i] = componentValues.apply(components[i].getName());
+			types[i] = components[i].getType();
+		}
+		try {
+			return BeanUtils.instantiateClass(projection.getDeclaredConstructor(types), values);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Canonical constructor not found for " + projection.getName(), e);
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.FetchParent;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues;
+import net.kaczmarzyk.spring.data.jpa.utils.CriteriaValues.QueryParameters;
+import net.kaczmarzyk.spring.data.jpa.utils.FetchGraph;
+
+/**
+ * <p>Builds and executes the queries of specifications for {@link ParameterizedSpecificationExecutor} and its collaborators
+ * (e.g. {@link PageContentLoader}), with the values of the specifications bound as query parameters.</p>
+ *
+ * <p>Entity queries are evaluated with {@link #evaluate(Runnable)}, so that the entity graph of the specification is applied
+ * and the associations marked with {@code @BatchFetch} are loaded after the query.</p>
+ */
+class SpecificationQueries<T> {
+
+	private final EntityManager entityManager;
+	private final Class<T> domainClass;
+	private final BatchLoader batchLoader;
+
+	SpecificationQueries(EntityManager entityManager, Class<T> domainClass) {
+		this.entityManager = entityManager;
+		this.domainClass = domainClass;
+		this.batchLoader = new BatchLoader(entityManager);
+	}
+
+	EntityManager entityManager() {
+		return entityManager;
+	}
+
+	Class<T> domainClass() {
+		return domainClass;
+	}
+
+	/**
+	 * @param maxResults the limit of results, or {@code null} if all should be loaded
+	 */
+	List<T> load(Specification<T> spec, Sort sort, Integer maxResults) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> query = cb.createQuery(domainClass);
+		Root<T> root = query.from(domainClass);
+		EvaluatedSpecification evaluated = evaluate(() -> applySpecification(spec, root, query, cb));
+		if (maxResults != null && evaluated.multipliesRows(query, root)) {
+			query.distinct(true); // otherwise the limit would count the duplicated rows
+		}
+		query.select(root);
+		if (sort.isSorted()) {
+			query.orderBy(QueryUtils.toOrders(sort, root, cb));
+		}
+
+		TypedQuery<T> typedQuery = entityManager.createQuery(query);
+		evaluated.applyTo(typedQuery);
+		if (maxResults != null) {
+			typedQuery.setMaxResults(maxResults);
+		}
+		return evaluated.getResultList(typedQuery);
+	}
+
+	long count(Specification<T> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<T> root = query.from(domainClass);
+		QueryParameters parameters = CriteriaValues.collectParameters(() -> applySpecification(spec, root, query, cb));
+		query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+		query.orderBy(Collections.emptyList());
+
+		TypedQuery<Long> countQuery = entityManager.createQuery(query);
+		parameters.bindTo(countQuery);
+		// the query may return multiple rows (e.g. if the spec uses group by), so they are summed up as in Spring Data
+		return countQuery.getResultList().stream()
+				.mapToLong(count -> count == null ? 0 : count)
+				.sum();
+	}
+
+	boolean exists(Specification<T> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Integer> query = cb.createQuery(Integer.class);
+		Root<T> root = query.from(domainClass);
+		QueryParameters parameters = CriteriaValues.collectParameters(() -> applySpecification(spec, root, query, cb));
+		query.select(cb.literal(1));
+
+		TypedQuery<Integer> existsQuery = entityManager.createQuery(query);
+		parameters.bindTo(existsQuery);
+		return !existsQuery.setMaxResults(1).getResultList().isEmpty();
+	}
+
+	/**
+	 * Evaluates the specification of an entity query, collecting the values to bind, the entity graph to apply
+	 * and the associations to load in batches.
+	 */
+	EvaluatedSpecification evaluate(Runnable criteriaBuilding) {
+		FetchGraph[] fetchGraph = new FetchGraph[1];
+		QueryParameters parameters = CriteriaValues.collectParameters(() -> fetchGraph[0] = FetchGraph.collect(criteriaBuilding));
+		return new EvaluatedSpecification(parameters, fetchGraph[0]);
+	}
+
+	void applySpecification(Specification<T> spec, Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		Predicate predicate = spec.toPredicate(root, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+	}
+
+	static Optional<SingularAttribute<?, ?>> idAttribute(Root<?> root) {
+		if (!root.getModel().hasSingleIdAttribute()) {
+			return Optional.empty();
+		}
+		return root.getModel().getSingularAttributes().stream()
+				.filter(SingularAttribute::isId)
+				.<SingularAttribute<?, ?>>map(attribute -> attribute)
+				.findFirst();
+	}
+
+	static boolean fetchesCollection(FetchParent<?, ?> parent) {
+		return parent.getFetches().stream()
+				.anyMatch(fetch -> fetch.getAttribute().isCollection() || fetchesCollection(fetch));
+	}
+
+	static boolean joinsCollection(From<?, ?> from) {
+		return from.getJoins().stream()
+				.anyMatch(join -> join.getAttribute().isCollection() || joinsCollection(join));
+	}
+
+	static void applyPage(TypedQuery<?> query, Pageable pageable) {
+		if (pageable != null) {
+			query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+			query.setMaxResults(pageable.getPageSize());
+		}
+	}
+
+	class EvaluatedSpecification {
+
+		private final QueryParameters parameters;
+		private final FetchGraph fetchGraph;
+
+		EvaluatedSpecification(QueryParameters parameters, FetchGraph fetchGraph) {
+			this.parameters = parameters;
+			this.fetchGraph = fetchGraph;
+		}
+
+		FetchGraph fetchGraph() {
+			return fetchGraph;
+		}
+
+		void applyTo(TypedQuery<?> query) {
+			parameters.bindTo(query);
+			fetchGraph.applyTo(query, entityManager, domainClass);
+		}
+
+		/**
+		 * @return whether the rows of the query may be multiplied by a joined collection, with the duplicates removed only in memory
+		 */
+		boolean multipliesRows(CriteriaQuery<?> query, Root<T> root) {
+			return fetchGraph.isDeduplicatedInMemory() && !query.isDistinct() && joinsCollection(root);
+		}
+
+		List<T> getResultList(TypedQuery<T> query) {
+			List<T> results = query.getResultList();
+			if (fetchGraph.isDeduplicatedInMemory()) {
+				// JPA providers other than Hibernate may return the duplicates
+				Set<T> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+				results = results.stream()
+						.filter(distinct::add)
+						.toList();
+			}
+			loadBatches(results);
+			return results;
+		}
+
+		void loadBatches(List<T> entities) {
+			batchLoader.load(entities, domainClass, fetchGraph.getBatchPaths());
+		}
+
+		/**
+		 * Detaches given entities and their associations loaded by {@link #loadBatches(List)}.
+		 */
+		void detach(List<T> entities) {
+			batchLoader.detach(entities, domainClass, fetchGraph.getBatchPaths());
+		}
+	}
+}
@@ -50,13 +50,13 @@ public class CaseConversionHelper {
             String convertedValue = value.toUpperCase(effectiveLocale);
             return new ConvertedExpressions(
                     cb.upper(columnExpression),
-                    cb.literal(convertedValue)
+                    CriteriaValues.bound(cb, convertedValue)
             );
         }
 
         return new ConvertedExpressions(
                 applyDatabaseCaseConversion(cb, columnExpression, effectiveStrategy),
-                applyDatabaseCaseConversion(cb, cb.literal(value), effectiveStrategy)
+                applyDatabaseCaseConversion(cb, CriteriaValues.bound(cb, value), effectiveStrategy)
         );
     }
 
@@ -76,7 +76,7 @@ public class CaseConversionHelper {
         if (effectiveStrategy == IgnoreCaseStrategy.APPLICATION) {
             Locale effectiveLocale = locale != null ? locale : Locale.getDefault();
             List<Expression<String>> convertedValues = Arrays.stream(values)
-                    .map(value -> cb.literal(value.toUpperCase(effectiveLocale)))
+                    .map(value -> CriteriaValues.bound(cb, value.toUpperCase(effectiveLocale)))
                     .toList();
             return new ConvertedExpressionsList(
                     cb.upper(columnExpression),
@@ -87,7 +87,7 @@ public class CaseConversionHelper {
         return new ConvertedExpressionsList(
                 applyDatabaseCaseConversion(cb, columnExpression, effectiveStrategy),
                 Arrays.stream(values)
-                        .map(value -> applyDatabaseCaseConversion(cb, cb.literal(value), effectiveStrategy))
+                        .map(value -> applyDatabaseCaseConversion(cb, CriteriaValues.bound(cb, value), effectiveStrategy))
                         .toList()
         );
     }
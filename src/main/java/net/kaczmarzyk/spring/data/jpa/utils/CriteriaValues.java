@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.ParameterExpression;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Creates expressions for values provided by specifications (e.g. HTTP param values) which are bound as JDBC parameters.</p>
+ *
+ * <p>{@link CriteriaBuilder#literal(Object)} may be rendered inline into the SQL statement (depending on the JPA provider and its settings),
+ * so each distinct value would produce a different statement which misses the statement and query plan caches.
+ * Some providers allow to create a bound value directly (e.g. {@code HibernateCriteriaBuilder#value}),
+ * so it is used if available. Otherwise, the value falls back to a literal.</p>
+ *
+ * <p>{@link CriteriaBuilder#parameter(Class, String)} can be used only if the code which creates the query binds the values.
+ * Such code (e.g. {@code ParameterizedSpecificationExecutor}) should build the criteria query within {@link #collectParameters(Runnable)}.
+ * Then the values are replaced with named parameters, so the structure of the criteria query does not depend on the values.</p>
+ */
+public abstract class CriteriaValues {
+
+    private static final String PARAMETER_NAME_PREFIX = "sarParam";
+
+    private static final Map<Class<?>, Optional<Method>> VALUE_METHODS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<QueryParameters> COLLECTED_PARAMETERS = new ThreadLocal<>();
+
+    @SuppressWarnings("unchecked")
+    public static <T> Expression<T> bound(CriteriaBuilder cb, T value) {
+        QueryParameters parameters = COLLECTED_PARAMETERS.get();
+        if (parameters != null && value != null) {
+            return parameters.add(cb, value);
+        }
+        Optional<Method> valueMethod = VALUE_METHODS.computeIfAbsent(cb.getClass(), CriteriaValues::findValueMethod);
+        if (valueMethod.isPresent()) {
+            return (Expression<T>) org.springframework.util.ReflectionUtils.invokeMethod(valueMethod.get(), cb, value);
+        }
+        return cb.literal(value);
+    }
+
+    /**
+     * Runs given action (e.g. evaluation of a specification) so that all the values passed to {@link #bound(CriteriaBuilder, Object)}
+     * are replaced with named parameters.
+     *
+     * @return parameters which have to be bound to the query created from the criteria query
+     */
+    public static QueryParameters collectParameters(Runnable criteriaBuilding) {
+        QueryParameters previous = COLLECTED_PARAMETERS.get();
+        QueryParameters parameters = new QueryParameters();
+        COLLECTED_PARAMETERS.set(parameters);
+        try {
+            criteriaBuilding.run();
+        } finally {
+            if (previous != null) {
+                COLLECTED_PARAMETERS.set(previous);
+            } else {
+                COLLECTED_PARAMETERS.remove();
+            }
+        }
+        return parameters;
+    }
+
+    private static Optional<Method> findValueMethod(Class<?> criteriaBuilderClass) {
+        Method method = org.springframework.util.ReflectionUtils.findMethod(criteriaBuilderClass, "value", Object.class);
+        if (method == null || !Expression.class.isAssignableFrom(method.getReturnType())) {
+            return Optional.empty();
+        }
+        return Optional.of(method);
+    }
+
+    /**
+     * Named parameters created while building a criteria query, with the values to bind.
+     * The parameters are named by the order of creation, so criteria queries built in the same way have the same structure.
+     */
+    public static final class QueryParameters {
+
+        private final List<ParameterExpression<Object>> parameters = new ArrayList<>();
+        private final List<Object> values = new ArrayList<>();
+
+        private QueryParameters() {
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Expression<T> add(CriteriaBuilder cb, T value) {
+            ParameterExpression<Object> parameter = cb.parameter((Class<Object>) parameterType(value), PARAMETER_NAME_PREFIX + parameters.size());
+            parameters.add(parameter);
+            values.add(value);
+            return (Expression<T>) parameter;
+        }
+
+        private static Class<?> parameterType(Object value) {
+            if (value instanceof Enum<?> enumValue) {
+                return enumValue.getDeclaringClass(); // enum constants with a body are anonymous subclasses
+            }
+            return value.getClass();
+        }
+
+        public void bindTo(Query query) {
+            for (int i = 0; i < parameters.size(); i++) {
+                query.setParameter(parameters.get(i), values.get(i));
+            }
+        }
+
+        public int size() {
+            return parameters.size();
+        }
+    }
+}
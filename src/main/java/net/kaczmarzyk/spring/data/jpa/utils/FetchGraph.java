@@ -0,0 +1,181 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.utils;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Graph;
+import jakarta.persistence.Query;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * <p>Paths of an entity graph collected while building a criteria query (see {@code JoinFetchStrategy.LOAD_GRAPH}),
+ * as well as paths to be loaded in batches after the query (see {@code @BatchFetch}) and whether the root entities should be
+ * de-duplicated in memory (see {@code DistinctStrategy}).</p>
+ *
+ * <p>A specification cannot set hints of the query, so the code which creates the query (e.g. {@code ParameterizedSpecificationExecutor})
+ * should evaluate the specification within {@link #collect(Runnable)} and apply the collected graph to the query.
+ * If the paths are not collected, the specification should fetch them in another way (e.g. with fetch joins).</p>
+ */
+public final class FetchGraph {
+
+    private static final String LOAD_GRAPH_HINT = "jakarta.persistence.loadgraph";
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    private static final ThreadLocal<FetchGraph> COLLECTED_GRAPH = new ThreadLocal<>();
+
+    private final Set<String> paths = new LinkedHashSet<>();
+    private final Set<String> batchPaths = new LinkedHashSet<>();
+    private boolean fetchGraph;
+    private boolean deduplicatedInMemory;
+
+    private FetchGraph() {
+    }
+
+    /**
+     * Runs given action (e.g. evaluation of a specification) and collects the paths added to the entity graph meanwhile.
+     */
+    public static FetchGraph collect(Runnable criteriaBuilding) {
+        FetchGraph previous = COLLECTED_GRAPH.get();
+        FetchGraph graph = new FetchGraph();
+        COLLECTED_GRAPH.set(graph);
+        try {
+            criteriaBuilding.run();
+        } finally {
+            if (previous != null) {
+                COLLECTED_GRAPH.set(previous);
+            } else {
+                COLLECTED_GRAPH.remove();
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * @return whether the paths are collected by the current thread, i.e. whether {@link #add(String, boolean)} has any effect
+     */
+    public static boolean isCollecting() {
+        return COLLECTED_GRAPH.get() != null;
+    }
+
+    /**
+     * Adds the path (relative to the query root, e.g. {@code orders.tags}) to the graph being collected (if any).
+     *
+     * @param fetchGraph whether the graph should be applied as a fetch graph (if any of the paths requires it) rather than a load graph
+     */
+    public static void add(String path, boolean fetchGraph) {
+        FetchGraph graph = COLLECTED_GRAPH.get();
+        if (graph != null) {
+            graph.paths.add(path);
+            graph.fetchGraph |= fetchGraph;
+        }
+    }
+
+    /**
+     * Adds the path (relative to the query root) to be loaded for all the returned entities after the query (if the paths are collected).
+     */
+    public static void addBatch(String path) {
+        FetchGraph graph = COLLECTED_GRAPH.get();
+        if (graph != null) {
+            graph.batchPaths.add(path);
+        }
+    }
+
+    /**
+     * Marks the results of the query to be de-duplicated in memory instead of with SQL {@code distinct} (if the paths are collected).
+     */
+    public static void deduplicateInMemory() {
+        FetchGraph graph = COLLECTED_GRAPH.get();
+        if (graph != null) {
+            graph.deduplicatedInMemory = true;
+        }
+    }
+
+    public Set<String> getPaths() {
+        return Collections.unmodifiableSet(paths);
+    }
+
+    public Set<String> getBatchPaths() {
+        return Collections.unmodifiableSet(batchPaths);
+    }
+
+    public boolean isDeduplicatedInMemory() {
+        return deduplicatedInMemory;
+    }
+
+    /**
+     * @return whether no path of the entity graph has been collected (regardless of the batch paths)
+     */
+    public boolean isEmpty() {
+        return paths.isEmpty();
+    }
+
+    /**
+     * @return whether any of the paths goes through a collection-valued attribute (which multiplies the rows if it is joined)
+     */
+    public boolean fetchesCollection(ManagedType<?> rootType) {
+        for (String path : paths) {
+            ManagedType<?> type = rootType;
+            for (String attributeName : path.split("\\.")) {
+                Attribute<?, ?> attribute = type.getAttribute(attributeName);
+                if (attribute.isCollection()) {
+                    return true;
+                }
+                Type<?> attributeType = ((SingularAttribute<?, ?>) attribute).getType();
+                if (!(attributeType instanceof ManagedType<?> managedType)) {
+                    break;
+                }
+                type = managedType;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the entity graph of the collected paths and sets it as a hint of the query (if any path has been collected).
+     */
+    public <T> void applyTo(Query query, EntityManager entityManager, Class<T> rootClass) {
+        if (paths.isEmpty()) {
+            return;
+        }
+        EntityGraph<T> graph = entityManager.createEntityGraph(rootClass);
+        for (String path : paths) {
+            if (!isPrefixOfAnotherPath(path)) { // e.g. orders is added with orders.tags
+                addPath(graph, path.split("\\."));
+            }
+        }
+        query.setHint(fetchGraph ? FETCH_GRAPH_HINT : LOAD_GRAPH_HINT, graph);
+    }
+
+    private boolean isPrefixOfAnotherPath(String path) {
+        return paths.stream().anyMatch(other -> other.startsWith(path + "."));
+    }
+
+    private static void addPath(Graph<?> graph, String[] attributeNames) {
+        Graph<?> node = graph;
+        for (int i = 0; i < attributeNames.length - 1; i++) {
+            node = node.addSubgraph(attributeNames[i]);
+        }
+        node.addAttributeNode(attributeNames[attributeNames.length - 1]);
+    }
+}
@@ -18,6 +18,7 @@ package net.kaczmarzyk.spring.data.jpa.utils;
 import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 
 import java.util.function.Function;
 
@@ -39,4 +40,64 @@ public interface QueryContext {
 
     void putEvaluatedJoinFetch(String key, Fetch<?, ?> fetch);
 
+    /**
+     * @return join fetch evaluated under given alias for given query root (the same spec can be evaluated for multiple queries)
+     */
+    default Fetch<?, ?> getEvaluatedJoinFetch(String key, Root<?> root) {
+        return getEvaluatedJoinFetch(key);
+    }
+
+    default void putEvaluatedJoinFetch(String key, Root<?> root, Fetch<?, ?> fetch) {
+        putEvaluatedJoinFetch(key, fetch);
+    }
+
+    /**
+     * Registers the path joined under given alias, relative to the query root (i.e. with all aliases resolved, e.g. {@code orders.note}).
+     * It allows to plan joins (e.g. to skip unnecessary ones) without evaluating them.
+     */
+    default void putJoinPath(String alias, String path) {
+    }
+
+    /**
+     * @return path joined under given alias, relative to the query root, or {@code null} if unknown
+     */
+    default String getJoinPath(String alias) {
+        return null;
+    }
+
+    /**
+     * Marks the join under given alias as referenced by a null-rejecting filter (e.g. {@code o.itemName = ?}), which is
+     * never satisfied by the row of nulls produced by a left join, so the join can be evaluated as an inner join.
+     */
+    default void putNullRejectedJoin(Alias alias) {
+    }
+
+    default boolean isNullRejectedJoin(Alias alias) {
+        return false;
+    }
+
+    /**
+     * Marks the join under given alias as evaluated as a semi-join, i.e. in a correlated {@code EXISTS} subquery
+     * instead of the main query (see {@code JoinStrategy.EXISTS}).
+     */
+    default void putSemiJoin(Alias alias) {
+    }
+
+    default boolean isSemiJoin(Alias alias) {
+        return false;
+    }
+
+    /**
+     * Registers the correlated subquery created for the semi-join under given alias.
+     */
+    default void putExistsSubquery(Alias alias, Subquery<?> subquery) {
+    }
+
+    /**
+     * @return the correlated subquery of the semi-join under given alias, or {@code null} if the join has not been evaluated
+     */
+    default Subquery<?> getExistsSubquery(Alias alias) {
+        return null;
+    }
+
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import net.kaczmarzyk.spring.data.jpa.web.annotation.BatchFetch;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.annotation.Annotation;
+
+
+class BatchFetchSpecificationResolver implements SpecificationResolver<BatchFetch> {
+
+	@Override
+	public Class<? extends Annotation> getSupportedSpecificationDefinition() {
+		return BatchFetch.class;
+	}
+
+	@Override
+	public Specification<Object> buildSpecification(ProcessingContext context, BatchFetch fetchDef) {
+		return new net.kaczmarzyk.spring.data.jpa.domain.BatchFetch<Object>(fetchDef.paths());
+	}
+
+}
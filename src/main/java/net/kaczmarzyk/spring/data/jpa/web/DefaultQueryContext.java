@@ -22,25 +22,43 @@ import org.apache.commons.lang3.tuple.Pair;
 import jakarta.persistence.criteria.Fetch;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
-import java.util.HashMap;
+import jakarta.persistence.criteria.Subquery;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
+ * Query context of a resolved specification. It is thread-safe, so that the specification can be evaluated
+ * for multiple queries concurrently (e.g. content and count queries of a page, see {@code ParallelCountSpecificationExecutor}).
+ * The joins (and join fetches) evaluated for different queries do not interfere, as they are cached per query root.
+ *
  * @author Tomasz Kaczmarzyk
  */
 public class DefaultQueryContext implements QueryContext {
 
 	private Map<Alias, Function<Root<?>, Join<?, ?>>> contextMap;
-	private Map<String, Fetch<?, ?>> evaluatedJoinFetch;
+	private Map<Alias, Fetch<?, ?>> evaluatedJoinFetch;
 
 	private Map<Alias, Join<?, ?>> rootCache;
 
+	private Map<String, String> joinPaths;
+
+	private Set<Alias> nullRejectedJoins;
+
+	private Set<Alias> semiJoins;
+
+	private Map<Alias, Subquery<?>> existsSubqueries;
+
 	public DefaultQueryContext() {
-		this.contextMap = new HashMap<>();
-		this.evaluatedJoinFetch = new HashMap<>();
-		this.rootCache = new HashMap<>();
+		this.contextMap = new ConcurrentHashMap<>();
+		this.evaluatedJoinFetch = new ConcurrentHashMap<>();
+		this.rootCache = new ConcurrentHashMap<>();
+		this.joinPaths = new ConcurrentHashMap<>();
+		this.nullRejectedJoins = ConcurrentHashMap.newKeySet();
+		this.semiJoins = ConcurrentHashMap.newKeySet();
+		this.existsSubqueries = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -58,9 +76,12 @@ public class DefaultQueryContext implements QueryContext {
 
 		Alias rootKey = Alias.of(key, root);
 
+		// not computeIfAbsent, as evaluation of a join may evaluate the joins it depends on (which would modify the map during computation)
 		if (!rootCache.containsKey(rootKey)) {
 			Join<?, ?> evaluated = value.apply(root);
-			rootCache.put(rootKey, evaluated);
+			if (evaluated != null) {
+				rootCache.put(rootKey, evaluated);
+			}
 		}
 		return rootCache.get(rootKey);
 	}
@@ -72,12 +93,62 @@ public class DefaultQueryContext implements QueryContext {
 
 	@Override
 	public Fetch<?, ?> getEvaluatedJoinFetch(String key) {
-		return this.evaluatedJoinFetch.get(key);
+		return getEvaluatedJoinFetch(key, null);
 	}
 
 	@Override
 	public void putEvaluatedJoinFetch(String key, Fetch<?, ?> fetch) {
-		this.evaluatedJoinFetch.put(key, fetch);
+		putEvaluatedJoinFetch(key, null, fetch);
+	}
+
+	@Override
+	public Fetch<?, ?> getEvaluatedJoinFetch(String key, Root<?> root) {
+		return this.evaluatedJoinFetch.get(Alias.of(key, root));
+	}
+
+	@Override
+	public void putEvaluatedJoinFetch(String key, Root<?> root, Fetch<?, ?> fetch) {
+		this.evaluatedJoinFetch.put(Alias.of(key, root), fetch);
+	}
+
+	@Override
+	public void putJoinPath(String alias, String path) {
+		this.joinPaths.put(alias, path);
+	}
+
+	@Override
+	public String getJoinPath(String alias) {
+		return this.joinPaths.get(alias);
+	}
+
+	@Override
+	public void putNullRejectedJoin(Alias alias) {
+		this.nullRejectedJoins.add(alias);
+	}
+
+	@Override
+	public boolean isNullRejectedJoin(Alias alias) {
+		return this.nullRejectedJoins.contains(alias);
+	}
+
+	@Override
+	public void putSemiJoin(Alias alias) {
+		this.semiJoins.add(alias);
+	}
+
+	@Override
+	public boolean isSemiJoin(Alias alias) {
+		return this.semiJoins.contains(alias);
+	}
+
+	@Override
+	public void putExistsSubquery(Alias alias, Subquery<?> subquery) {
+		this.existsSubqueries.put(alias, subquery);
+	}
+
+	@Override
+	public Subquery<?> getExistsSubquery(Alias alias) {
+		return this.existsSubqueries.get(alias);
 	}
 
 	@Override
@@ -106,6 +177,7 @@ public class DefaultQueryContext implements QueryContext {
 	public String toString() {
 		return "DefaultQueryContext[" +
 				"contextMap=" + contextMap +
+				", joinPaths=" + joinPaths +
 				']';
 	}
 }
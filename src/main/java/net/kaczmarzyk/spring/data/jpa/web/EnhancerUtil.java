@@ -18,6 +18,7 @@ package net.kaczmarzyk.spring.data.jpa.web;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
+import net.kaczmarzyk.spring.data.jpa.domain.MarkerWrapper;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.lang.reflect.Field;
@@ -31,15 +32,17 @@ abstract class EnhancerUtil {
 
     @SuppressWarnings("unchecked")
     static <T> T wrapWithIfaceImplementation(final Class<T> iface, final Specification<Object> targetSpec) {
+        // the proxy wraps the spec, so that its marker interfaces can be found with MarkerWrapper.findMarker
         return (T) Proxy.newProxyInstance(
                 EnhancerUtil.class.getClassLoader(),
-                new Class[]{iface},
+                new Class[]{iface, MarkerWrapper.class},
                 (proxy, method, args) -> switch (method.getName()) {
                     case "toPredicate" -> targetSpec.toPredicate(
                             (Root<Object>) args[0],
                             (CriteriaQuery<?>) args[1],
                             (CriteriaBuilder) args[2]
                     );
+                    case "getWrappedSpec" -> targetSpec;
                     case "toString" -> iface.getSimpleName() + "[" + targetSpec.toString() + "]";
                     case "equals" -> EnhancerUtil.equals(iface, targetSpec, args);
                     case "hashCode" -> targetSpec.hashCode();
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web;
+
+import java.util.Collection;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import net.kaczmarzyk.spring.data.jpa.utils.Converter.ValuesRejectedException;
+
+/**
+ * Thrown when the values of an HTTP parameter are not accepted by the resolved specification (e.g. the fields requested for
+ * {@code @SelectedFields} which are not allowed). It is an invalid request of the client, so it results in {@code 400 Bad Request}.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidParameterValuesException extends ValuesRejectedException {
+
+	private static final long serialVersionUID = 1L;
+
+	public InvalidParameterValuesException(Collection<String> rejectedValues, String message) {
+		super(rejectedValues, message);
+	}
+}
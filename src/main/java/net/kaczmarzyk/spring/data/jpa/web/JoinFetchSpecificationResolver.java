@@ -15,6 +15,7 @@
  */
 package net.kaczmarzyk.spring.data.jpa.web;
 
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.JoinFetch;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -26,6 +27,16 @@ import java.lang.annotation.Annotation;
  */
 class JoinFetchSpecificationResolver implements SpecificationResolver<JoinFetch> {
 
+	private final DistinctStrategy defaultDistinctStrategy;
+
+	JoinFetchSpecificationResolver() {
+		this(DistinctStrategy.SQL);
+	}
+
+	JoinFetchSpecificationResolver(DistinctStrategy defaultDistinctStrategy) {
+		this.defaultDistinctStrategy = defaultDistinctStrategy;
+	}
+
 	@Override
 	public Class<? extends Annotation> getSupportedSpecificationDefinition() {
 		return JoinFetch.class;
@@ -38,7 +49,9 @@ class JoinFetchSpecificationResolver implements SpecificationResolver<JoinFetch>
 				fetchDef.paths(),
 				fetchDef.alias(),
 				fetchDef.joinType(),
-				fetchDef.distinct()
+				fetchDef.distinct(),
+				fetchDef.strategy(),
+				JoinSpecificationResolver.distinctStrategy(fetchDef.distinctStrategy(), defaultDistinctStrategy)
 		);
 	}
 
@@ -15,6 +15,7 @@
  */
 package net.kaczmarzyk.spring.data.jpa.web;
 
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Join;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -25,6 +26,16 @@ import java.lang.annotation.Annotation;
  */
 class JoinSpecificationResolver implements SpecificationResolver<Join> {
 
+	private final DistinctStrategy defaultDistinctStrategy;
+
+	JoinSpecificationResolver() {
+		this(DistinctStrategy.SQL);
+	}
+
+	JoinSpecificationResolver(DistinctStrategy defaultDistinctStrategy) {
+		this.defaultDistinctStrategy = defaultDistinctStrategy;
+	}
+
 	@Override
 	public Class<? extends Annotation> getSupportedSpecificationDefinition() {
 		return Join.class;
@@ -32,7 +43,12 @@ class JoinSpecificationResolver implements SpecificationResolver<Join> {
 
 	@Override
 	public Specification<Object> buildSpecification(ProcessingContext context, Join joinDef) {
-		return new net.kaczmarzyk.spring.data.jpa.domain.Join<Object>(context.queryContext(), joinDef.path(), joinDef.alias(), joinDef.type(), joinDef.distinct());
+		return new net.kaczmarzyk.spring.data.jpa.domain.Join<Object>(context.queryContext(), joinDef.path(), joinDef.alias(), joinDef.type(), joinDef.distinct(), joinDef.strategy(),
+				distinctStrategy(joinDef.distinctStrategy(), defaultDistinctStrategy));
+	}
+
+	static DistinctStrategy distinctStrategy(DistinctStrategy declared, DistinctStrategy defaultDistinctStrategy) {
+		return declared == DistinctStrategy.DEFAULT ? defaultDistinctStrategy : declared;
 	}
 
 }
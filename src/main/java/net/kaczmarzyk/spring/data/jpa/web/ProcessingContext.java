@@ -17,6 +17,7 @@ package net.kaczmarzyk.spring.data.jpa.web;
 
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.MissingPathVarPolicy;
+import org.springframework.core.ResolvableType;
 
 import java.lang.annotation.Annotation;
 
@@ -24,6 +25,13 @@ public interface ProcessingContext {
 
 	Class<?> getParameterType();
 
+	/**
+	 * @return parameter type including generics (e.g. {@code Specification<Customer>}), to resolve the domain type if possible
+	 */
+	default ResolvableType getResolvableParameterType() {
+		return ResolvableType.forClass(getParameterType());
+	}
+
 	Annotation[] getParameterAnnotations();
 
 	QueryContext queryContext();
@@ -16,6 +16,7 @@
 package net.kaczmarzyk.spring.data.jpa.web;
 
 import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.JoinFetch;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.RepeatedJoinFetch;
 import org.springframework.data.jpa.domain.Specification;
@@ -29,7 +30,15 @@ import java.util.Collection;
  */
 public class RepeatedJoinFetchResolver implements SpecificationResolver<RepeatedJoinFetch> {
 
-	private JoinFetchSpecificationResolver joinFetchSpecificationResolver = new JoinFetchSpecificationResolver();
+	private final JoinFetchSpecificationResolver joinFetchSpecificationResolver;
+
+	public RepeatedJoinFetchResolver() {
+		this(DistinctStrategy.SQL);
+	}
+
+	public RepeatedJoinFetchResolver(DistinctStrategy defaultDistinctStrategy) {
+		this.joinFetchSpecificationResolver = new JoinFetchSpecificationResolver(defaultDistinctStrategy);
+	}
 
 	@Override
 	public Class<? extends Annotation> getSupportedSpecificationDefinition() {
@@ -16,6 +16,7 @@
 package net.kaczmarzyk.spring.data.jpa.web;
 
 import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Join;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.RepeatedJoin;
 import org.springframework.data.jpa.domain.Specification;
@@ -29,7 +30,15 @@ import java.util.Collection;
  */
 public class RepeatedJoinResolver implements SpecificationResolver<RepeatedJoin> {
 
-	private JoinSpecificationResolver joinSpecificationResolver = new JoinSpecificationResolver();
+	private final JoinSpecificationResolver joinSpecificationResolver;
+
+	public RepeatedJoinResolver() {
+		this(DistinctStrategy.SQL);
+	}
+
+	public RepeatedJoinResolver(DistinctStrategy defaultDistinctStrategy) {
+		this.joinSpecificationResolver = new JoinSpecificationResolver(defaultDistinctStrategy);
+	}
 
 	@Override
 	public Class<? extends Annotation> getSupportedSpecificationDefinition() {
@@ -49,17 +49,28 @@ class SimpleSpecificationResolver implements SpecificationResolver<Spec> {
 	private final Locale defaultLocale;
 	private final IgnoreCaseStrategy defaultIgnoreCaseStrategy;
 	private final CharEscaper defaultCharEscaper;
+	private final InListStrategy defaultInListStrategy;
 
 	public SimpleSpecificationResolver(ConversionService conversionService,
 									   AbstractApplicationContext applicationContext,
 									   Locale defaultLocale,
 									   IgnoreCaseStrategy ignoreCaseStrategy,
 									   CharEscaper charEscaper) {
+		this(conversionService, applicationContext, defaultLocale, ignoreCaseStrategy, charEscaper, InListStrategy.PLAIN);
+	}
+
+	public SimpleSpecificationResolver(ConversionService conversionService,
+									   AbstractApplicationContext applicationContext,
+									   Locale defaultLocale,
+									   IgnoreCaseStrategy ignoreCaseStrategy,
+									   CharEscaper charEscaper,
+									   InListStrategy inListStrategy) {
 		this.conversionService = conversionService;
 		this.embeddedValueResolver = applicationContext != null ? new EmbeddedValueResolver(applicationContext.getBeanFactory()) : null;
 		this.defaultLocale = defaultLocale;
 		this.defaultIgnoreCaseStrategy = ignoreCaseStrategy;
 		this.defaultCharEscaper = charEscaper;
+		this.defaultInListStrategy = inListStrategy;
 	}
 
 	public SimpleSpecificationResolver() {
@@ -138,6 +149,10 @@ class SimpleSpecificationResolver implements SpecificationResolver<Spec> {
 			((CharEscapeAware) spec).applyCharEscaper(charEscaper);
 		}
 
+		if (spec instanceof InListStrategyAware && defaultInListStrategy != null) {
+			((InListStrategyAware) spec).setInListStrategy(defaultInListStrategy);
+		}
+
 		return spec;
 	}
 
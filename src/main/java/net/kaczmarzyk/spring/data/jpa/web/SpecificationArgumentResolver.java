@@ -17,6 +17,9 @@ package net.kaczmarzyk.spring.data.jpa.web;
 
 import net.kaczmarzyk.spring.data.jpa.utils.CharEscaper;
 import net.kaczmarzyk.spring.data.jpa.domain.IgnoreCaseStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.InListStrategy;
+import jakarta.persistence.metamodel.Metamodel;
 import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
@@ -38,6 +41,8 @@ public class SpecificationArgumentResolver implements HandlerMethodArgumentResol
 
 	private static final IgnoreCaseStrategy DEFAULT_IGNORE_CASE_STRATEGY = IgnoreCaseStrategy.DATABASE_UPPER;
 	private static final CharEscaper DEFAULT_CHAR_ESCAPER = CharEscaper.DISABLED;
+	private static final InListStrategy DEFAULT_IN_LIST_STRATEGY = InListStrategy.PLAIN;
+	private static final DistinctStrategy DEFAULT_DISTINCT_STRATEGY = DistinctStrategy.SQL;
 
 	private final SpecificationFactory specificationFactory;
 
@@ -110,11 +115,72 @@ public class SpecificationArgumentResolver implements HandlerMethodArgumentResol
 		this(conversionService, applicationContext, defaultLocale, ignoreCaseStrategy, DEFAULT_CHAR_ESCAPER);
 	}
 
+	public SpecificationArgumentResolver(InListStrategy inListStrategy) {
+		this(null, null, Locale.getDefault(), DEFAULT_IGNORE_CASE_STRATEGY, DEFAULT_CHAR_ESCAPER, inListStrategy);
+	}
+
+	public SpecificationArgumentResolver(AbstractApplicationContext applicationContext, InListStrategy inListStrategy) {
+		this(null, applicationContext, Locale.getDefault(), DEFAULT_IGNORE_CASE_STRATEGY, DEFAULT_CHAR_ESCAPER, inListStrategy);
+	}
+
 	public SpecificationArgumentResolver(ConversionService conversionService, AbstractApplicationContext abstractApplicationContext,
 										 Locale defaultLocale, IgnoreCaseStrategy ignoreCaseStrategy, CharEscaper charEscaper) {
+		this(conversionService, abstractApplicationContext, defaultLocale, ignoreCaseStrategy, charEscaper, DEFAULT_IN_LIST_STRATEGY);
+	}
+
+	public SpecificationArgumentResolver(DistinctStrategy distinctStrategy) {
+		this(null, null, Locale.getDefault(), DEFAULT_IGNORE_CASE_STRATEGY, DEFAULT_CHAR_ESCAPER, DEFAULT_IN_LIST_STRATEGY, distinctStrategy);
+	}
+
+	public SpecificationArgumentResolver(AbstractApplicationContext applicationContext, DistinctStrategy distinctStrategy) {
+		this(null, applicationContext, Locale.getDefault(), DEFAULT_IGNORE_CASE_STRATEGY, DEFAULT_CHAR_ESCAPER, DEFAULT_IN_LIST_STRATEGY,
+				distinctStrategy);
+	}
+
+	public SpecificationArgumentResolver(ConversionService conversionService, AbstractApplicationContext abstractApplicationContext,
+										 Locale defaultLocale, IgnoreCaseStrategy ignoreCaseStrategy, CharEscaper charEscaper,
+										 InListStrategy inListStrategy) {
+		this(conversionService, abstractApplicationContext, defaultLocale, ignoreCaseStrategy, charEscaper, inListStrategy,
+				DEFAULT_DISTINCT_STRATEGY);
+	}
+
+	/**
+	 * @param distinctStrategy default strategy of distinct {@code @Join} and {@code @JoinFetch} annotations
+	 *                         which do not specify {@code distinctStrategy} (i.e. use {@link DistinctStrategy#DEFAULT})
+	 */
+	public SpecificationArgumentResolver(ConversionService conversionService, AbstractApplicationContext abstractApplicationContext,
+										 Locale defaultLocale, IgnoreCaseStrategy ignoreCaseStrategy, CharEscaper charEscaper,
+										 InListStrategy inListStrategy, DistinctStrategy distinctStrategy) {
+		this(conversionService, abstractApplicationContext, defaultLocale, ignoreCaseStrategy, charEscaper, inListStrategy, distinctStrategy, null);
+	}
+
+	/**
+	 * Creates the resolver which detects type mismatches and contradicting filters already during resolution
+	 * and resolves such specifications as {@code EmptyResult} (see {@code EmptyResultAwareSpecificationExecutor}).
+	 *
+	 * @param metamodel JPA metamodel (e.g. {@code entityManagerFactory.getMetamodel()}) with the types on paths
+	 */
+	public SpecificationArgumentResolver(AbstractApplicationContext applicationContext, Metamodel metamodel) {
+		this(null, applicationContext, Locale.getDefault(), DEFAULT_IGNORE_CASE_STRATEGY, DEFAULT_CHAR_ESCAPER, DEFAULT_IN_LIST_STRATEGY,
+				DEFAULT_DISTINCT_STRATEGY, metamodel);
+	}
+
+	/**
+	 * @param distinctStrategy default strategy of distinct {@code @Join} and {@code @JoinFetch} annotations
+	 *                         which do not specify {@code distinctStrategy} (i.e. use {@link DistinctStrategy#DEFAULT})
+	 * @param metamodel JPA metamodel used to detect type mismatches and contradicting filters during resolution,
+	 *                  or {@code null} to evaluate all specifications in the database
+	 */
+	public SpecificationArgumentResolver(ConversionService conversionService, AbstractApplicationContext abstractApplicationContext,
+										 Locale defaultLocale, IgnoreCaseStrategy ignoreCaseStrategy, CharEscaper charEscaper,
+										 InListStrategy inListStrategy, DistinctStrategy distinctStrategy, Metamodel metamodel) {
 		IgnoreCaseStrategy effectiveStrategy = ignoreCaseStrategy != null ? ignoreCaseStrategy : DEFAULT_IGNORE_CASE_STRATEGY;
 		CharEscaper effectiveCharEscaper = charEscaper != null ? charEscaper : DEFAULT_CHAR_ESCAPER;
-		this.specificationFactory = new SpecificationFactory(conversionService, abstractApplicationContext, defaultLocale, effectiveStrategy, effectiveCharEscaper);
+		InListStrategy effectiveInListStrategy = inListStrategy != null ? inListStrategy : DEFAULT_IN_LIST_STRATEGY;
+		DistinctStrategy effectiveDistinctStrategy = distinctStrategy != null && distinctStrategy != DistinctStrategy.DEFAULT ?
+				distinctStrategy : DEFAULT_DISTINCT_STRATEGY;
+		this.specificationFactory = new SpecificationFactory(conversionService, abstractApplicationContext, defaultLocale,
+				effectiveStrategy, effectiveCharEscaper, effectiveInListStrategy, effectiveDistinctStrategy, metamodel);
 	}
 
 	@Override
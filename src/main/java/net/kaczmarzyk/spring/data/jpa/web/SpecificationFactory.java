@@ -17,8 +17,19 @@ package net.kaczmarzyk.spring.data.jpa.web;
 
 import net.kaczmarzyk.spring.data.jpa.utils.CharEscaper;
 import net.kaczmarzyk.spring.data.jpa.domain.IgnoreCaseStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.InListStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResult;
+import net.kaczmarzyk.spring.data.jpa.domain.ProvablyEmpty;
+import net.kaczmarzyk.spring.data.jpa.domain.WithCountCap;
+import net.kaczmarzyk.spring.data.jpa.domain.WithSelectedFields;
+import net.kaczmarzyk.spring.data.jpa.domain.SpecificationSimplifier;
 import net.kaczmarzyk.spring.data.jpa.utils.TypeUtil;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.CountCap;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.SelectedFields;
+import jakarta.persistence.metamodel.Metamodel;
 import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -38,22 +49,68 @@ public class SpecificationFactory {
 
 	private final Map<Class<? extends Annotation>, SpecificationResolver<? extends Annotation>> resolversBySupportedType;
 
+	private final Metamodel metamodel;
+
 	public SpecificationFactory(
 			ConversionService conversionService,
 			AbstractApplicationContext abstractApplicationContext,
 			Locale defaultLocale,
 			IgnoreCaseStrategy defaultIgnoreCaseStrategy,
 			CharEscaper defaultCharEscaper
+	) {
+		this(conversionService, abstractApplicationContext, defaultLocale, defaultIgnoreCaseStrategy, defaultCharEscaper, InListStrategy.PLAIN);
+	}
+
+	public SpecificationFactory(
+			ConversionService conversionService,
+			AbstractApplicationContext abstractApplicationContext,
+			Locale defaultLocale,
+			IgnoreCaseStrategy defaultIgnoreCaseStrategy,
+			CharEscaper defaultCharEscaper,
+			InListStrategy defaultInListStrategy
+	) {
+		this(conversionService, abstractApplicationContext, defaultLocale, defaultIgnoreCaseStrategy, defaultCharEscaper, defaultInListStrategy,
+				DistinctStrategy.SQL);
+	}
+
+	public SpecificationFactory(
+			ConversionService conversionService,
+			AbstractApplicationContext abstractApplicationContext,
+			Locale defaultLocale,
+			IgnoreCaseStrategy defaultIgnoreCaseStrategy,
+			CharEscaper defaultCharEscaper,
+			InListStrategy defaultInListStrategy,
+			DistinctStrategy defaultDistinctStrategy
+	) {
+		this(conversionService, abstractApplicationContext, defaultLocale, defaultIgnoreCaseStrategy, defaultCharEscaper, defaultInListStrategy,
+				defaultDistinctStrategy, null);
+	}
+
+	/**
+	 * @param metamodel JPA metamodel used to detect type mismatches and contradicting filters during resolution
+	 *                  (see {@link SpecificationSimplifier}), or {@code null} to skip the detection
+	 */
+	public SpecificationFactory(
+			ConversionService conversionService,
+			AbstractApplicationContext abstractApplicationContext,
+			Locale defaultLocale,
+			IgnoreCaseStrategy defaultIgnoreCaseStrategy,
+			CharEscaper defaultCharEscaper,
+			InListStrategy defaultInListStrategy,
+			DistinctStrategy defaultDistinctStrategy,
+			Metamodel metamodel
 	) {
 		if (defaultIgnoreCaseStrategy == null) {
 			throw new IllegalArgumentException("IgnoreCaseStrategy must not be null");
 		}
+		this.metamodel = metamodel;
 		SimpleSpecificationResolver simpleSpecificationResolver = new SimpleSpecificationResolver(
 				conversionService,
 				abstractApplicationContext,
 				defaultLocale,
 				defaultIgnoreCaseStrategy,
-				defaultCharEscaper
+				defaultCharEscaper,
+				defaultInListStrategy
 		);
 
 		resolversBySupportedType = Arrays.asList(
@@ -62,10 +119,11 @@ public class SpecificationFactory {
 						new DisjunctionSpecificationResolver(simpleSpecificationResolver),
 						new ConjunctionSpecificationResolver(simpleSpecificationResolver),
 						new AndSpecificationResolver(simpleSpecificationResolver),
-						new JoinSpecificationResolver(),
-						new JoinFetchSpecificationResolver(),
-						new RepeatedJoinFetchResolver(),
-						new RepeatedJoinResolver()).stream()
+						new JoinSpecificationResolver(defaultDistinctStrategy),
+						new JoinFetchSpecificationResolver(defaultDistinctStrategy),
+						new BatchFetchSpecificationResolver(),
+						new RepeatedJoinFetchResolver(defaultDistinctStrategy),
+						new RepeatedJoinResolver(defaultDistinctStrategy)).stream()
 				.collect(toMap(
 						SpecificationResolver::getSupportedSpecificationDefinition,
 						identity(),
@@ -83,6 +141,9 @@ public class SpecificationFactory {
 		}
 
 		Specification<Object> spec = specs.size() == 1 ? specs.iterator().next() : new net.kaczmarzyk.spring.data.jpa.domain.Conjunction<>(specs);
+		spec = simplify(spec, context);
+		spec = applyCountCap(spec, context);
+		spec = applyFieldSelection(spec, context);
 
 		if (context.getParameterType().isAssignableFrom(spec.getClass())) {
 			return spec;
@@ -91,6 +152,78 @@ public class SpecificationFactory {
 		}
 	}
 
+	/**
+	 * Normalizes the tree of specs and replaces specs which are known to produce an empty result with {@link EmptyResult},
+	 * so that the query can be skipped (see {@link SpecificationSimplifier}). Type mismatches and contradictions are detected
+	 * only if the factory is configured with the metamodel (to get types on paths) and the domain type is resolvable
+	 * from the parameter type (e.g. {@code Specification<Customer>}).
+	 */
+	private Specification<Object> simplify(Specification<Object> spec, ProcessingContext context) {
+		Class<?> domainType = context.getResolvableParameterType().as(Specification.class).resolveGeneric(0);
+		if (domainType == null || metamodel == null) {
+			return SpecificationSimplifier.simplify(spec);
+		}
+		return SpecificationSimplifier.simplify(spec, domainType, metamodel);
+	}
+
+	/**
+	 * Marks the spec with the cap of {@link CountCap} from the parameter or (if absent) from the specification interface.
+	 * A spec which is known to produce an empty result is not counted at all, so it is left as it is.
+	 */
+	private Specification<Object> applyCountCap(Specification<Object> spec, ProcessingContext context) {
+		if (spec instanceof ProvablyEmpty) {
+			return spec;
+		}
+		CountCap countCap = Arrays.stream(context.getParameterAnnotations())
+				.filter(CountCap.class::isInstance)
+				.map(CountCap.class::cast)
+				.findFirst()
+				.orElseGet(() -> AnnotationUtils.findAnnotation(context.getParameterType(), CountCap.class));
+		return countCap != null ? new WithCountCap<>(spec, countCap.value()) : spec;
+	}
+
+	/**
+	 * Marks the spec with the fields of {@link SelectedFields} from the parameter or (if absent) from the specification interface.
+	 * The requested fields (if any) are checked against the allowed ones.
+	 */
+	private Specification<Object> applyFieldSelection(Specification<Object> spec, ProcessingContext context) {
+		SelectedFields selectedFields = Arrays.stream(context.getParameterAnnotations())
+				.filter(SelectedFields.class::isInstance)
+				.map(SelectedFields.class::cast)
+				.findFirst()
+				.orElseGet(() -> AnnotationUtils.findAnnotation(context.getParameterType(), SelectedFields.class));
+		if (selectedFields == null) {
+			return spec;
+		}
+		List<String> fields = requestedFields(selectedFields, context);
+		if (fields.isEmpty()) {
+			fields = List.of(selectedFields.value());
+		}
+		return fields.isEmpty() ? spec : new WithSelectedFields<>(spec, fields);
+	}
+
+	private static List<String> requestedFields(SelectedFields selectedFields, ProcessingContext context) {
+		String[] paramValues = selectedFields.param().isEmpty() ? null : context.getParameterValues(selectedFields.param());
+		if (paramValues == null) {
+			return List.of();
+		}
+		List<String> allowed = List.of(selectedFields.allowed().length > 0 ? selectedFields.allowed() : selectedFields.value());
+		List<String> fields = Arrays.stream(paramValues)
+				.flatMap(value -> Arrays.stream(value.split(",")))
+				.map(String::trim)
+				.filter(field -> !field.isEmpty())
+				.distinct()
+				.toList();
+		List<String> rejected = fields.stream()
+				.filter(field -> !allowed.contains(field))
+				.toList();
+		if (!rejected.isEmpty()) {
+			throw new InvalidParameterValuesException(rejected,
+					"Fields " + rejected.stream().map(field -> "'" + field + "'").toList() + " cannot be selected, allowed fields: " + allowed);
+		}
+		return fields;
+	}
+
 	private List<Specification<Object>> resolveSpec(ProcessingContext context) {
 		List<Specification<Object>> specAccumulator = new ArrayList<>();
 
@@ -30,6 +30,7 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import net.kaczmarzyk.spring.data.jpa.web.annotation.MissingPathVarPolicy;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.http.MediaType;
 import org.springframework.web.context.request.NativeWebRequest;
 
@@ -67,6 +68,11 @@ public class WebRequestProcessingContext implements ProcessingContext {
 		return methodParameter.getParameterType();
 	}
 
+	@Override
+	public ResolvableType getResolvableParameterType() {
+		return ResolvableType.forMethodParameter(methodParameter);
+	}
+
 	@Override
 	public Annotation[] getParameterAnnotations() {
 		return methodParameter.getParameterAnnotations();
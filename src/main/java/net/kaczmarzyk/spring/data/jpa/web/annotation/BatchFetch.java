@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * <p>Specifies associations to be loaded in batches after the query, i.e. each path is loaded for all the returned entities
+ * with a single additional query ({@code ... where parent.id in (...)}), instead of a fetch join (see {@link JoinFetch})
+ * or a lazy load of each entity.</p>
+ *
+ * <p>Unlike a fetch join, it does not multiply the rows of the query (so a page can be limited in SQL) and loading of
+ * multiple collections does not produce a cartesian product. Nested paths (e.g. {@code orders.tags}) are loaded level by level.</p>
+ *
+ * <p>The associations are loaded by {@code ParameterizedSpecificationExecutor}. Other executors (e.g. a plain Spring Data repository)
+ * ignore the annotation, so the associations are loaded lazily then.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.PARAMETER, ElementType.TYPE })
+public @interface BatchFetch {
+
+    String[] paths();
+}
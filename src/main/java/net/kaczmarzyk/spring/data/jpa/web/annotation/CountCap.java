@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Limits the count query of paged requests to the given number of matching rows, e.g.:</p>
+ *
+ * <pre>
+ * public Page&lt;Customer&gt; findCustomers(@CountCap(10000) @Spec(path = "lastName", spec = Like.class) Specification&lt;Customer&gt; spec, Pageable pageable) {
+ *     return executor.findAll(spec, pageable); // executor is a ParameterizedSpecificationExecutor
+ * }
+ * </pre>
+ *
+ * <p>The resolved specification implements {@code CountCapped}, so that
+ * {@code ParameterizedSpecificationExecutor} stops counting after the cap is exceeded and returns {@code CappedPage}
+ * (with the total equal to the cap and {@code isTotalCapped() == true}). Other executors ignore the cap.</p>
+ *
+ * <p>Can be placed on a specification parameter of a handler method or on a specification interface.
+ * The annotation on the parameter takes precedence.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.PARAMETER, ElementType.TYPE })
+public @interface CountCap {
+
+    /**
+     * @return the maximum number of rows to count, must be positive
+     */
+    int value();
+}
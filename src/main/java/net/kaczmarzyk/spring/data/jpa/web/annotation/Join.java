@@ -16,6 +16,9 @@
 package net.kaczmarzyk.spring.data.jpa.web.annotation;
 
 import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinStrategy;
+
 import java.lang.annotation.*;
 
 /**
@@ -47,4 +50,17 @@ public @interface Join {
 	boolean distinct() default true;
 	
 	JoinType type() default JoinType.LEFT;
+
+	/**
+	 * Specifies how the join is applied to the query. {@link JoinStrategy#EXISTS} evaluates filters on a collection-valued
+	 * path in a correlated {@code exists} subquery, so that neither duplicated rows nor {@code distinct} are needed.
+	 */
+	JoinStrategy strategy() default JoinStrategy.JOIN;
+
+	/**
+	 * Specifies how a distinct query removes duplicated results (see {@link DistinctStrategy}).
+	 * By default ({@link DistinctStrategy#DEFAULT}) the default strategy of {@code SpecificationArgumentResolver} is used
+	 * ({@link DistinctStrategy#SQL} unless configured otherwise).
+	 */
+	DistinctStrategy distinctStrategy() default DistinctStrategy.DEFAULT;
 }
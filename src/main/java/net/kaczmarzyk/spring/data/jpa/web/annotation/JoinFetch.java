@@ -16,6 +16,8 @@
 package net.kaczmarzyk.spring.data.jpa.web.annotation;
 
 import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetchStrategy;
 import java.lang.annotation.*;
 
 
@@ -45,4 +47,17 @@ public @interface JoinFetch {
      * Changing distinct to false (when using Hibernate) makes sense only in count queries -- in all other cases it will lead to unexpected behaviour.
      */
     boolean distinct() default true;
+
+    /**
+     * Specifies how the paths are loaded. {@link JoinFetchStrategy#LOAD_GRAPH} and {@link JoinFetchStrategy#FETCH_GRAPH} add them to
+     * an entity graph (applied as a query hint by {@code ParameterizedSpecificationExecutor}) instead of fetch joins.
+     */
+    JoinFetchStrategy strategy() default JoinFetchStrategy.JOIN;
+
+    /**
+     * Specifies how a distinct query removes duplicated results (see {@link DistinctStrategy}).
+     * By default ({@link DistinctStrategy#DEFAULT}) the default strategy of {@code SpecificationArgumentResolver} is used
+     * ({@link DistinctStrategy#SQL} unless configured otherwise).
+     */
+    DistinctStrategy distinctStrategy() default DistinctStrategy.DEFAULT;
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.web.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Selects the attributes of the entity to be read instead of whole entities, e.g.:</p>
+ *
+ * <pre>
+ * public Page&lt;Map&lt;String, Object&gt;&gt; findCustomers(
+ *         &#64;SelectedFields(value = { "firstName", "lastName" }, param = "fields", allowed = { "firstName", "lastName", "nickName" })
+ *         &#64;Spec(path = "lastName", spec = Like.class) Specification&lt;Customer&gt; spec, Pageable pageable) {
+ *     return executor.findFields(spec, pageable); // executor is a ParameterizedSpecificationExecutor
+ * }
+ * </pre>
+ *
+ * <p>The resolved specification implements {@code FieldSelection}, so that {@code ParameterizedSpecificationExecutor} selects only
+ * these attributes ({@code select c.firstName, c.lastName from Customer c ...}). Other executors ignore the selection.</p>
+ *
+ * <p>Can be placed on a specification parameter of a handler method or on a specification interface.
+ * The annotation on the parameter takes precedence.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.PARAMETER, ElementType.TYPE })
+public @interface SelectedFields {
+
+    /**
+     * @return attributes selected if the fields are not requested with {@link #param()}
+     */
+    String[] value() default {};
+
+    /**
+     * @return name of the HTTP parameter with the requested fields (comma-separated or repeated), e.g. {@code ?fields=firstName,lastName}
+     */
+    String param() default "";
+
+    /**
+     * @return fields which can be requested with {@link #param()}. If empty, only the fields of {@link #value()} can be requested
+     */
+    String[] allowed() default {};
+}
@@ -95,8 +95,9 @@ public class AvoidingRedundantJoinE2eTest extends E2eTestBase {
 
 		assertThatInterceptedStatements()
 						.hasSelects(1)
-						.hasNumberOfTableJoins("movie_stars", JoinType.LEFT, 1)
-						.hasNumberOfTableJoins("movie_directors", JoinType.LEFT, 1);
+						// left joins filtered with null-rejecting predicates are promoted to inner joins
+						.hasNumberOfTableJoins("movie_stars", JoinType.INNER, 1)
+						.hasNumberOfTableJoins("movie_directors", JoinType.INNER, 1);
 	}
 	
 	@Test
@@ -108,8 +109,9 @@ public class AvoidingRedundantJoinE2eTest extends E2eTestBase {
 		assertThatInterceptedStatements()
 				.hasSelects(1)
 				.hasNumberOfJoins(2)
-				.hasNumberOfTableJoins("movie_stars", JoinType.LEFT, 1)
-				.hasNumberOfTableJoins("movie_directors", JoinType.LEFT, 0);
+				.hasNumberOfTableJoins("movie_stars", JoinType.INNER, 1) // promoted, as it is filtered
+				.hasNumberOfTableJoins("movie_directors", JoinType.LEFT, 0)
+				.hasNumberOfTableJoins("movie_directors", JoinType.INNER, 0);
 	}
 	
 	@Test
@@ -173,9 +173,10 @@ public class JoinAndJoinFetchReferringToTheSameTableTest extends E2eTestBase {
 				// N+1 SELECT problem
 				.hasSelects(5)
 				.hasNumberOfJoins(5)
-				.hasNumberOfTableJoins("orders", LEFT, 1)
-				.hasNumberOfTableJoins("orders_tags", LEFT, 1)
-				.hasNumberOfTableJoins("item_tags", LEFT, 1);
+				// left joins filtered with null-rejecting predicate are promoted to inner joins
+				.hasNumberOfTableJoins("orders", INNER, 1)
+				.hasNumberOfTableJoins("orders_tags", INNER, 1)
+				.hasNumberOfTableJoins("item_tags", INNER, 3); // including the joins of lazy-loading queries
 	}
 
 	@Test
@@ -203,9 +204,12 @@ public class JoinAndJoinFetchReferringToTheSameTableTest extends E2eTestBase {
 				.hasSelects(1)
 				// Example of redundant joins due to usage @Join and @JoinFetch with the same aliases
 				.hasNumberOfJoins(6)
-				.hasNumberOfTableJoins("orders", LEFT, 2)
-				.hasNumberOfTableJoins("orders_tags", LEFT, 2)
-				.hasNumberOfTableJoins("item_tags", LEFT, 2);
+				.hasNumberOfTableJoins("orders", LEFT, 1)
+				.hasNumberOfTableJoins("orders", INNER, 1)
+				.hasNumberOfTableJoins("orders_tags", LEFT, 1)
+				.hasNumberOfTableJoins("orders_tags", INNER, 1)
+				.hasNumberOfTableJoins("item_tags", LEFT, 1)
+				.hasNumberOfTableJoins("item_tags", INNER, 1);
 	}
 
 	@Test
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.batch;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationBuilder;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
+import net.kaczmarzyk.utils.interceptor.HibernateStatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.utils.InterceptedStatementsAssert.assertThatInterceptedStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecificationItemReaderTest extends IntegrationTestBase {
+
+	@Spec(path = "lastName", params = "lastName", spec = Equal.class)
+	public interface LastNameSpec extends Specification<Customer> {
+	}
+
+	LastNameSpec simpsons = SpecificationBuilder.specification(LastNameSpec.class)
+			.withParam("lastName", "Simpson")
+			.build();
+
+	@BeforeEach
+	public void initData() {
+		// the reader uses its own entity manager, so the data must be committed
+		doInNewTransaction(() -> {
+			customer("Homer", "Simpson").build(em);
+			customer("Marge", "Simpson").build(em);
+			customer("Bart", "Simpson").build(em);
+			customer("Lisa", "Simpson").build(em);
+			customer("Maggie", "Simpson").build(em);
+			customer("Moe", "Szyslak").build(em);
+			em.flush();
+		});
+	}
+
+	@AfterEach
+	public void cleanup() {
+		doInNewTransaction(() -> customerRepo.deleteAll());
+	}
+
+	@Test
+	public void readsResultsOfSpecificationInPages() throws Exception {
+		SpecificationItemReader<Customer> reader = reader();
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		reader.open(new ExecutionContext());
+		List<String> firstNames = readAll(reader, Integer.MAX_VALUE);
+		reader.close();
+
+		assertThat(firstNames).containsExactly("Bart", "Homer", "Lisa", "Maggie", "Marge");
+		assertThatInterceptedStatements()
+				.hasSelects(3)
+				.doesNotHaveClause("offset");
+	}
+
+	@Test
+	public void continuesAfterLastReadEntityOnRestart() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		SpecificationItemReader<Customer> reader = reader();
+		reader.open(executionContext);
+		List<String> beforeRestart = readAll(reader, 3);
+		reader.update(executionContext); // chunk committed
+		reader.close();
+		doInNewTransaction(() -> customerRepo.delete(customerRepo.findAll(firstNameIs("Bart")).get(0)));
+
+		SpecificationItemReader<Customer> restarted = reader();
+		restarted.open(executionContext);
+		int restoredItemCount = restarted.getCurrentItemCount();
+		List<String> afterRestart = readAll(restarted, Integer.MAX_VALUE);
+		restarted.close();
+
+		assertThat(beforeRestart).containsExactly("Bart", "Homer", "Lisa");
+		assertThat(afterRestart).containsExactly("Maggie", "Marge");
+		assertThat(restoredItemCount).isEqualTo(3);
+	}
+
+	@Test
+	public void doesNotSaveCursorIfSaveStateIsDisabled() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		SpecificationItemReader<Customer> reader = reader();
+		reader.setSaveState(false);
+		reader.open(executionContext);
+		readAll(reader, 3);
+		reader.update(executionContext);
+		reader.close();
+
+		assertThat(executionContext.isEmpty()).isTrue();
+	}
+
+	private SpecificationItemReader<Customer> reader() {
+		return new SpecificationItemReader<>(em.getEntityManagerFactory(), Customer.class, simpsons, Sort.by("firstName"), 2);
+	}
+
+	private static Specification<Customer> firstNameIs(String firstName) {
+		return (root, query, cb) -> cb.equal(root.get("firstName"), firstName);
+	}
+
+	private static List<String> readAll(SpecificationItemReader<Customer> reader, int limit) throws Exception {
+		List<String> firstNames = new ArrayList<>();
+		Customer customer;
+		while (firstNames.size() < limit && (customer = reader.read()) != null) {
+			firstNames.add(customer.getFirstName());
+		}
+		return firstNames;
+	}
+}
@@ -18,6 +18,7 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 import com.jparams.verifier.tostring.ToStringVerifier;
 import net.kaczmarzyk.spring.data.jpa.Customer;
 import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.utils.interceptor.HibernateStatementInspector;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +28,7 @@ import java.text.ParseException;
 import java.util.List;
 
 import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.utils.InterceptedStatementsAssert.assertThatInterceptedStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 
 
@@ -40,11 +42,13 @@ public class ConjunctionTest extends IntegrationTestBase {
     
     @BeforeEach
     public void initData() {
-        homerSimpson = customer("Homer", "Simpson").registrationDate(2014, 03, 15).street("Evergreen Terrace").build(em);
-        margeSimpson = customer("Marge", "Simpson").registrationDate(2014, 03, 20).street("Evergreen Terrace").build(em);
-        bartSimpson = customer("Bart", "Simpson").registrationDate(2014, 03, 25).street("Evergreen Terrace").build(em);
-        moeSzyslak = customer("Moe", "Szyslak").registrationDate(2014, 03, 15).street("Unknown").build(em);
-        nedFlanders = customer("Ned", "Flanders").registrationDate(2014, 03, 25).street("Evergreen Terrace").build(em);
+        homerSimpson = customer("Homer", "Simpson").registrationDate(2014, 03, 15).street("Evergreen Terrace").weight(120).build(em);
+        margeSimpson = customer("Marge", "Simpson").registrationDate(2014, 03, 20).street("Evergreen Terrace").weight(55).build(em);
+        bartSimpson = customer("Bart", "Simpson").registrationDate(2014, 03, 25).street("Evergreen Terrace").weight(35).build(em);
+        moeSzyslak = customer("Moe", "Szyslak").registrationDate(2014, 03, 15).street("Unknown").weight(90).build(em);
+        nedFlanders = customer("Ned", "Flanders").registrationDate(2014, 03, 25).street("Evergreen Terrace").weight(70).build(em);
+
+        HibernateStatementInspector.clearInterceptedStatements();
     }
     
     @Test
@@ -59,19 +63,112 @@ public class ConjunctionTest extends IntegrationTestBase {
             .containsOnly(homerSimpson, margeSimpson);
     }
 
+    @Test
+    public void mergesRangesOnTheSamePathIntoTheTightestOne() {
+        GreaterThan<Customer> heavierThan40 = new GreaterThan<>(queryCtx, "weight", new String[] {"40"}, defaultConverter);
+        GreaterThanOrEqual<Customer> atLeast55 = new GreaterThanOrEqual<>(queryCtx, "weight", new String[] {"55"}, defaultConverter);
+        LessThanOrEqual<Customer> atMost90 = new LessThanOrEqual<>(queryCtx, "weight", new String[] {"90"}, defaultConverter);
+        LessThan<Customer> lighterThan100 = new LessThan<>(queryCtx, "weight", new String[] {"100"}, defaultConverter);
+
+        List<Customer> result = customerRepo.findAll(new Conjunction<>(heavierThan40, atLeast55, atMost90, lighterThan100));
+
+        assertThat(result)
+            .containsOnly(margeSimpson, moeSzyslak, nedFlanders);
+
+        assertThatInterceptedStatements()
+            .hasSelects(1)
+            .hasOneClause("between")
+            .doesNotHaveClause(">")
+            .doesNotHaveClause("<");
+    }
+
+    @Test
+    public void mergesInListsIntoTheirIntersection() {
+        In<Customer> weightIn = new In<>(queryCtx, "weight", new String[] {"35", "55", "70", "90"}, defaultConverter);
+        In<Customer> anotherWeightIn = new In<>(queryCtx, "weight", new String[] {"55", "90", "120"}, defaultConverter);
+        NotEqual<Customer> weightNotEqual = new NotEqual<>(queryCtx, "weight", new String[] {"90"}, defaultConverter);
+
+        List<Customer> result = customerRepo.findAll(new Conjunction<>(weightIn, anotherWeightIn, weightNotEqual));
+
+        assertThat(result)
+            .containsOnly(margeSimpson);
+
+        assertThatInterceptedStatements()
+            .hasSelects(1)
+            .doesNotHaveClause(" in ")
+            .doesNotHaveClause("<>");
+    }
+
+    @Test
+    public void returnsEmptyResultForContradictingEqualAndNotEqual() {
+        Equal<Customer> weightEqual = new Equal<>(queryCtx, "weight", new String[] {"55"}, defaultConverter);
+        NotIn<Customer> weightNotIn = new NotIn<>(queryCtx, "weight", new String[] {"35", "55"}, defaultConverter);
+
+        List<Customer> result = customerRepo.findAll(new Conjunction<>(weightEqual, weightNotIn));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void returnsEmptyResultForDisjointRanges() {
+        Between<Customer> registeredInMiddleOfMarch = new Between<>(queryCtx, "registrationDate", new String[] {"2014-03-10", "2014-03-20"}, defaultConverter);
+        GreaterThan<Customer> registeredAfter20th = new GreaterThan<>(queryCtx, "registrationDate", new String[] {"2014-03-20"}, defaultConverter);
+
+        List<Customer> result = customerRepo.findAll(new Conjunction<>(registeredInMiddleOfMarch, registeredAfter20th));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void returnsEmptyResultForContradictionWithinOtherFilters() {
+        Like<Customer> streetWithEvergreen = new Like<>(queryCtx, "address.street", "Evergreen");
+        Equal<Customer> weightEqual = new Equal<>(queryCtx, "weight", new String[] {"55"}, defaultConverter);
+        Equal<Customer> otherWeightEqual = new Equal<>(queryCtx, "weight", new String[] {"56"}, defaultConverter);
+
+        List<Customer> result = customerRepo.findAll(new Conjunction<>(streetWithEvergreen, weightEqual, otherWeightEqual));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void doesNotMergeSpecsOnStringPaths() {
+        GreaterThan<Customer> firstNameAfterB = new GreaterThan<>(queryCtx, "firstName", new String[] {"B"}, defaultConverter);
+        LessThan<Customer> firstNameBeforeN = new LessThan<>(queryCtx, "firstName", new String[] {"N"}, defaultConverter);
+
+        List<Customer> result = customerRepo.findAll(new Conjunction<>(firstNameAfterB, firstNameBeforeN));
+
+        assertThat(result)
+            .containsOnly(homerSimpson, margeSimpson, moeSzyslak, bartSimpson);
+
+        assertThatInterceptedStatements()
+            .hasOneClause(">")
+            .hasOneClause("<");
+    }
+
+    @Test
+    public void fallsBackToRegularEvaluationOnTypeMismatch() {
+        EmptyResultOnTypeMismatch<Customer> weightEqual = new EmptyResultOnTypeMismatch<>(
+                new Equal<>(queryCtx, "weight", new String[] {"not a number"}, defaultConverter));
+        GreaterThan<Customer> heavierThan40 = new GreaterThan<>(queryCtx, "weight", new String[] {"40"}, defaultConverter);
+
+        List<Customer> result = customerRepo.findAll(new Conjunction<>(weightEqual, heavierThan40));
+
+        assertThat(result).isEmpty();
+    }
+
     @Test
     public void equalsAndHashCodeContract() {
         EqualsVerifier.forClass(Conjunction.class)
                 .usingGetClass()
                 .suppress(Warning.NONFINAL_FIELDS)
-                .withIgnoredFields("queriesWithInitializedFakes")
+                .withIgnoredFields("queriesWithInitializedFakes", "queriesWithEnclosingDisjunction", "aliasesReferencedOutside")
                 .verify();
     }
 
     @Test
     public void toStringVerifier() {
         ToStringVerifier.forClass(Conjunction.class)
-                .withIgnoredFields("queriesWithInitializedFakes")
+                .withIgnoredFields("queriesWithInitializedFakes", "queriesWithEnclosingDisjunction", "aliasesReferencedOutside")
                 .verify();
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class DisjunctionUnitTest {
+
+	Root<Customer> root = mock(Root.class);
+	CriteriaQuery<Customer> query = mock(CriteriaQuery.class);
+	CriteriaBuilder criteriaBuilder = mock(CriteriaBuilder.class);
+
+	@Test
+	public void combinesAllInnerPredicatesWithSingleOr() {
+		Predicate predicate1 = mock(Predicate.class);
+		Predicate predicate2 = mock(Predicate.class);
+		Predicate predicate3 = mock(Predicate.class);
+		Predicate combined = mock(Predicate.class);
+		when(criteriaBuilder.or(predicate1, predicate2, predicate3)).thenReturn(combined);
+
+		Disjunction<Customer> disjunction = new Disjunction<>(
+				specReturning(predicate1), specReturning(predicate2), specReturning(predicate3));
+
+		assertThat(disjunction.toPredicate(root, query, criteriaBuilder)).isSameAs(combined);
+		verify(criteriaBuilder, times(1)).or(predicate1, predicate2, predicate3);
+		verifyNoMoreInteractions(criteriaBuilder);
+	}
+
+	@Test
+	public void returnsSinglePredicateWithoutOrWrapper() {
+		Predicate predicate = mock(Predicate.class);
+
+		Disjunction<Customer> disjunction = new Disjunction<>(specReturning(predicate), specReturning(null));
+
+		assertThat(disjunction.toPredicate(root, query, criteriaBuilder)).isSameAs(predicate);
+		verifyNoInteractions(criteriaBuilder);
+	}
+
+	@Test
+	public void filtersOutUnrestrictedSpecsUponConstruction() {
+		Specification<Customer> spec = specReturning(mock(Predicate.class));
+
+		Disjunction<Customer> disjunction = new Disjunction<>(Specification.unrestricted(), spec, Specification.unrestricted());
+
+		assertThat(disjunction).isEqualTo(new Disjunction<>(spec));
+	}
+
+	@Test
+	public void returnsNullPredicateWhenAllSpecsAreUnrestricted() {
+		Disjunction<Customer> disjunction = new Disjunction<>(Specification.unrestricted(), Specification.unrestricted());
+
+		assertThat(disjunction.toPredicate(root, query, criteriaBuilder)).isNull();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Specification<Customer> specReturning(Predicate predicate) {
+		Specification<Customer> spec = mock(Specification.class);
+		when(spec.toPredicate(any(), any(), any())).thenReturn(predicate);
+		return spec;
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import static jakarta.persistence.criteria.JoinType.LEFT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmptyResultDetectorTest extends IntegrationTestBase {
+
+	@Test
+	public void replacesSpecWithTypeMismatchWithEmptyResult() {
+		Specification<Customer> spec = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "id", new String[] { "not a long" }, defaultConverter));
+
+		Specification<Customer> detected = detect(spec);
+
+		assertThat(detected).isEqualTo(new EmptyResult<>(spec));
+		assertThat(customerRepo.findAll(detected)).isEmpty();
+	}
+
+	@Test
+	public void replacesInWithAllValuesRejectedWithEmptyResult() {
+		Specification<Customer> spec = new EmptyResultOnTypeMismatch<>(
+				new In<>(queryCtx, "weightInt", new String[] { "heavy", "light" }, defaultConverter));
+
+		assertThat(detect(spec)).isInstanceOf(EmptyResult.class);
+	}
+
+	@Test
+	public void doesNotChangeSpecWithoutTypeMismatch() {
+		Specification<Customer> spec = new EmptyResultOnTypeMismatch<>(
+				new GreaterThan<>(queryCtx, "registrationDate", new String[] { "2014-03-15" }, defaultConverter));
+
+		assertThat(detect(spec)).isSameAs(spec);
+	}
+
+	@Test
+	public void doesNotChangeSpecIgnoringTypeMismatch() {
+		Specification<Customer> spec = new IgnoreOnTypeMismatch<>(
+				new Equal<>(queryCtx, "id", new String[] { "not a long" }, defaultConverter));
+
+		assertThat(detect(spec)).isSameAs(spec);
+	}
+
+	@Test
+	public void doesNotChangeSpecWithUnknownPath() {
+		Specification<Customer> spec = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "unknownPath", new String[] { "not a long" }, defaultConverter));
+
+		assertThat(detect(spec)).isSameAs(spec);
+	}
+
+	@Test
+	public void resolvesTypeOnPathOfEmbeddedAndJoinedEntities() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		Specification<Customer> orderIdMismatch = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "o.id", new String[] { "not a long" }, defaultConverter));
+		Specification<Customer> streetFilter = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "address.street", new String[] { "Evergreen Terrace" }, defaultConverter));
+
+		assertThat(detect(new Conjunction<>(joinOrders, streetFilter))).isInstanceOf(Conjunction.class);
+		assertThat(detect(new Conjunction<>(joinOrders, streetFilter, orderIdMismatch))).isInstanceOf(EmptyResult.class);
+	}
+
+	@Test
+	public void replacesConjunctionWithContradictingSpecsWithEmptyResult() {
+		Specification<Customer> spec = new Conjunction<>(
+				new Equal<>(queryCtx, "weight", new String[] { "100" }, defaultConverter),
+				new LessThan<>(queryCtx, "weight", new String[] { "100" }, defaultConverter));
+
+		assertThat(detect(spec)).isEqualTo(new EmptyResult<>(spec));
+	}
+
+	@Test
+	public void removesEmptySpecsFromDisjunction() {
+		Specification<Customer> idMismatch = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "id", new String[] { "Homer" }, defaultConverter));
+		Specification<Customer> weightMismatch = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "weight", new String[] { "Homer" }, defaultConverter));
+		Specification<Customer> firstNameEqual = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "firstName", new String[] { "Homer" }, defaultConverter));
+
+		assertThat(detect(new Disjunction<>(idMismatch, weightMismatch, firstNameEqual))).isSameAs(firstNameEqual);
+		assertThat(detect(new Disjunction<>(idMismatch, weightMismatch))).isInstanceOf(EmptyResult.class);
+	}
+
+	@Test
+	public void keepsEmptyBranchWithJoinInDisjunction() {
+		Specification<Customer> branchWithJoin = new Conjunction<>(
+				new Join<>(queryCtx, "orders", "o", LEFT, true),
+				new EmptyResultOnTypeMismatch<>(new Equal<>(queryCtx, "o.id", new String[] { "Homer" }, defaultConverter)));
+		Specification<Customer> firstNameEqual = new Equal<>(queryCtx, "firstName", new String[] { "Homer" }, defaultConverter);
+		Specification<Customer> spec = new Disjunction<>(branchWithJoin, firstNameEqual);
+
+		assertThat(detect(spec)).isSameAs(spec);
+	}
+
+	@Test
+	public void removesEmptySpecsFromDisjunctionNestedInConjunction() {
+		Specification<Customer> idMismatch = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "id", new String[] { "Homer" }, defaultConverter));
+		Specification<Customer> firstNameEqual = new Equal<>(queryCtx, "firstName", new String[] { "Homer" }, defaultConverter);
+		Specification<Customer> lastNameEqual = new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter);
+
+		assertThat(detect(new Conjunction<>(lastNameEqual, new Disjunction<>(idMismatch, firstNameEqual))))
+				.isEqualTo(new Conjunction<>(lastNameEqual, firstNameEqual));
+	}
+
+	@Test
+	public void simplifierReplacesTypeMismatchWithEmptyResultAndPrunesTheTree() {
+		Specification<Customer> idMismatch = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "id", new String[] { "Homer" }, defaultConverter));
+		Specification<Customer> firstNameEqual = new EmptyResultOnTypeMismatch<>(
+				new Equal<>(queryCtx, "firstName", new String[] { "Homer" }, defaultConverter));
+		Specification<Customer> lastNameEqual = new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter);
+
+		Specification<Customer> prunedConjunction = new Conjunction<>(lastNameEqual, idMismatch);
+		assertThat(simplify(prunedConjunction)).isEqualTo(new EmptyResult<>(prunedConjunction));
+		assertThat(simplify(new Conjunction<>(lastNameEqual, new Disjunction<>(idMismatch, firstNameEqual))))
+				.isEqualTo(new Conjunction<>(lastNameEqual, firstNameEqual));
+		assertThat(simplify(new Disjunction<>(idMismatch, prunedConjunction))).isInstanceOf(EmptyResult.class);
+	}
+
+	@Test
+	public void simplifierReplacesFlattenedConjunctionWithContradictingSpecsWithEmptyResult() {
+		Specification<Customer> spec = new Conjunction<>(
+				new Equal<>(queryCtx, "weight", new String[] { "100" }, defaultConverter),
+				new Conjunction<>(new LessThan<>(queryCtx, "weight", new String[] { "100" }, defaultConverter)));
+
+		assertThat(detect(spec)).isSameAs(spec);
+		assertThat(simplify(spec)).isEqualTo(new EmptyResult<>(spec));
+	}
+
+	private Specification<Customer> simplify(Specification<Customer> spec) {
+		return SpecificationSimplifier.simplify(spec, Customer.class, em.getMetamodel());
+	}
+
+	private Specification<Customer> detect(Specification<Customer> spec) {
+		return EmptyResultDetector.detect(spec, Customer.class, em.getMetamodel());
+	}
+}
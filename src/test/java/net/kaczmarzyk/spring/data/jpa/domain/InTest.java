@@ -21,6 +21,7 @@ import net.kaczmarzyk.spring.data.jpa.Gender;
 import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.OnTypeMismatch;
+import net.kaczmarzyk.utils.interceptor.HibernateStatementInspector;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.utils.InterceptedStatementsAssert.assertThatInterceptedStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -77,6 +79,102 @@ public class InTest extends IntegrationTestBase {
         assertThat(malesOrFemales).hasSize(3).containsOnly(homerSimpson, margeSimpson, moeSzyslak);
     }
 
+    @Test
+    public void splitsValuesIntoInListsOfLimitedSizeWithPartitionedStrategy() {
+        In<Customer> weights = new In<>(queryCtx, "weight", new String[] { "121", "55", "65", "1" }, defaultConverter);
+        weights.setInListStrategy(InListStrategy.partitioned(3));
+
+        HibernateStatementInspector.clearInterceptedStatements();
+        List<Customer> found = customerRepo.findAll(weights);
+
+        assertThat(found).hasSize(3).containsOnly(homerSimpson, margeSimpson, moeSzyslak);
+        assertThatInterceptedStatements()
+                .hasSelects(1)
+                .hasClause(" in (", 2)
+                .hasOneClause(" or ");
+    }
+
+    @Test
+    public void bindsValuesAsSingleArrayParameterWithArrayParameterStrategy() {
+        In<Customer> weights = new In<>(queryCtx, "weight", new String[] { "121", "55", "1" }, defaultConverter);
+        weights.setInListStrategy(InListStrategy.ARRAY_PARAMETER);
+
+        HibernateStatementInspector.clearInterceptedStatements();
+        List<Customer> found = customerRepo.findAll(weights);
+
+        assertThat(found).hasSize(2).containsOnly(homerSimpson, margeSimpson);
+        assertThatInterceptedStatements()
+                .hasSelects(1)
+                .hasOneClause("array_contains(?,")
+                .doesNotHaveClause(" in (");
+    }
+
+    @Test
+    public void keepsInListStrategyWhenMergedWithOtherSpecsOnTheSamePath() {
+        In<Customer> weights = new In<>(queryCtx, "weight", new String[] { "121", "55", "65", "1" }, defaultConverter);
+        weights.setInListStrategy(InListStrategy.ARRAY_PARAMETER);
+        GreaterThan<Customer> heavierThan = new GreaterThan<>(queryCtx, "weight", new String[] { "60" }, defaultConverter);
+
+        HibernateStatementInspector.clearInterceptedStatements();
+        List<Customer> found = customerRepo.findAll(new Conjunction<>(weights, heavierThan));
+
+        assertThat(found).hasSize(2).containsOnly(homerSimpson, moeSzyslak);
+        assertThatInterceptedStatements()
+                .hasSelects(1)
+                .hasOneClause("array_contains(?,")
+                .doesNotHaveClause(" in (")
+                .doesNotHaveClause(">");
+    }
+
+    @Test
+    public void choosesStrategyByNumberOfValuesWithThresholdStrategy() {
+        InListStrategy threshold = InListStrategy.threshold(2, InListStrategy.PLAIN, InListStrategy.ARRAY_PARAMETER);
+
+        In<Customer> twoGenders = new In<>(queryCtx, "gender", new String[] { "MALE", "FEMALE" }, defaultConverter);
+        twoGenders.setInListStrategy(threshold);
+        In<Customer> threeWeights = new In<>(queryCtx, "weight", new String[] { "121", "55", "65" }, defaultConverter);
+        threeWeights.setInListStrategy(threshold);
+
+        HibernateStatementInspector.clearInterceptedStatements();
+        assertThat(customerRepo.findAll(twoGenders)).hasSize(3);
+        assertThat(customerRepo.findAll(threeWeights)).hasSize(3);
+
+        assertThatInterceptedStatements()
+                .hasSelects(2)
+                .hasOneClause(" in (")
+                .hasOneClause("array_contains(?,");
+    }
+
+    @Test
+    public void producesTheSameStatementForListsOfSimilarLengthWithPaddedStrategy() {
+        In<Customer> threeWeights = new In<>(queryCtx, "weight", new String[] { "121", "55", "65" }, defaultConverter);
+        threeWeights.setInListStrategy(InListStrategy.padded(InListStrategy.PLAIN));
+        In<Customer> fourWeightsWithDuplicates = new In<>(queryCtx, "weight", new String[] { "65", "121", "1", "65", "55", "121" }, defaultConverter);
+        fourWeightsWithDuplicates.setInListStrategy(InListStrategy.padded(InListStrategy.PLAIN));
+
+        HibernateStatementInspector.clearInterceptedStatements();
+        assertThat(customerRepo.findAll(threeWeights)).hasSize(3).containsOnly(homerSimpson, margeSimpson, moeSzyslak);
+        assertThat(customerRepo.findAll(fourWeightsWithDuplicates)).hasSize(3).containsOnly(homerSimpson, margeSimpson, moeSzyslak);
+
+        assertThatInterceptedStatements()
+                .hasSelects(2)
+                .hasClause(" in (?,?,?,?)", 2);
+        List<String> statements = HibernateStatementInspector.getInterceptedStatements();
+        assertThat(statements.get(0)).isEqualTo(statements.get(1));
+    }
+
+    @Test
+    public void deduplicatesSortsAndPadsValuesToPowerOfTwo() {
+        assertThat(InListStrategy.Padded.canonicalize(List.of(5L, 3L, 5L, 1L, 7L, 9L))).containsExactly(1L, 3L, 5L, 7L, 9L, 9L, 9L, 9L);
+        assertThat(InListStrategy.Padded.canonicalize(List.of(2L, 1L))).containsExactly(1L, 2L);
+        assertThat(InListStrategy.Padded.canonicalize(List.of(1L))).containsExactly(1L);
+    }
+
+    @Test
+    public void rejectsNonPositivePartitionSize() {
+        assertThrows(IllegalArgumentException.class, () -> InListStrategy.partitioned(0));
+    }
+
 //    @Test // TODO to be replaced with new tests...
     public void rejectsNotExistingEnumConstantName() {
 //        In<Customer> genderRobot = new In<>(queryCtx, "gender", new String[] { "ROBOT" }, defaultConverter);
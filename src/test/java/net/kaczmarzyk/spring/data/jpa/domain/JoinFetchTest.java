@@ -21,6 +21,7 @@ import net.kaczmarzyk.spring.data.jpa.Customer;
 import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
 import net.kaczmarzyk.spring.data.jpa.ItemTag;
 import net.kaczmarzyk.spring.data.jpa.Order;
+import net.kaczmarzyk.utils.interceptor.HibernateStatementInspector;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.hibernate.Hibernate;
@@ -35,6 +36,7 @@ import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
 import static net.kaczmarzyk.spring.data.jpa.ItemTagBuilder.itemTag;
 import static net.kaczmarzyk.spring.data.jpa.OrderBuilder.order;
 import static net.kaczmarzyk.spring.data.jpa.utils.ThrowableAssertions.assertThrows;
+import static net.kaczmarzyk.utils.InterceptedStatementsAssert.assertThatInterceptedStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -318,11 +320,26 @@ public class JoinFetchTest extends IntegrationTestBase {
     }
 
     @Test
-    public void throwsIllegalArgumentExceptionWhenFetchJoinsAreDefinedInInvalidOrder() {
+    public void fetchJoinsAreEvaluatedInDependencyOrderRegardlessOfDefinitionOrder() {
         JoinFetch<Customer> tags = new JoinFetch<Customer>(queryCtx, new String[] { "o.tags" }, JoinType.LEFT, true);
         JoinFetch<Customer> orders = new JoinFetch<Customer>(queryCtx, new String[] { "orders" }, "o", JoinType.LEFT, true);
 
-        Conjunction<Customer> spec = new Conjunction<Customer>(tags, orders);
+        List<Customer> customers = customerRepo.findAll(new Conjunction<Customer>(tags, orders));
+
+        assertThat(customers).isNotEmpty();
+        for (Customer customer : customers) {
+            assertTrue(Hibernate.isInitialized(customer.getOrders()));
+            for (Order order : customer.getOrders()) {
+                assertTrue(Hibernate.isInitialized(order.getTags()));
+            }
+        }
+    }
+
+    @Test
+    public void throwsIllegalArgumentExceptionWhenFetchJoinRefersToUndefinedAlias() {
+        JoinFetch<Customer> tags = new JoinFetch<Customer>(queryCtx, new String[] { "o.tags" }, JoinType.LEFT, true);
+
+        Conjunction<Customer> spec = new Conjunction<Customer>(tags);
 
         assertThrows(
                 InvalidDataAccessApiUsageException.class,
@@ -342,6 +359,21 @@ public class JoinFetchTest extends IntegrationTestBase {
                 .containsExactlyInAnyOrder("Bart", "Homer", "Marge");
     }
 
+    @Test
+    public void countQueryDoesNotJoinNorUseDistinctIfJoinFetchIsNotUsedForFiltering() {
+        JoinFetch<Customer> fetchOrders = new JoinFetch<>(queryCtx, new String[]{ "orders" }, JoinType.LEFT, true);
+        Equal<Customer> lastName = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+        HibernateStatementInspector.clearInterceptedStatements();
+        long count = customerRepo.count(new Conjunction<>(fetchOrders, lastName));
+
+        assertThat(count).isEqualTo(3);
+        assertThatInterceptedStatements()
+                .hasSelects(1)
+                .hasNumberOfJoins(0)
+                .doesNotHaveClause("distinct");
+    }
+
     @Test
     public void equalsAndHashCodeContract() {
         EqualsVerifier.forClass(JoinFetch.class)
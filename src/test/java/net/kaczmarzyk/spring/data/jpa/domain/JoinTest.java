@@ -17,6 +17,7 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 
 import static jakarta.persistence.criteria.JoinType.INNER;
 import static jakarta.persistence.criteria.JoinType.LEFT;
+import static net.kaczmarzyk.spring.data.jpa.domain.JoinStrategy.EXISTS;
 import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
 import static net.kaczmarzyk.spring.data.jpa.ItemTagBuilder.itemTag;
 import static net.kaczmarzyk.spring.data.jpa.OrderBuilder.order;
@@ -30,6 +31,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -145,12 +148,24 @@ public class JoinTest extends IntegrationTestBase {
 	}
 
 	@Test
-	public void throwsIllegalArgumentExceptionWhenJoinsAreDefinedInInvalidOrder() {
+	public void joinsAreEvaluatedInDependencyOrderRegardlessOfDefinitionOrder() {
 		Join<Customer> joinTags = new Join<>(queryCtx, "o.tags", "t", LEFT, true);
 		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
 		Equal<Customer> tagEqual = new Equal<>(queryCtx, "t.name", new String[]{ "books" }, defaultConverter);
 
-		Conjunction<Customer> conjunction = new Conjunction<>(joinTags, joinOrders, tagEqual);
+		List<Customer> customers = customerRepo.findAll(new Conjunction<>(joinTags, joinOrders, tagEqual));
+
+		assertThat(customers)
+				.extracting(Customer::getFirstName)
+				.containsOnly("Bart");
+	}
+
+	@Test
+	public void throwsIllegalArgumentExceptionWhenJoinRefersToUndefinedAlias() {
+		Join<Customer> joinTags = new Join<>(queryCtx, "o.tags", "t", LEFT, true);
+		Equal<Customer> tagEqual = new Equal<>(queryCtx, "t.name", new String[]{ "books" }, defaultConverter);
+
+		Conjunction<Customer> conjunction = new Conjunction<>(joinTags, tagEqual);
 
 		assertThrows(
 				InvalidDataAccessApiUsageException.class,
@@ -160,6 +175,397 @@ public class JoinTest extends IntegrationTestBase {
 		);
 	}
 	
+	@Test
+	public void leftJoinOnToOneAssociationIsNotEvaluatedIfNoFilteringIsAppliedOnTheJoinedPartEvenIfQueryIsNotDistinct() {
+		Join<Customer> innerJoinOrders = new Join<>(queryCtx, "orders", "o", INNER, true);
+		Join<Customer> leftJoinNote = new Join<>(queryCtx, "o.note", "n", LEFT, false);
+
+		List<Customer> found = customerRepo.findAll(innerJoinOrders.and(leftJoinNote));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsOnly("Bart", "Homer");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfJoins(1);
+	}
+
+	@Test
+	public void joinOnToOneAssociationIsReusedForDifferentAliases() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		Join<Customer> joinNote = new Join<>(queryCtx, "o.note", "n", LEFT, true);
+		Join<Customer> joinNoteAgain = new Join<>(queryCtx, "o.note", "n2", LEFT, true);
+		Equal<Customer> noteTitle = new Equal<>(queryCtx, "n.title", new String[]{ "NoteDuff Beer" }, defaultConverter);
+		NotNull<Customer> noteNotNull = new NotNull<>(queryCtx, "n2.id", new String[]{ "true" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, joinNote, joinNoteAgain, noteTitle, noteNotNull));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsOnly("Homer");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfJoins(2);
+	}
+
+	@Test
+	public void joinOnToManyAssociationIsNotReusedForDifferentAliases() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		Join<Customer> joinOrdersAgain = new Join<>(queryCtx, "orders", "o2", LEFT, true);
+		Equal<Customer> orderedBeer = new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter);
+		Equal<Customer> orderedDonuts = new Equal<>(queryCtx, "o2.itemName", new String[]{ "Donuts" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, joinOrdersAgain, orderedBeer, orderedDonuts));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsOnly("Homer");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfJoins(2);
+	}
+
+	@Test
+	public void leftJoinFilteredWithNullRejectingPredicateIsPromotedToInnerJoin() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		Equal<Customer> orderedItemName = new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, orderedItemName));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsOnly("Homer");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfTableJoins("orders", INNER, 1)
+			.hasNumberOfTableJoins("orders", LEFT, 0);
+	}
+
+	@Test
+	public void leftJoinIsPromotedToInnerJoinIfJoinReferringToItsAliasIsFilteredWithNullRejectingPredicate() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		Join<Customer> joinTags = new Join<>(queryCtx, "o.tags", "t", LEFT, true);
+		Equal<Customer> tagEqual = new Equal<>(queryCtx, "t.name", new String[]{ "books" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, joinTags, tagEqual));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsOnly("Bart");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfTableJoins("orders", INNER, 1)
+			.hasNumberOfTableJoins("orders_tags", INNER, 1);
+	}
+
+	@Test
+	public void leftJoinIsNotPromotedToInnerJoinIfPredicateAcceptsNulls() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		Null<Customer> itemNameIsNull = new Null<>(queryCtx, "o.itemName", new String[]{ "true" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, itemNameIsNull));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsOnly("Marge");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfTableJoins("orders", LEFT, 1);
+	}
+
+	@Test
+	public void leftJoinIsNotPromotedToInnerJoinIfItIsNestedInDisjunction() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		Equal<Customer> orderedItemName = new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter);
+		Equal<Customer> firstName = new Equal<>(queryCtx, "firstName", new String[]{ "Marge" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Disjunction<>(new Conjunction<>(joinOrders, orderedItemName), firstName));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsOnly("Homer", "Marge");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfTableJoins("orders", LEFT, 1);
+	}
+
+	@Test
+	public void countQueryUsesExistsSubqueryInsteadOfDistinctForFilteredJoinOnCollection() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		In<Customer> orderedItems = new In<>(queryCtx, "o.itemName", new String[]{ "Duff Beer", "Donuts", "Comic Books" }, defaultConverter);
+
+		long count = customerRepo.count(new Conjunction<>(joinOrders, orderedItems));
+
+		assertThat(count).isEqualTo(2);
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasOneClause("exists")
+			.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void countQueryUsesExistsSubqueryForInnerJoinOnCollectionEvenIfItIsNotFiltered() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", INNER, true);
+		Equal<Customer> lastName = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+		long count = customerRepo.count(new Conjunction<>(joinOrders, lastName));
+
+		assertThat(count).isEqualTo(2);
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasOneClause("exists")
+			.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void countQueryEvaluatesJoinsOfNestedConjunctionsInSeparateSubqueries() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", INNER, true);
+		Join<Customer> joinOrders2 = new Join<>(queryCtx, "orders", "o2", INNER, true);
+		Equal<Customer> orderedDonuts = new Equal<>(queryCtx, "o2.itemName", new String[]{ "Donuts" }, defaultConverter);
+
+		long count = customerRepo.count(new Conjunction<>(joinOrders, new Conjunction<>(joinOrders2, orderedDonuts)));
+
+		assertThat(count).isEqualTo(1);
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasClause("exists", 2)
+			.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void countQueryEvaluatesJoinsOnDifferentCollectionsOfNestedConjunctionsInSeparateSubqueries() {
+		customer("Ned", "Flanders")
+				.orders(order("Bible"))
+				.badges("Neighbour")
+				.build(em);
+		customer("Maude", "Flanders")
+				.badges("Neighbour")
+				.build(em);
+
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", INNER, true);
+		Join<Customer> joinBadges = new Join<>(queryCtx, "badges", "b", INNER, true);
+		Equal<Customer> badgeType = new Equal<>(queryCtx, "b.badgeType", new String[]{ "Neighbour" }, defaultConverter);
+
+		long count = customerRepo.count(new Conjunction<>(joinOrders, new Conjunction<>(joinBadges, badgeType)));
+
+		assertThat(count).isEqualTo(1);
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasClause("exists", 2)
+			.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void countQueryUsesDistinctIfJoinOnCollectionMayProduceRowWithNulls() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		Equal<Customer> orderedBeer = new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter);
+		Equal<Customer> orderedDonuts = new Equal<>(queryCtx, "o.itemName", new String[]{ "Donuts" }, defaultConverter);
+		Equal<Customer> firstName = new Equal<>(queryCtx, "firstName", new String[]{ "Marge" }, defaultConverter);
+
+		long count = customerRepo.count(new Conjunction<>(joinOrders, new Disjunction<>(orderedBeer, orderedDonuts, firstName)));
+
+		assertThat(count).isEqualTo(2);
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasOneClause("count(distinct")
+			.doesNotHaveClause("exists");
+	}
+
+	@Test
+	public void existsStrategyFiltersCollectionInSubqueryWithoutDistinct() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		In<Customer> orderedItems = new In<>(queryCtx, "o.itemName", new String[]{ "Duff Beer", "Donuts", "Comic Books" }, defaultConverter);
+		Equal<Customer> lastName = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, orderedItems, lastName), Sort.by("id"));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsExactly("Homer", "Bart");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasOneClause("exists")
+			.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void existsStrategyEvaluatesMultilevelJoinWithinTheSameSubquery() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		Join<Customer> joinTags = new Join<>(queryCtx, "o.tags", "t", LEFT, true);
+		Equal<Customer> tagEqual = new Equal<>(queryCtx, "t.name", new String[]{ "books" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, joinTags, tagEqual));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsOnly("Bart");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasOneClause("exists")
+			.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void existsStrategyRequiresAllFiltersOnAliasToMatchTheSameElement() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		Equal<Customer> orderedBeer = new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter);
+		Join<Customer> joinTags = new Join<>(queryCtx, "o.tags", "t", LEFT, true);
+		Equal<Customer> tagEqual = new Equal<>(queryCtx, "t.name", new String[]{ "books" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, joinTags, orderedBeer, tagEqual));
+
+		assertThat(found).isEmpty();
+	}
+
+	@Test
+	public void existsStrategyDoesNotCreateSubqueryIfNoFilteringIsAppliedOnTheJoinedPart() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		Equal<Customer> lastName = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, lastName));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsOnly("Homer", "Marge", "Bart");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfJoins(0)
+			.doesNotHaveClause("exists");
+	}
+
+	@Test
+	public void existsStrategyIsAppliedToCountQuery() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		NotNull<Customer> hasOrders = new NotNull<>(queryCtx, "o.id", new String[]{ "true" }, defaultConverter);
+
+		Page<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, hasOrders), PageRequest.of(0, 1, Sort.by("id")));
+
+		assertThat(found.getContent())
+			.extracting(Customer::getFirstName)
+			.containsExactly("Homer");
+		assertThat(found.getTotalElements()).isEqualTo(2);
+
+		assertThatInterceptedStatements()
+			.hasSelects(2)
+			.hasClause("exists", 2)
+			.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void existsStrategyUsesSeparateSubqueryForEachConjunctionOfDisjunction() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		Equal<Customer> orderedBeer = new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter);
+		Join<Customer> joinOrders2 = new Join<>(queryCtx, "orders", "o2", LEFT, true, EXISTS);
+		Equal<Customer> orderedComicBooks = new Equal<>(queryCtx, "o2.itemName", new String[]{ "Comic Books" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Disjunction<>(
+				new Conjunction<>(joinOrders, orderedBeer),
+				new Conjunction<>(joinOrders2, orderedComicBooks)), Sort.by("id"));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsExactly("Homer", "Bart");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasClause("exists", 2)
+			.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void existsStrategyKeepsFiltersOnRootInMainQuery() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		Equal<Customer> orderedBeer = new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter);
+		Join<Customer> joinOrders2 = new Join<>(queryCtx, "orders", "o2", LEFT, true, EXISTS);
+		Equal<Customer> orderedDonuts = new Equal<>(queryCtx, "o2.itemName", new String[]{ "Donuts" }, defaultConverter);
+		Equal<Customer> firstName = new Equal<>(queryCtx, "firstName", new String[]{ "Homer" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, joinOrders2, orderedBeer, orderedDonuts, firstName));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsExactly("Homer");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasClause("exists", 2)
+			.hasNumberOfJoins(0);
+	}
+
+	@Test
+	public void existsStrategyFallsBackToLeftJoinIfFilterAcceptsNulls() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		Null<Customer> withoutOrders = new Null<>(queryCtx, "o.id", new String[]{ "true" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, withoutOrders));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsExactly("Marge");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfTableJoins("orders", LEFT, 1)
+			.doesNotHaveClause("exists");
+	}
+
+	@Test
+	public void returnsEmptyResultForNullCheckWithUnparseableBooleanOnJoinedPath() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true);
+		Specification<Customer> hasOrders = new EmptyResultOnTypeMismatch<>(
+				new NotNull<>(queryCtx, "o.id", new String[]{ "maybe" }, defaultConverter));
+		Specification<Customer> hasNickName = new EmptyResultOnTypeMismatch<>(
+				new Null<>(queryCtx, "nickName", new String[]{ "maybe" }, defaultConverter));
+
+		assertThat(customerRepo.findAll(new Conjunction<>(joinOrders, hasOrders))).isEmpty();
+		assertThat(customerRepo.findAll(new Conjunction<>(joinOrders, hasNickName))).isEmpty();
+	}
+
+	@Test
+	public void existsStrategyFallsBackToLeftJoinIfDisjunctionAcceptsRowsWithoutJoinedPart() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		Equal<Customer> orderedBeer = new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter);
+		Equal<Customer> firstName = new Equal<>(queryCtx, "firstName", new String[]{ "Marge" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(joinOrders, new Disjunction<>(orderedBeer, firstName)), Sort.by("id"));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsExactly("Homer", "Marge");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.hasNumberOfTableJoins("orders", LEFT, 1)
+			.doesNotHaveClause("exists");
+	}
+
+	@Test
+	public void existsStrategyFallsBackToRegularJoinIfAliasIsReferencedOutsideOfDeclaringConjunction() {
+		Join<Customer> joinOrders = new Join<>(queryCtx, "orders", "o", LEFT, true, EXISTS);
+		Equal<Customer> orderedBeer = new Equal<>(queryCtx, "o.itemName", new String[]{ "Duff Beer" }, defaultConverter);
+		Equal<Customer> lastName = new Equal<>(queryCtx, "lastName", new String[]{ "Simpson" }, defaultConverter);
+
+		List<Customer> found = customerRepo.findAll(new Conjunction<>(new Conjunction<>(joinOrders, lastName), orderedBeer));
+
+		assertThat(found)
+			.extracting(Customer::getFirstName)
+			.containsExactly("Homer");
+
+		assertThatInterceptedStatements()
+			.hasSelects(1)
+			.doesNotHaveClause("exists");
+	}
+
 	@Test
 	public void innerJoinIsEvaluatedEvenIfNoFilteringIsAppliedOnTheJoinedPart() {
 		Join<Customer> innerJoinOrders = new Join<>(queryCtx, "orders", "", INNER, true);
@@ -18,6 +18,7 @@ package net.kaczmarzyk.spring.data.jpa.domain;
 import net.kaczmarzyk.spring.data.jpa.Customer;
 import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
 import net.kaczmarzyk.spring.data.jpa.utils.CharEscaper;
+import net.kaczmarzyk.utils.interceptor.HibernateStatementInspector;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Set;
 
 import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.utils.InterceptedStatementsAssert.assertThatInterceptedStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -79,6 +81,20 @@ public class LikeIgnoreCaseTest extends IntegrationTestBase {
                 .containsOnly("Char%");
     }
 
+    @Test
+    public void bindsValueAndEscapeCharacterAsParameters() {
+        LikeIgnoreCase<Customer> spec = new LikeIgnoreCase<>(queryCtx, "lastName", "sIMPSOn");
+        spec.applyCharEscaper(new CharEscaper('\\', Set.of('%', '_')));
+
+        HibernateStatementInspector.clearInterceptedStatements();
+        customerRepo.findAll(spec);
+
+        assertThatInterceptedStatements()
+                .hasSelects(1)
+                .hasOneClause("like upper(?) escape ?")
+                .doesNotHaveClause("sIMPSOn");
+    }
+
     @Test
     public void filtersByNestedPropertyIgnoringCase() {
         LikeIgnoreCase<Customer> streetWithEvergreen = new LikeIgnoreCase<>(queryCtx, "address.street", "EvErGReeN");
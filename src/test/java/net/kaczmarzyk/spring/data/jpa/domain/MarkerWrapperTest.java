@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MarkerWrapperTest {
+
+	@Test
+	public void findsMarkerOfTheSpecItself() {
+		WithCountCap<Object> spec = new WithCountCap<>(Specification.unrestricted(), 10);
+
+		assertThat(MarkerWrapper.findMarker(spec, CountCapped.class)).containsSame(spec);
+	}
+
+	@Test
+	public void findsMarkerOfSpecWrappedOnAnyLevel() {
+		EmptyResult<Object> emptyResult = new EmptyResult<>(Specification.unrestricted());
+		Specification<Object> spec = new WithSelectedFields<>(new WithCountCap<>(emptyResult, 10), List.of("firstName"));
+
+		assertThat(MarkerWrapper.findMarker(spec, ProvablyEmpty.class)).containsSame(emptyResult);
+		assertThat(MarkerWrapper.findMarker(spec, CountCapped.class).map(CountCapped::getCountCap)).contains(10);
+		assertThat(MarkerWrapper.findMarker(spec, FieldSelection.class).map(FieldSelection::getSelectedFields)).contains(List.of("firstName"));
+	}
+
+	@Test
+	public void returnsEmptyOptionalIfNoSpecInTheChainIsMarked() {
+		Specification<Object> spec = new WithSelectedFields<>(Specification.unrestricted(), List.of("firstName"));
+
+		assertThat(MarkerWrapper.findMarker(spec, CountCapped.class)).isEmpty();
+		assertThat(MarkerWrapper.findMarker(null, CountCapped.class)).isEmpty();
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.domain;
+
+import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import net.kaczmarzyk.spring.data.jpa.web.DefaultQueryContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SpecificationSimplifierTest {
+
+	QueryContext queryCtx = new DefaultQueryContext();
+
+	Like<Object> firstNameLike = new Like<>(queryCtx, "firstName", "Homer");
+	Like<Object> lastNameLike = new Like<>(queryCtx, "lastName", "Simpson");
+	Like<Object> nickNameLike = new Like<>(queryCtx, "nickName", "Hom");
+
+	Join<Object> ordersJoin = new Join<>(queryCtx, "orders", "o", JoinType.LEFT, true);
+
+	@Test
+	public void flattensNestedConjunctions() {
+		Specification<Object> spec = new Conjunction<>(
+				firstNameLike,
+				new Conjunction<>(lastNameLike, new Conjunction<>(nickNameLike)));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(new Conjunction<>(firstNameLike, lastNameLike, nickNameLike));
+	}
+
+	@Test
+	public void flattensNestedDisjunctions() {
+		Specification<Object> spec = new Disjunction<>(
+				firstNameLike,
+				new Disjunction<>(lastNameLike, nickNameLike));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(new Disjunction<>(firstNameLike, lastNameLike, nickNameLike));
+	}
+
+	@Test
+	public void doesNotFlattenDisjunctionIntoConjunction() {
+		Specification<Object> spec = new Conjunction<>(
+				firstNameLike,
+				new Disjunction<>(lastNameLike, nickNameLike));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(spec);
+	}
+
+	@Test
+	public void removesDuplicatedSpecsAndJoinsPreservingTheOrder() {
+		Specification<Object> spec = new Conjunction<>(
+				new Conjunction<>(ordersJoin, firstNameLike),
+				new Conjunction<>(ordersJoin, lastNameLike, firstNameLike));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(new Conjunction<>(ordersJoin, firstNameLike, lastNameLike));
+	}
+
+	@Test
+	public void removesUnrestrictedBranches() {
+		Specification<Object> spec = new Conjunction<>(
+				firstNameLike,
+				Specification.unrestricted(),
+				new Conjunction<>(Specification.unrestricted(), lastNameLike));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(new Conjunction<>(firstNameLike, lastNameLike));
+	}
+
+	@Test
+	public void returnsUnrestrictedSpecIfAllBranchesAreUnrestricted() {
+		Specification<Object> spec = new Conjunction<>(
+				Specification.unrestricted(),
+				new Disjunction<>(Specification.unrestricted()));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(Specification.unrestricted());
+	}
+
+	@Test
+	public void unwrapsSingleElementConjunctionsAndDisjunctions() {
+		Specification<Object> spec = new Conjunction<>(
+				new Disjunction<>(new Conjunction<>(firstNameLike)));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(firstNameLike);
+	}
+
+	@Test
+	public void doesNotUnwrapConjunctionWithSingleJoin() {
+		Specification<Object> spec = new Conjunction<>(ordersJoin);
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(new Conjunction<>(ordersJoin));
+	}
+
+	@Test
+	public void collapsesNestedTypeMismatchWrappers() {
+		Specification<Object> spec = new EmptyResultOnTypeMismatch<>(
+				new EmptyResultOnTypeMismatch<>(new Conjunction<>(new Conjunction<>(firstNameLike))));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(new EmptyResultOnTypeMismatch<>(firstNameLike));
+	}
+
+	@Test
+	public void removesTypeMismatchWrapperOfUnrestrictedSpec() {
+		Specification<Object> spec = new Conjunction<>(
+				firstNameLike,
+				new IgnoreOnTypeMismatch<>(new Conjunction<>(Specification.unrestricted())));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(firstNameLike);
+	}
+
+	@Test
+	public void returnsTheSameInstanceIfNothingToSimplify() {
+		Specification<Object> spec = new IgnoreOnTypeMismatch<>(firstNameLike);
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isSameAs(spec);
+	}
+
+	@Test
+	public void replacesConjunctionWithEmptyInnerSpecWithEmptyResult() {
+		Specification<Object> spec = new Conjunction<>(
+				ordersJoin,
+				firstNameLike,
+				new Conjunction<>(lastNameLike, new EmptyResult<>(nickNameLike)));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(new EmptyResult<>(spec));
+	}
+
+	@Test
+	public void removesEmptyBranchesFromDisjunction() {
+		Specification<Object> spec = new Disjunction<>(
+				new EmptyResult<>(firstNameLike),
+				lastNameLike,
+				new Conjunction<>(nickNameLike, new EmptyResult<>(firstNameLike)));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(lastNameLike);
+	}
+
+	@Test
+	public void replacesDisjunctionWithAllBranchesEmptyWithEmptyResult() {
+		Specification<Object> spec = new Disjunction<>(
+				new EmptyResult<>(firstNameLike),
+				new EmptyResultOnTypeMismatch<>(new EmptyResult<>(lastNameLike)));
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(new EmptyResult<>(spec));
+	}
+
+	@Test
+	public void doesNotRemoveEmptyBranchWithJoinFromDisjunction() {
+		Specification<Object> branchWithJoin = new Conjunction<>(ordersJoin, new EmptyResult<>(firstNameLike));
+		Specification<Object> spec = new Disjunction<>(branchWithJoin, lastNameLike);
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isEqualTo(new Disjunction<>(branchWithJoin, lastNameLike));
+	}
+
+	@Test
+	public void doesNotReplaceTypeMismatchWrapperWithoutMetamodel() {
+		Specification<Object> spec = new EmptyResultOnTypeMismatch<>(firstNameLike);
+
+		assertThat(SpecificationSimplifier.simplify(spec))
+				.isSameAs(spec);
+	}
+}
@@ -64,11 +64,11 @@ public class SpecificationArgumentResolverUserInterfacesHintRegistrarTest {
         assertThat(registeredJdkProxyHints)
                 .hasSize(1);
 
-        TypeReference proxiedInterface = registeredJdkProxyHints.get(0).getProxiedInterfaces().get(0);
-
-        assertThat(proxiedInterface.getCanonicalName())
-                .isEqualTo(
-                        "net.kaczmarzyk.spring.data.jpa.nativeimage.SpecificationArgumentResolverUserInterfacesHintRegistrarTest.InterfaceWithSpecificationDefinition"
+        assertThat(registeredJdkProxyHints.get(0).getProxiedInterfaces())
+                .extracting(TypeReference::getCanonicalName)
+                .containsExactly(
+                        "net.kaczmarzyk.spring.data.jpa.nativeimage.SpecificationArgumentResolverUserInterfacesHintRegistrarTest.InterfaceWithSpecificationDefinition",
+                        "net.kaczmarzyk.spring.data.jpa.domain.MarkerWrapper"
                 );
 
     }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResult;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.IgnoreCaseStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.InListStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.MarkerWrapper;
+import net.kaczmarzyk.spring.data.jpa.domain.ProvablyEmpty;
+import net.kaczmarzyk.spring.data.jpa.utils.CharEscaper;
+import net.kaczmarzyk.spring.data.jpa.utils.SpecificationBuilder;
+import net.kaczmarzyk.spring.data.jpa.web.SpecificationFactory;
+import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
+import net.kaczmarzyk.utils.interceptor.HibernateStatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.Locale;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.spring.data.jpa.web.annotation.OnTypeMismatch.EMPTY_RESULT;
+import static net.kaczmarzyk.utils.InterceptedStatementsAssert.assertThatInterceptedStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmptyResultAwareSpecificationExecutorTest extends IntegrationTestBase {
+
+	@Spec(path = "id", params = "id", spec = Equal.class, onTypeMismatch = EMPTY_RESULT)
+	public interface CustomerIdSpec extends Specification<Customer> {
+	}
+
+	@Autowired
+	AbstractApplicationContext applicationContext;
+
+	JpaSpecificationExecutor<Customer> executor;
+
+	Customer homerSimpson;
+
+	@BeforeEach
+	public void initData() {
+		homerSimpson = customer("Homer", "Simpson").build(em);
+		executor = new EmptyResultAwareSpecificationExecutor<>(customerRepo);
+		HibernateStatementInspector.clearInterceptedStatements();
+	}
+
+	@Test
+	public void doesNotExecuteAnyQueryForEmptyResultSpec() {
+		Specification<Customer> spec = new EmptyResult<>(new Equal<>(queryCtx, "id", new String[] { "Homer" }, defaultConverter));
+
+		Page<Customer> page = executor.findAll(spec, PageRequest.of(0, 10));
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isZero();
+		assertThat(executor.findAll(spec)).isEmpty();
+		assertThat(executor.findOne(spec)).isEmpty();
+		assertThat(executor.count(spec)).isZero();
+		assertThat(executor.exists(spec)).isFalse();
+
+		assertThatInterceptedStatements()
+			.hasSelects(0);
+	}
+
+	@Test
+	public void executesQueryForRegularSpec() {
+		Specification<Customer> spec = new Equal<>(queryCtx, "firstName", new String[] { "Homer" }, defaultConverter);
+
+		Page<Customer> page = executor.findAll(spec, PageRequest.of(0, 10));
+
+		assertThat(page.getContent()).containsOnly(homerSimpson);
+		assertThatInterceptedStatements()
+			.hasSelects(1);
+	}
+
+	@Test
+	public void doesNotExecuteAnyQueryForResolvedSpecWithTypeMismatch() {
+		SpecificationFactory specificationFactory = new SpecificationFactory(null, applicationContext,
+				Locale.getDefault(), IgnoreCaseStrategy.DATABASE_UPPER, CharEscaper.DISABLED, InListStrategy.PLAIN, DistinctStrategy.SQL,
+				em.getMetamodel());
+
+		CustomerIdSpec spec = SpecificationBuilder.specification(CustomerIdSpec.class)
+				.withSpecificationFactory(specificationFactory)
+				.withParam("id", "Homer")
+				.build();
+
+		assertThat(MarkerWrapper.findMarker(spec, ProvablyEmpty.class)).isPresent();
+		assertThat(executor.findAll(spec, PageRequest.of(0, 10))).isEmpty();
+		assertThatInterceptedStatements()
+			.hasSelects(0);
+	}
+
+	@Test
+	public void doesNotDetectTypeMismatchIfFactoryIsNotConfiguredWithMetamodel() {
+		SpecificationFactory specificationFactory = new SpecificationFactory(null, applicationContext,
+				Locale.getDefault(), IgnoreCaseStrategy.DATABASE_UPPER, CharEscaper.DISABLED);
+
+		CustomerIdSpec spec = SpecificationBuilder.specification(CustomerIdSpec.class)
+				.withSpecificationFactory(specificationFactory)
+				.withParam("id", "Homer")
+				.build();
+
+		assertThat(MarkerWrapper.findMarker(spec, ProvablyEmpty.class)).isEmpty();
+		assertThat(executor.findAll(spec, PageRequest.of(0, 10))).isEmpty();
+	}
+}
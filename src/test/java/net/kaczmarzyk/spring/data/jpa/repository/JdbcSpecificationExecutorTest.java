@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Between;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.In;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import net.kaczmarzyk.spring.data.jpa.domain.LikeIgnoreCase;
+import net.kaczmarzyk.spring.data.jpa.domain.WithCountCap;
+import net.kaczmarzyk.utils.interceptor.HibernateStatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.utils.InterceptedStatementsAssert.assertThatInterceptedStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JdbcSpecificationExecutorTest extends IntegrationTestBase {
+
+	public record CustomerName(String firstName, String lastName) {
+	}
+
+	public record CustomerWeight(String firstName, int weightInt) {
+	}
+
+	@Autowired
+	DataSource dataSource;
+
+	JdbcSpecificationExecutor<Customer> executor;
+
+	Customer homerSimpson;
+
+	@BeforeEach
+	public void initData() {
+		homerSimpson = customer("Homer", "Simpson").weight(121).build(em);
+		customer("Marge", "Simpson").weight(55).build(em);
+		customer("Moe", "Szyslak").weight(65).build(em);
+		executor = new JdbcSpecificationExecutor<>(new ParameterizedSpecificationExecutor<>(customerRepo, em, Customer.class), em, dataSource, Customer.class);
+	}
+
+	@Test
+	public void selectsProjectedResultsOverJdbcWithoutCriteriaQuery() {
+		Specification<Customer> spec = new Conjunction<>(
+				new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter),
+				new Between<>(queryCtx, "weight", new String[] { "50", "130" }, defaultConverter));
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		List<CustomerName> names = executor.findAll(spec, CustomerName.class, Sort.by(Sort.Direction.DESC, "firstName"));
+
+		assertThat(names).containsExactly(new CustomerName("Marge", "Simpson"), new CustomerName("Homer", "Simpson"));
+		assertThatInterceptedStatements().hasSelects(0);
+	}
+
+	@Test
+	public void compilesInAndLikeAndUnwrapsMarkerWrappers() {
+		Specification<Customer> spec = new WithCountCap<>(new Conjunction<>(
+				new In<>(queryCtx, "weightInt", new String[] { "55", "65" }, defaultConverter),
+				new EmptyResultOnTypeMismatch<>(new Like<>(queryCtx, "firstName", "o"))), 10);
+		customer("Ned", "Flanders").weight(65).build(em);
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		List<CustomerWeight> weights = executor.findAll(spec, CustomerWeight.class, Sort.unsorted());
+
+		assertThat(weights).containsExactly(new CustomerWeight("Moe", 65));
+		assertThatInterceptedStatements().hasSelects(0);
+	}
+
+	@Test
+	public void flushesPendingChangesBeforeTheQuery() {
+		homerSimpson.setLastName("Flanders");
+
+		List<CustomerName> names = executor.findAll(new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter),
+				CustomerName.class, Sort.by("firstName"));
+
+		assertThat(names).containsExactly(new CustomerName("Marge", "Simpson"));
+	}
+
+	@Test
+	public void fallsBackToCriteriaQueryForSpecWhichCannotBeCompiled() {
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		List<CustomerName> names = executor.findAll(new LikeIgnoreCase<>(queryCtx, "lastName", "SIMPSON"), CustomerName.class, Sort.by("firstName"));
+
+		assertThat(names).containsExactly(new CustomerName("Homer", "Simpson"), new CustomerName("Marge", "Simpson"));
+		assertThatInterceptedStatements().hasSelects(1);
+	}
+
+	@Test
+	public void fallsBackToCriteriaQueryIfValueCannotBeConverted() {
+		Specification<Customer> spec = new EmptyResultOnTypeMismatch<>(new Equal<>(queryCtx, "weight", new String[] { "heavy" }, defaultConverter));
+
+		assertThat(executor.findAll(spec, CustomerName.class, Sort.unsorted())).isEmpty();
+	}
+
+	@Test
+	public void fallsBackToCriteriaQueryForSortWhichCannotBeCompiled() {
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		List<CustomerName> names = executor.findAll(new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter),
+				CustomerName.class, Sort.by(Sort.Order.asc("firstName").ignoreCase()));
+
+		assertThat(names).containsExactly(new CustomerName("Homer", "Simpson"), new CustomerName("Marge", "Simpson"));
+		assertThatInterceptedStatements().hasSelects(1);
+	}
+
+	@Test
+	public void convertsNamesAsDefaultNamingStrategyOfSpringBoot() {
+		assertThat(JdbcSpecificationExecutor.physicalName("Customer")).isEqualTo("customer");
+		assertThat(JdbcSpecificationExecutor.physicalName("firstName")).isEqualTo("first_name");
+		assertThat(JdbcSpecificationExecutor.physicalName("dateOfNextSpecialOffer")).isEqualTo("date_of_next_special_offer");
+		assertThat(JdbcSpecificationExecutor.physicalName("weightURL")).isEqualTo("weighturl");
+	}
+}
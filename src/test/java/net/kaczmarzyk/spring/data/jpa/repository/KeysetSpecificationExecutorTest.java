@@ -0,0 +1,184 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.utils.interceptor.HibernateStatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.utils.InterceptedStatementsAssert.assertThatInterceptedStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class KeysetSpecificationExecutorTest extends IntegrationTestBase {
+
+	KeysetSpecificationExecutor<Customer> executor;
+
+	Customer homerSimpson;
+	Customer margeSimpson;
+	Customer bartSimpson;
+	Customer moeSzyslak;
+	Customer nedFlanders;
+
+	@BeforeEach
+	public void initData() {
+		homerSimpson = customer("Homer", "Simpson").weight(121).street("Evergreen Terrace").build(em);
+		margeSimpson = customer("Marge", "Simpson").weight(55).street("Evergreen Terrace").build(em);
+		bartSimpson = customer("Bart", "Simpson").weight(55).street("Evergreen Terrace").build(em);
+		moeSzyslak = customer("Moe", "Szyslak").weight(65).street("Walnut Street").build(em);
+		nedFlanders = customer("Ned", "Flanders").weight(65).street("Evergreen Terrace").build(em);
+		executor = new KeysetSpecificationExecutor<>(em, Customer.class);
+	}
+
+	@Test
+	public void iteratesOverAllSlicesInTheOrderOfSortAndId() {
+		List<Customer> all = readAll(Specification.unrestricted(), Sort.by("lastName"), 2);
+
+		assertThat(all).containsExactlyElementsOf(sorted(
+				Comparator.comparing(Customer::getLastName).thenComparing(Customer::getId),
+				homerSimpson, margeSimpson, bartSimpson, moeSzyslak, nedFlanders));
+	}
+
+	@Test
+	public void supportsMixedDirectionsAndEmbeddedAttributes() {
+		List<Customer> all = readAll(Specification.unrestricted(), Sort.by(Sort.Order.desc("weight"), Sort.Order.asc("address.street"), Sort.Order.desc("firstName")), 2);
+
+		assertThat(all).containsExactly(homerSimpson, nedFlanders, moeSzyslak, margeSimpson, bartSimpson);
+	}
+
+	@Test
+	public void sortsOptionalAttributesWithNullsLastByDefault() {
+		homerSimpson.setNickName("Homie");
+		bartSimpson.setNickName("El Barto");
+		em.flush();
+
+		assertThat(readAll(Specification.unrestricted(), Sort.by("nickName"), 2))
+				.containsExactly(bartSimpson, homerSimpson, margeSimpson, moeSzyslak, nedFlanders);
+		assertThat(readAll(Specification.unrestricted(), Sort.by(Sort.Order.desc("nickName")), 2))
+				.containsExactly(homerSimpson, bartSimpson, margeSimpson, moeSzyslak, nedFlanders);
+	}
+
+	@Test
+	public void supportsExplicitNullHandlingOfOptionalAttributes() {
+		homerSimpson.setNickName("Homie");
+		bartSimpson.setNickName("El Barto");
+		em.flush();
+
+		assertThat(readAll(Specification.unrestricted(), Sort.by(Sort.Order.asc("nickName").nullsFirst()), 2))
+				.containsExactly(margeSimpson, moeSzyslak, nedFlanders, bartSimpson, homerSimpson);
+		assertThat(readAll(Specification.unrestricted(), Sort.by(Sort.Order.desc("nickName").nullsFirst()), 1))
+				.containsExactly(margeSimpson, moeSzyslak, nedFlanders, homerSimpson, bartSimpson);
+	}
+
+	@Test
+	public void appliesSpecification() {
+		Specification<Customer> simpsons = new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter);
+
+		List<Customer> all = readAll(simpsons, Sort.by("firstName"), 1);
+
+		assertThat(all).containsExactly(bartSimpson, homerSimpson, margeSimpson);
+	}
+
+	@Test
+	public void returnsCursorOnlyIfThereIsNextSlice() {
+		KeysetSlice<Customer> first = executor.findSlice(Specification.unrestricted(), Sort.by("firstName"), null, 4);
+		KeysetSlice<Customer> second = executor.findSlice(Specification.unrestricted(), Sort.by("firstName"), first.nextCursor(), 4);
+
+		assertThat(first.content()).containsExactly(bartSimpson, homerSimpson, margeSimpson, moeSzyslak);
+		assertThat(first.hasNext()).isTrue();
+		assertThat(second.content()).containsExactly(nedFlanders);
+		assertThat(second.hasNext()).isFalse();
+		assertThat(second.nextCursor()).isNull();
+	}
+
+	@Test
+	public void returnsCursorPointingRightAfterGivenEntity() {
+		String cursor = executor.cursorOf(homerSimpson, Sort.by("firstName"));
+
+		KeysetSlice<Customer> slice = executor.findSlice(Specification.unrestricted(), Sort.by("firstName"), cursor, 2);
+
+		assertThat(slice.content()).containsExactly(margeSimpson, moeSzyslak);
+	}
+
+	@Test
+	public void doesNotExecuteCountQueryNorOffset() {
+		KeysetSlice<Customer> first = executor.findSlice(Specification.unrestricted(), Sort.by("lastName"), null, 2);
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		executor.findSlice(Specification.unrestricted(), Sort.by("lastName"), first.nextCursor(), 2);
+
+		assertThatInterceptedStatements()
+				.hasSelects(1)
+				.doesNotHaveClause("count(")
+				.doesNotHaveClause("offset");
+	}
+
+	@Test
+	public void rejectsCursorCreatedForDifferentSort() {
+		String cursor = executor.findSlice(Specification.unrestricted(), Sort.by("lastName"), null, 2).nextCursor();
+
+		assertThatThrownBy(() -> executor.findSlice(Specification.unrestricted(), Sort.by("firstName"), cursor, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> executor.findSlice(Specification.unrestricted(), Sort.by(Sort.Order.desc("lastName")), cursor, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void rejectsMalformedCursor() {
+		assertThatThrownBy(() -> executor.findSlice(Specification.unrestricted(), Sort.by("lastName"), "not a cursor!", 2))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void rejectsSortPropertiesWhichAreNotBasicAttributes() {
+		assertThatThrownBy(() -> executor.findSlice(Specification.unrestricted(), Sort.by("unknown"), null, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> executor.findSlice(Specification.unrestricted(), Sort.by("orders"), null, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> executor.findSlice(Specification.unrestricted(), Sort.by("address"), null, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> executor.findSlice(Specification.unrestricted(), Sort.by(Sort.Order.asc("lastName").ignoreCase()), null, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private List<Customer> readAll(Specification<Customer> spec, Sort sort, int limit) {
+		List<Customer> all = new ArrayList<>();
+		String cursor = null;
+		do {
+			KeysetSlice<Customer> slice = executor.findSlice(spec, sort, cursor, limit);
+			assertThat(slice.content()).hasSizeLessThanOrEqualTo(limit);
+			all.addAll(slice.content());
+			cursor = slice.nextCursor();
+		} while (cursor != null);
+		return all;
+	}
+
+	private static List<Customer> sorted(Comparator<Customer> comparator, Customer... customers) {
+		List<Customer> list = new ArrayList<>(List.of(customers));
+		list.sort(comparator);
+		return list;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import net.kaczmarzyk.spring.data.jpa.web.DefaultQueryContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelCountSpecificationExecutorTest extends IntegrationTestBase {
+
+	ExecutorService countExecutor = Executors.newFixedThreadPool(2);
+
+	Set<String> countingThreads = ConcurrentHashMap.newKeySet();
+
+	ParallelCountSpecificationExecutor<Customer> executor;
+
+	@BeforeEach
+	public void initData() {
+		// the count query uses its own entity manager, so the data must be committed
+		doInNewTransaction(() -> {
+			customer("Homer", "Simpson").weight(121).orders("Duff Beer", "Donuts").build(em);
+			customer("Marge", "Simpson").weight(55).orders("Duff Beer").build(em);
+			customer("Bart", "Simpson").weight(45).orders("Donuts").build(em);
+			customer("Moe", "Szyslak").weight(65).orders("Duff Beer", "Donuts").build(em);
+			em.flush();
+		});
+		executor = new ParallelCountSpecificationExecutor<>(customerRepo, em, Customer.class, command -> countExecutor.execute(() -> {
+			countingThreads.add(Thread.currentThread().getName());
+			command.run();
+		}));
+	}
+
+	@AfterEach
+	public void cleanup() {
+		countExecutor.shutdownNow();
+		doInNewTransaction(() -> customerRepo.deleteAll());
+	}
+
+	@Test
+	public void countsTotalOnAnotherThread() {
+		Page<Customer> page = executor.findAll(new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter),
+				PageRequest.of(0, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).extracting(Customer::getFirstName).containsExactly("Bart", "Homer");
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThat(countingThreads).hasSize(1).doesNotContain(Thread.currentThread().getName());
+	}
+
+	@Test
+	public void evaluatesSpecificationWithJoinsForBothQueries() {
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> spec = new Conjunction<>(
+				new Join<>(queryContext, "orders", "o", JoinType.LEFT, true),
+				new Like<>(queryContext, "lastName", "S"),
+				new Equal<>(queryContext, "o.itemName", new String[] { "Donuts" }, defaultConverter));
+
+		for (int i = 0; i < 10; i++) {
+			Page<Customer> page = executor.findAll(spec, PageRequest.of(1, 2, Sort.by("firstName")));
+
+			assertThat(page.getContent()).extracting(Customer::getFirstName).containsExactly("Moe");
+			assertThat(page.getTotalElements()).isEqualTo(3);
+		}
+	}
+
+	@Test
+	public void returnsManagedEntitiesOfTheCallerEntityManager() {
+		Page<Customer> page = executor.findAll(new Equal<>(queryCtx, "firstName", new String[] { "Homer" }, defaultConverter),
+				PageRequest.of(0, 1));
+
+		assertThat(page.getContent()).allMatch(em::contains);
+		assertThat(page.getContent().get(0).getOrders()).hasSize(2);
+	}
+
+	@Test
+	public void rethrowsExceptionOfTheCountQuery() {
+		Specification<Customer> failingCount = (root, query, cb) -> {
+			if (Long.class.equals(query.getResultType())) {
+				throw new IllegalStateException("count failed");
+			}
+			return null;
+		};
+
+		assertThatThrownBy(() -> executor.findAll(failingCount, PageRequest.of(0, 2)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("count failed");
+	}
+
+	@Test
+	public void computesTotalOfTheLastPageFromContent() {
+		Page<Customer> page = executor.findAll(Specification.unrestricted(), PageRequest.of(0, 10));
+
+		assertThat(page.getTotalElements()).isEqualTo(4);
+		assertThat(page.getContent()).hasSize(4);
+	}
+
+	@Test
+	public void rejectsNullExecutor() {
+		assertThatThrownBy(() -> new ParallelCountSpecificationExecutor<>(customerRepo, em, Customer.class, null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,711 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.JoinType;
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.BatchFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.WithCountCap;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.GreaterThanOrEqual;
+import net.kaczmarzyk.spring.data.jpa.domain.In;
+import net.kaczmarzyk.spring.data.jpa.domain.Join;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinFetchStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.LikeIgnoreCase;
+import net.kaczmarzyk.spring.data.jpa.domain.WithSelectedFields;
+import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
+import net.kaczmarzyk.spring.data.jpa.web.DefaultQueryContext;
+import net.kaczmarzyk.utils.interceptor.HibernateStatementInspector;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static net.kaczmarzyk.utils.InterceptedStatementsAssert.assertThatInterceptedStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestPropertySource(properties = {
+		"spring.jpa.properties.hibernate.criteria.plan_cache_enabled=true",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class ParameterizedSpecificationExecutorTest extends IntegrationTestBase {
+
+	public record CustomerName(String firstName, String lastName) {
+	}
+
+	public interface CustomerFirstName {
+		String getFirstName();
+	}
+
+	ParameterizedSpecificationExecutor<Customer> executor;
+
+	Statistics statistics;
+
+	Customer homerSimpson;
+	Customer margeSimpson;
+	Customer moeSzyslak;
+
+	@BeforeEach
+	public void initData() {
+		homerSimpson = customer("Homer", "Simpson").weight(121).orders("Duff Beer", "Donuts").build(em);
+		margeSimpson = customer("Marge", "Simpson").weight(55).orders("Duff Beer").build(em);
+		moeSzyslak = customer("Moe", "Szyslak").weight(65).orders("Duff Beer", "Donuts").build(em);
+		executor = new ParameterizedSpecificationExecutor<>(customerRepo, em, Customer.class);
+		statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	public void returnsTheSameResultsAsTheDecoratedExecutor() {
+		Specification<Customer> spec = spec("simpson", "Donuts", "55", "121", "65");
+		Specification<Customer> noMatch = spec("flanders", "Donuts", "55");
+
+		assertThat(executor.findAll(spec)).containsExactlyInAnyOrderElementsOf(customerRepo.findAll(spec)).containsOnly(homerSimpson);
+		assertThat(executor.findAll(spec("s", "Duff Beer", "55", "121", "65"), Sort.by("firstName")))
+				.containsExactly(homerSimpson, margeSimpson, moeSzyslak);
+		assertThat(executor.count(spec)).isEqualTo(customerRepo.count(spec)).isEqualTo(1);
+		assertThat(executor.exists(spec)).isTrue();
+		assertThat(executor.exists(noMatch)).isFalse();
+		assertThat(executor.findOne(spec)).contains(homerSimpson);
+		assertThat(executor.findOne(noMatch)).isEmpty();
+	}
+
+	@Test
+	public void returnsPageOfResults() {
+		Page<Customer> page = executor.findAll(spec("s", "Duff Beer", "55", "121", "65"), PageRequest.of(1, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(moeSzyslak);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+	}
+
+	@Test
+	public void readsTotalOfPageFromWindowFunctionInSingleQuery() {
+		ParameterizedSpecificationExecutor<Customer> windowExecutor =
+				new ParameterizedSpecificationExecutor<>(customerRepo, em, Customer.class, CountMode.WINDOW_FUNCTION);
+		Specification<Customer> spec = new In<>(queryCtx, "weight", new String[] { "55", "121", "65" }, defaultConverter);
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<Customer> page = windowExecutor.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(homerSimpson, margeSimpson);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThatInterceptedStatements()
+				.hasSelects(1)
+				.hasOneClause("count(c1_0.id) over() from customer c1_0");
+	}
+
+	@Test
+	public void countsTotalSeparatelyIfPageWithWindowFunctionIsEmpty() {
+		ParameterizedSpecificationExecutor<Customer> windowExecutor =
+				new ParameterizedSpecificationExecutor<>(customerRepo, em, Customer.class, CountMode.WINDOW_FUNCTION);
+		Specification<Customer> spec = new In<>(queryCtx, "weight", new String[] { "55", "121", "65" }, defaultConverter);
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<Customer> page = windowExecutor.findAll(spec, PageRequest.of(5, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThatInterceptedStatements().hasSelects(2);
+	}
+
+	@Test
+	public void countsTotalSeparatelyIfQueryWithWindowFunctionWouldBeDistinct() {
+		ParameterizedSpecificationExecutor<Customer> windowExecutor =
+				new ParameterizedSpecificationExecutor<>(customerRepo, em, Customer.class, CountMode.WINDOW_FUNCTION);
+
+		Page<Customer> page = windowExecutor.findAll(spec("s", "Duff Beer", "55", "121", "65"), PageRequest.of(1, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(moeSzyslak);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+	}
+
+	@Test
+	public void countsOnlyUpToTheCap() {
+		Specification<Customer> spec = new In<>(queryCtx, "weight", new String[] { "55", "121", "65" }, defaultConverter);
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		CappedPage<Customer> page = executor.findAll(spec, PageRequest.of(0, 1, Sort.by("firstName")), 2);
+
+		assertThat(page.getContent()).containsExactly(homerSimpson);
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(page.isTotalCapped()).isTrue();
+		assertThat(page.hasNext()).isTrue();
+		assertThatInterceptedStatements()
+				.hasSelects(2)
+				.hasOneClause("select 1 from customer c1_0 where c1_0.weight in (?,?,?) fetch first ? rows only")
+				.doesNotHaveClause("count(");
+	}
+
+	@Test
+	public void returnsExactTotalIfCapIsNotExceeded() {
+		Specification<Customer> spec = spec("s", "Duff Beer", "55", "121", "65");
+
+		CappedPage<Customer> page = executor.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")), 3);
+
+		assertThat(page.getContent()).containsExactly(homerSimpson, margeSimpson);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThat(page.isTotalCapped()).isFalse();
+	}
+
+	@Test
+	public void countsDistinctResultsOnlyUpToTheCap() {
+		Specification<Customer> spec = spec("s", "Duff Beer", "55", "121", "65");
+
+		CappedPage<Customer> page = executor.findAll(spec, PageRequest.of(1, 1, Sort.by("firstName")), 2);
+
+		assertThat(page.getContent()).containsExactly(margeSimpson);
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(page.isTotalCapped()).isTrue();
+	}
+
+	@Test
+	public void appliesCountCapOfTheSpecification() {
+		Specification<Customer> spec = new WithCountCap<>(
+				new In<>(queryCtx, "weight", new String[] { "55", "121", "65" }, defaultConverter), 1);
+
+		Page<Customer> page = executor.findAll(spec, PageRequest.of(0, 1, Sort.by("firstName")));
+
+		assertThat(page).isInstanceOf(CappedPage.class);
+		assertThat(page.getTotalElements()).isEqualTo(1);
+		assertThat(((CappedPage<Customer>) page).isTotalCapped()).isTrue();
+	}
+
+	@Test
+	public void loadsPageWithCollectionFetchInTwoPhases() {
+		em.flush();
+		em.clear();
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> spec = new Conjunction<>(
+				new JoinFetch<>(queryContext, new String[] { "orders" }, JoinType.LEFT, true),
+				new In<>(queryContext, "weight", new String[] { "55", "121", "65" }, defaultConverter));
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<Customer> page = executor.findAll(spec, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "firstName")));
+
+		assertThat(page.getContent()).extracting(Customer::getFirstName).containsExactly("Moe", "Marge");
+		assertThat(page.getContent()).allMatch(customer -> em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(customer, "orders"));
+		assertThat(page.getContent().get(0).getOrders()).hasSize(2);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThatInterceptedStatements()
+				.hasSelects(3)
+				.hasOneClause("select c1_0.id,c1_0.first_name from customer c1_0 where c1_0.weight in (?,?,?) order by 2 desc offset ? rows fetch first ? rows only")
+				.hasOneClause("left join orders o1_0 on c1_0.id=o1_0.customer_id where c1_0.weight in (?,?,?) and c1_0.id in (?,?)");
+	}
+
+	@Test
+	public void loadsPageWithCollectionFetchFilteredByJoinedCollectionInTwoPhases() {
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> spec = new Conjunction<>(
+				new JoinFetch<>(queryContext, new String[] { "orders" }, "o", JoinType.LEFT, true),
+				new Equal<>(queryContext, "o.itemName", new String[] { "Donuts" }, defaultConverter));
+
+		Page<Customer> page = executor.findAll(spec, PageRequest.of(1, 1, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(moeSzyslak);
+		assertThat(page.getTotalElements()).isEqualTo(2);
+	}
+
+	@Test
+	public void loadsAssociationsWithEntityGraphInsteadOfFetchJoins() {
+		em.flush();
+		em.clear();
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> spec = new Conjunction<>(
+				new JoinFetch<>(queryContext, new String[] { "orders" }, "", JoinType.LEFT, true, JoinFetchStrategy.LOAD_GRAPH),
+				new Equal<>(queryContext, "lastName", new String[] { "Simpson" }, defaultConverter));
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		List<Customer> customers = executor.findAll(spec, Sort.by("firstName"));
+
+		assertThat(customers).extracting(Customer::getFirstName).containsExactly("Homer", "Marge");
+		assertThat(customers).allMatch(customer -> em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(customer, "orders"));
+		assertThatInterceptedStatements()
+				.hasSelects(1)
+				.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void loadsWholeCollectionsWithEntityGraphIfAliasIsUsedForFiltering() {
+		em.flush();
+		em.clear();
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> spec = new Conjunction<>(
+				new JoinFetch<>(queryContext, new String[] { "orders" }, "o", JoinType.LEFT, true, JoinFetchStrategy.FETCH_GRAPH),
+				new JoinFetch<>(queryContext, new String[] { "o.tags" }, "", JoinType.LEFT, true, JoinFetchStrategy.FETCH_GRAPH),
+				new Equal<>(queryContext, "o.itemName", new String[] { "Donuts" }, defaultConverter));
+
+		List<Customer> customers = executor.findAll(spec, Sort.by("firstName"));
+
+		assertThat(customers).extracting(Customer::getFirstName).containsExactly("Homer", "Moe");
+		assertThat(customers).allMatch(customer -> em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(customer, "orders"));
+		assertThat(customers.get(0).getOrders()).hasSize(2);
+	}
+
+	@Test
+	public void loadsPageWithEntityGraphOnCollectionInTwoPhases() {
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> spec = new Conjunction<>(
+				new JoinFetch<>(queryContext, new String[] { "orders" }, "", JoinType.LEFT, true, JoinFetchStrategy.LOAD_GRAPH),
+				new In<>(queryContext, "weight", new String[] { "55", "121", "65" }, defaultConverter));
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<Customer> page = executor.findAll(spec, PageRequest.of(1, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(moeSzyslak);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThatInterceptedStatements()
+				.hasSelects(2) // the total of the last page is computed from its content
+				.hasOneClause("offset ? rows fetch first ? rows only");
+	}
+
+	@Test
+	public void fallsBackToFetchJoinsIfEntityGraphIsNotAppliedByTheExecutor() {
+		em.flush();
+		em.clear();
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> spec = new Conjunction<>(
+				new JoinFetch<>(queryContext, new String[] { "orders" }, "", JoinType.LEFT, true, JoinFetchStrategy.LOAD_GRAPH),
+				new Equal<>(queryContext, "lastName", new String[] { "Szyslak" }, defaultConverter));
+
+		List<Customer> customers = customerRepo.findAll(spec);
+
+		assertThat(customers).hasSize(1)
+				.allMatch(customer -> em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(customer, "orders"));
+	}
+
+	@Test
+	public void loadsAssociationsOfPageInBatches() {
+		em.flush();
+		em.clear();
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> spec = new Conjunction<>(
+				new BatchFetch<>("orders", "orders.tags"),
+				new In<>(queryContext, "weight", new String[] { "55", "121", "65" }, defaultConverter));
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<Customer> page = executor.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+		PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+		assertThat(page.getContent()).extracting(Customer::getFirstName).containsExactly("Homer", "Marge");
+		assertThat(page.getContent()).allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "orders"));
+		assertThat(page.getContent()).flatExtracting(Customer::getOrders)
+				.hasSize(3)
+				.allMatch(order -> persistenceUnitUtil.isLoaded(order, "tags"));
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThatInterceptedStatements()
+				.hasSelects(4) // content, count, orders of the page and tags of the orders
+				.hasOneClause("offset ? rows fetch first ? rows only");
+	}
+
+	@Test
+	public void doesNotLoadAssociationsInBatchesWithoutTheExecutor() {
+		em.flush();
+		em.clear();
+		Specification<Customer> spec = new BatchFetch<>("orders");
+
+		List<Customer> customers = customerRepo.findAll(spec);
+
+		assertThat(customers).hasSize(3)
+				.noneMatch(customer -> em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(customer, "orders"));
+	}
+
+	@Test
+	public void rejectsBatchFetchOfNonAssociation() {
+		assertThatThrownBy(() -> executor.findAll(new BatchFetch<>("firstName")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("'firstName'");
+	}
+
+	@Test
+	public void deduplicatesResultsOfJoinInMemoryInsteadOfSqlDistinct() {
+		Specification<Customer> spec = orderedItems(DistinctStrategy.AUTO, "Duff Beer", "Donuts");
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		List<Customer> customers = executor.findAll(spec, Sort.by("firstName"));
+
+		assertThat(customers).containsExactly(homerSimpson, margeSimpson, moeSzyslak);
+		assertThatInterceptedStatements()
+				.hasSelects(1)
+				.doesNotHaveClause("distinct");
+	}
+
+	@Test
+	public void loadsPageOfJoinDeduplicatedInMemoryInTwoPhases() {
+		Specification<Customer> spec = orderedItems(DistinctStrategy.AUTO, "Duff Beer", "Donuts");
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<Customer> page = executor.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(homerSimpson, margeSimpson);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThatInterceptedStatements()
+				.hasSelects(3) // ids of the page, entities and count (with exists subquery)
+				.hasOneClause("distinct"); // only the query of ids
+	}
+
+	@Test
+	public void usesSqlDistinctForJoinWithAutoDistinctStrategyOutsideTheExecutor() {
+		Specification<Customer> spec = orderedItems(DistinctStrategy.AUTO, "Duff Beer", "Donuts");
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<Customer> page = customerRepo.findAll(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(homerSimpson, margeSimpson);
+		assertThatInterceptedStatements()
+				.hasSelects(2) // content and count (with exists subquery)
+				.hasOneClause("distinct");
+	}
+
+	@Test
+	public void compilesTheQueryOnlyOnceForSpecificationsOfTheSameShape() {
+		executor.findAll(spec("simpson", "Donuts", "55", "121"));
+		statistics.clear();
+
+		assertThat(executor.findAll(spec("szyslak", "Duff Beer", "65", "1"))).containsOnly(moeSzyslak);
+		assertThat(executor.findAll(spec("simp", "Duff Beer", "55", "2"))).containsOnly(margeSimpson);
+
+		assertThat(statistics.getQueryPlanCacheMissCount()).isZero();
+		assertThat(statistics.getQueryPlanCacheHitCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void compilesTheQueryForEachDistinctValueWithoutTheExecutor() {
+		customerRepo.findAll(spec("simpson", "Donuts", "55", "121"));
+		statistics.clear();
+
+		customerRepo.findAll(spec("szyslak", "Duff Beer", "65", "1"));
+
+		assertThat(statistics.getQueryPlanCacheMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void throwsExceptionIfFindOneMatchesMultipleEntities() {
+		Specification<Customer> spec = spec("simpson", "Duff Beer", "55", "121");
+
+		assertThatThrownBy(() -> executor.findOne(spec))
+				.isInstanceOf(IncorrectResultSizeDataAccessException.class);
+	}
+
+	@Test
+	public void projectsResultsToRecordWithoutLoadingEntities() {
+		em.flush();
+		em.clear();
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		List<CustomerName> names = executor.findAll(new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter),
+				CustomerName.class, Sort.by("firstName"));
+
+		assertThat(names).containsExactly(new CustomerName("Homer", "Simpson"), new CustomerName("Marge", "Simpson"));
+		assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+		assertThatInterceptedStatements()
+				.hasSelects(1)
+				.hasOneClause("select c1_0.first_name,c1_0.last_name from customer c1_0");
+	}
+
+	@Test
+	public void returnsPageOfProjectedResults() {
+		Page<CustomerName> page = executor.findAll(new In<>(queryCtx, "weight", new String[] { "55", "121", "65" }, defaultConverter),
+				CustomerName.class, PageRequest.of(0, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(new CustomerName("Homer", "Simpson"), new CustomerName("Marge", "Simpson"));
+		assertThat(page.getTotalElements()).isEqualTo(3);
+	}
+
+	@Test
+	public void readsTotalOfPageOfProjectedResultsFromWindowFunctionInSingleQuery() {
+		ParameterizedSpecificationExecutor<Customer> windowExecutor =
+				new ParameterizedSpecificationExecutor<>(customerRepo, em, Customer.class, CountMode.WINDOW_FUNCTION);
+		Specification<Customer> spec = new In<>(queryCtx, "weight", new String[] { "55", "121", "65" }, defaultConverter);
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<CustomerName> page = windowExecutor.findAll(spec, CustomerName.class, PageRequest.of(0, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(new CustomerName("Homer", "Simpson"), new CustomerName("Marge", "Simpson"));
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThatInterceptedStatements()
+				.hasSelects(1)
+				.hasOneClause("count(c1_0.id) over() from customer c1_0");
+	}
+
+	@Test
+	public void countsProjectedResultsOnlyUpToTheCapOfTheSpecification() {
+		Specification<Customer> spec = new WithCountCap<>(
+				new In<>(queryCtx, "weight", new String[] { "55", "121", "65" }, defaultConverter), 1);
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<CustomerName> page = executor.findAll(spec, CustomerName.class, PageRequest.of(0, 1, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(new CustomerName("Homer", "Simpson"));
+		assertThat(page).isInstanceOf(CappedPage.class);
+		assertThat(page.getTotalElements()).isEqualTo(1);
+		assertThat(((CappedPage<CustomerName>) page).isTotalCapped()).isTrue();
+		assertThatInterceptedStatements().doesNotHaveClause("count(");
+	}
+
+	@Test
+	public void loadsEntitiesIfDistinctProjectionWouldMergeDifferentEntities() {
+		customer("Homer", "Simpson").weight(55).orders("Donuts").build(em);
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> donutLovers = new Conjunction<>(
+				new Join<>(queryContext, "orders", "o", JoinType.LEFT, true),
+				new Equal<>(queryContext, "o.itemName", new String[] { "Donuts" }, defaultConverter));
+
+		List<CustomerName> names = executor.findAll(donutLovers, CustomerName.class, Sort.by("firstName"));
+
+		assertThat(names).containsExactly(
+				new CustomerName("Homer", "Simpson"), new CustomerName("Homer", "Simpson"), new CustomerName("Moe", "Szyslak"));
+	}
+
+	@Test
+	public void rejectsProjectionWhichIsNotRecord() {
+		assertThatThrownBy(() -> executor.findAll(Specification.unrestricted(), String.class, Sort.unsorted()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void selectsOnlyFieldsSelectedBySpecification() {
+		em.flush();
+		em.clear();
+		HibernateStatementInspector.clearInterceptedStatements();
+		Specification<Customer> spec = new WithSelectedFields<>(
+				new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter), List.of("firstName", "weight"));
+
+		List<Map<String, Object>> values = executor.findFields(spec, Sort.by("firstName"));
+
+		assertThat(values).containsExactly(
+				Map.of("firstName", "Homer", "weight", 121),
+				Map.of("firstName", "Marge", "weight", 55));
+		assertThat(values.get(0).keySet()).containsExactly("firstName", "weight");
+		assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+		assertThatInterceptedStatements()
+				.hasSelects(1)
+				.hasOneClause("select c1_0.first_name,c1_0.weight from customer c1_0");
+	}
+
+	@Test
+	public void returnsPageOfSelectedFields() {
+		Page<Map<String, Object>> page = executor.findFields(Specification.unrestricted(), List.of("firstName"),
+				PageRequest.of(0, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(Map.of("firstName", "Homer"), Map.of("firstName", "Marge"));
+		assertThat(page.getTotalElements()).isEqualTo(3);
+	}
+
+	@Test
+	public void readsTotalOfPageOfSelectedFieldsFromWindowFunctionInSingleQuery() {
+		ParameterizedSpecificationExecutor<Customer> windowExecutor =
+				new ParameterizedSpecificationExecutor<>(customerRepo, em, Customer.class, CountMode.WINDOW_FUNCTION);
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		Page<Map<String, Object>> page = windowExecutor.findFields(Specification.unrestricted(), List.of("firstName"),
+				PageRequest.of(0, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(Map.of("firstName", "Homer"), Map.of("firstName", "Marge"));
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThatInterceptedStatements()
+				.hasSelects(1)
+				.hasOneClause("count(c1_0.id) over() from customer c1_0");
+	}
+
+	@Test
+	public void countsSelectedFieldsOnlyUpToTheCapOfNestedWrapper() {
+		ParameterizedSpecificationExecutor<Customer> windowExecutor =
+				new ParameterizedSpecificationExecutor<>(customerRepo, em, Customer.class, CountMode.WINDOW_FUNCTION);
+		Specification<Customer> spec = new WithSelectedFields<>(new WithCountCap<>(Specification.unrestricted(), 1), List.of("firstName"));
+
+		Page<Map<String, Object>> page = windowExecutor.findFields(spec, PageRequest.of(0, 2, Sort.by("firstName")));
+
+		assertThat(page.getContent()).containsExactly(Map.of("firstName", "Homer"), Map.of("firstName", "Marge"));
+		assertThat(page.getTotalElements()).isEqualTo(2); // the content of the first page exceeds the cap
+		assertThat(((CappedPage<Map<String, Object>>) page).isTotalCapped()).isTrue();
+	}
+
+	@Test
+	public void doesNotMergeSelectedFieldsOfDifferentEntitiesInDistinctQuery() {
+		customer("Homer", "Simpson").weight(55).orders("Donuts").build(em);
+		QueryContext queryContext = new DefaultQueryContext();
+		Specification<Customer> donutLovers = new Conjunction<>(
+				new Join<>(queryContext, "orders", "o", JoinType.LEFT, true),
+				new Equal<>(queryContext, "o.itemName", new String[] { "Donuts" }, defaultConverter));
+
+		List<Map<String, Object>> values = executor.findFields(donutLovers, List.of("firstName"), Sort.by("firstName"));
+
+		assertThat(values).containsExactly(Map.of("firstName", "Homer"), Map.of("firstName", "Homer"), Map.of("firstName", "Moe"));
+	}
+
+	@Test
+	public void projectsResultsToClosedInterfaceWithoutLoadingEntities() {
+		em.flush();
+		em.clear();
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		List<CustomerFirstName> names = executor.findAll(new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter),
+				CustomerFirstName.class, Sort.by("firstName"));
+
+		assertThat(names).extracting(CustomerFirstName::getFirstName).containsExactly("Homer", "Marge");
+		assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+		assertThatInterceptedStatements()
+				.hasSelects(1)
+				.hasOneClause("select c1_0.first_name from customer c1_0");
+	}
+
+	@Test
+	public void rejectsSelectionOfAssociation() {
+		assertThatThrownBy(() -> executor.findFields(Specification.unrestricted(), List.of("orders"), Sort.unsorted()))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("'orders'");
+	}
+
+	@Test
+	public void rejectsFindFieldsIfSpecificationDoesNotSelectFields() {
+		assertThatThrownBy(() -> executor.findFields(Specification.<Customer>unrestricted(), Sort.unsorted()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void streamsResultsFromCursor() {
+		Specification<Customer> spec = new In<>(queryCtx, "weight", new String[] { "55", "121", "65" }, defaultConverter);
+
+		try (Stream<Customer> customers = executor.stream(spec, Sort.by("firstName"), 2)) {
+			assertThat(customers).extracting(Customer::getFirstName).containsExactly("Homer", "Marge", "Moe");
+		}
+	}
+
+	@Test
+	public void detachesStreamedEntitiesBeforeEachChunkOfStream() {
+		em.flush();
+		em.clear();
+		Session session = em.unwrap(Session.class);
+		List<Integer> entityCounts = new ArrayList<>();
+		List<Boolean> readOnly = new ArrayList<>();
+
+		executor.forEach(Specification.unrestricted(), Sort.by("firstName"), 1, customer -> {
+			entityCounts.add(session.getStatistics().getEntityCount());
+			readOnly.add(session.isReadOnly(customer));
+		});
+
+		assertThat(entityCounts).containsExactly(1, 1, 1);
+		assertThat(readOnly).containsOnly(true);
+	}
+
+	@Test
+	public void loadsAssociationsOfEachChunkOfStreamInBatches() {
+		em.flush();
+		em.clear();
+		PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+		List<Integer> orderCounts = new ArrayList<>();
+		HibernateStatementInspector.clearInterceptedStatements();
+
+		executor.forEach(new BatchFetch<>("orders"), Sort.by("firstName"), 2, customer -> {
+			assertThat(persistenceUnitUtil.isLoaded(customer, "orders")).isTrue();
+			orderCounts.add(customer.getOrders().size());
+		});
+
+		assertThat(orderCounts).containsExactly(2, 1, 2);
+		assertThatInterceptedStatements()
+				.hasSelects(3); // customers and orders of each chunk
+	}
+
+	@Test
+	public void keepsOtherEntitiesOfPersistenceContextManagedWhileStreaming() {
+		em.flush();
+		em.clear();
+		Customer moe = em.find(Customer.class, moeSzyslak.getId());
+		Specification<Customer> simpsons = new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter);
+		List<Customer> streamed = new ArrayList<>();
+
+		executor.forEach(simpsons, Sort.by("firstName"), 1, streamed::add);
+
+		assertThat(streamed).extracting(Customer::getFirstName).containsExactly("Homer", "Marge");
+		assertThat(em.contains(streamed.get(0))).isFalse();
+		assertThat(em.contains(moe)).isTrue();
+	}
+
+	@Test
+	public void detachesAssociationsLoadedInBatchesWithStreamedEntities() {
+		em.flush();
+		em.clear();
+		List<Customer> streamed = new ArrayList<>();
+
+		executor.forEach(new BatchFetch<>("orders"), Sort.by("firstName"), 2, streamed::add);
+
+		Customer homer = streamed.get(0);
+		assertThat(em.contains(homer)).isFalse();
+		assertThat(homer.getOrders()).isNotEmpty().noneMatch(em::contains);
+	}
+
+	@Test
+	public void loadsAndDetachesElementCollectionInBatches() {
+		customer("Ned", "Flanders").phoneNumbers("555-1234", "555-5678").build(em);
+		em.flush();
+		em.clear();
+		PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
+		Specification<Customer> spec = new BatchFetch<>("phoneNumbers");
+		List<Customer> streamed = new ArrayList<>();
+
+		List<Customer> customers = executor.findAll(spec, Sort.by("firstName"));
+		executor.forEach(spec, Sort.by("firstName"), 2, streamed::add);
+
+		assertThat(customers).allMatch(customer -> persistenceUnitUtil.isLoaded(customer, "phoneNumbers"));
+		assertThat(streamed).extracting(Customer::getFirstName).containsExactly("Homer", "Marge", "Moe", "Ned");
+		assertThat(streamed.get(3).getPhoneNumbers()).containsOnly("555-1234", "555-5678");
+		assertThat(streamed).noneMatch(em::contains);
+	}
+
+	@Test
+	public void rejectsStreamingOfSpecificationWhichFetchesCollection() {
+		Specification<Customer> spec = new JoinFetch<>(queryCtx, new String[] { "orders" }, JoinType.LEFT, true);
+
+		assertThatThrownBy(() -> executor.stream(spec, Sort.unsorted()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private Specification<Customer> orderedItems(DistinctStrategy distinctStrategy, String... itemNames) {
+		QueryContext queryContext = new DefaultQueryContext();
+		return new Conjunction<>(
+				new Join<>(queryContext, "orders", "o", JoinType.LEFT, true, JoinStrategy.JOIN, distinctStrategy),
+				new In<>(queryContext, "o.itemName", itemNames, defaultConverter));
+	}
+
+	private Specification<Customer> spec(String lastName, String itemName, String... weights) {
+		QueryContext queryContext = new DefaultQueryContext();
+		return new Conjunction<>(
+				new Join<>(queryContext, "orders", "o", JoinType.LEFT, true),
+				new LikeIgnoreCase<>(queryContext, "lastName", lastName),
+				new Equal<>(queryContext, "o.itemName", new String[] { itemName }, defaultConverter),
+				new In<>(queryContext, "weight", weights, defaultConverter),
+				new GreaterThanOrEqual<>(queryContext, "weight", new String[] { "50" }, defaultConverter));
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.kaczmarzyk.spring.data.jpa.repository;
+
+import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.IntegrationTestBase;
+import net.kaczmarzyk.spring.data.jpa.domain.Equal;
+import net.kaczmarzyk.spring.data.jpa.domain.GreaterThanOrEqual;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static net.kaczmarzyk.spring.data.jpa.CustomerBuilder.customer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PartitionedExportExecutorTest extends IntegrationTestBase {
+
+	ExecutorService partitionExecutor = Executors.newFixedThreadPool(4);
+
+	Set<String> readingThreads = ConcurrentHashMap.newKeySet();
+
+	Set<String> sinkThreads = ConcurrentHashMap.newKeySet();
+
+	List<Integer> exportedWeights = new ArrayList<>();
+
+	PartitionedExportExecutor<Customer> exporter;
+
+	@BeforeEach
+	public void initData() {
+		// the partitions are read with their own entity managers, so the data must be committed
+		doInNewTransaction(() -> {
+			for (int i = 1; i <= 20; i++) {
+				customer("Customer" + i, i % 2 == 0 ? "Even" : "Odd").weight(i * 10).build(em);
+			}
+			customer("Homer", "Odd").build(em); // without weight
+			em.flush();
+		});
+		exporter = new PartitionedExportExecutor<>(em.getEntityManagerFactory(), Customer.class, command -> partitionExecutor.execute(() -> {
+			readingThreads.add(Thread.currentThread().getName());
+			command.run();
+		}), 4, 2);
+	}
+
+	@AfterEach
+	public void cleanup() {
+		partitionExecutor.shutdownNow();
+		doInNewTransaction(() -> customerRepo.deleteAll());
+	}
+
+	@Test
+	public void exportsResultsOfPartitionsInOrderOfPath() {
+		Specification<Customer> spec = new Equal<>(queryCtx, "lastName", new String[] { "Even" }, defaultConverter);
+
+		long exported = exporter.export(spec, "weight", ExportOrder.ORDERED, this::collect);
+
+		assertThat(exported).isEqualTo(10);
+		assertThat(exportedWeights).containsExactly(20, 40, 60, 80, 100, 120, 140, 160, 180, 200);
+		assertThat(readingThreads).hasSizeGreaterThan(1).doesNotContain(Thread.currentThread().getName());
+		assertThat(sinkThreads).containsExactly(Thread.currentThread().getName());
+	}
+
+	@Test
+	public void exportsResultsOfPartitionsAsSoonAsTheyAreRead() {
+		Specification<Customer> spec = new GreaterThanOrEqual<>(queryCtx, "weight", new String[] { "55" }, defaultConverter);
+
+		long exported = exporter.export(spec, "id", ExportOrder.UNORDERED, this::collect);
+
+		assertThat(exported).isEqualTo(15);
+		assertThat(exportedWeights).containsExactlyInAnyOrder(60, 70, 80, 90, 100, 110, 120, 130, 140, 150, 160, 170, 180, 190, 200);
+		assertThat(sinkThreads).containsExactly(Thread.currentThread().getName());
+	}
+
+	@Test
+	public void exportsRowsWithNullValueOfPathBeforeOtherPartitions() {
+		Specification<Customer> spec = new Equal<>(queryCtx, "lastName", new String[] { "Odd" }, defaultConverter);
+
+		long exported = exporter.export(spec, "weight", ExportOrder.ORDERED, this::collect);
+
+		assertThat(exported).isEqualTo(11);
+		assertThat(exportedWeights).containsExactly(null, 10, 30, 50, 70, 90, 110, 130, 150, 170, 190);
+	}
+
+	@Test
+	public void exportsNothingIfThereAreNoResults() {
+		Specification<Customer> spec = new Equal<>(queryCtx, "lastName", new String[] { "Simpson" }, defaultConverter);
+
+		assertThat(exporter.export(spec, "weight", ExportOrder.ORDERED, this::collect)).isZero();
+		assertThat(exportedWeights).isEmpty();
+		assertThat(readingThreads).isEmpty();
+	}
+
+	@Test
+	public void rethrowsExceptionOfPartition() {
+		Specification<Customer> failingQuery = (root, query, cb) -> {
+			if (Customer.class.equals(query.getResultType())) {
+				throw new IllegalStateException("query failed");
+			}
+			return null;
+		};
+
+		assertThatThrownBy(() -> exporter.export(failingQuery, "weight", ExportOrder.UNORDERED, this::collect))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("query failed");
+	}
+
+	@Test
+	public void rethrowsExceptionOfSink() {
+		assertThatThrownBy(() -> exporter.export(Specification.unrestricted(), "weight", ExportOrder.ORDERED, customer -> {
+			throw new IllegalStateException("sink failed");
+		}))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("sink failed");
+	}
+
+	@Test
+	public void rejectsPathWhichIsNotNumericOrTemporal() {
+		assertThatThrownBy(() -> exporter.export(Specification.unrestricted(), "firstName", ExportOrder.ORDERED, this::collect))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void splitsRangeIntoPartitionsOfEqualWidth() {
+		assertThat(PartitionedExportExecutor.split(0L, 100L, 4)).containsExactly(25L, 50L, 75L);
+		assertThat(PartitionedExportExecutor.split(1, 3, 8)).containsExactly(2, 3);
+		assertThat(PartitionedExportExecutor.split(5, 5, 8)).isEmpty();
+		assertThat(PartitionedExportExecutor.split(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5), 2)).containsExactly(LocalDate.of(2024, 1, 3));
+		assertThat(PartitionedExportExecutor.split(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 2, 0, 0), 3))
+				.containsExactly(LocalDateTime.of(2024, 1, 1, 8, 0), LocalDateTime.of(2024, 1, 1, 16, 0));
+	}
+
+	private void collect(Customer customer) {
+		sinkThreads.add(Thread.currentThread().getName());
+		exportedWeights.add(customer.getWeight());
+	}
+}
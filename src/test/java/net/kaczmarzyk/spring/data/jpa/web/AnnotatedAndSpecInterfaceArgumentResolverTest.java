@@ -16,7 +16,6 @@
 package net.kaczmarzyk.spring.data.jpa.web;
 
 import net.kaczmarzyk.spring.data.jpa.Customer;
-import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
 import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
 import net.kaczmarzyk.spring.data.jpa.domain.Equal;
 import net.kaczmarzyk.spring.data.jpa.domain.Like;
@@ -122,13 +121,11 @@ public class AnnotatedAndSpecInterfaceArgumentResolverTest extends AnnotatedSpec
 		Collection<Specification<Object>> innerSpecs = proxiedInnerSpecs(resolved);
 
 		assertThat(innerSpecs)
-				.hasSize(3)
+				.hasSize(4)
 				.containsOnly(
-						new Conjunction<>(new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "firstName", new String[]{ "Homer" }, converter))),
-						new Conjunction<>(
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "gender", new String[]{ "MALE" }, converter)),
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "lastName", new String[]{ "Simpson" }, converter))
-						),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "firstName", new String[]{ "Homer" }, converter)),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "gender", new String[]{ "MALE" }, converter)),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "lastName", new String[]{ "Simpson" }, converter)),
 						new Like<>(ctx.queryContext(), "nickName", "Hom")
 				);
 	}
@@ -126,16 +126,14 @@ public class AnnotatedConjunctionSpecInterfaceArgumentResolverTest extends Annot
 		Collection<Specification<Object>> innerSpecs = proxiedInnerSpecs(resolved);
 
 		assertThat(innerSpecs)
-				.hasSize(3)
+				.hasSize(4)
 				.containsOnly(
-						new Conjunction<Object>(
-								new Disjunction<>(
-										new EmptyResultOnTypeMismatch<>(equal( ctx, "gender", "MALE")),
-										new EmptyResultOnTypeMismatch<>(equal(ctx, "lastName", "Simpson"))
-								),
-								new EmptyResultOnTypeMismatch<>(in(ctx, "registrationDate", "2014-03-25", "2014-03-20"))
+						new Disjunction<>(
+								new EmptyResultOnTypeMismatch<>(equal( ctx, "gender", "MALE")),
+								new EmptyResultOnTypeMismatch<>(equal(ctx, "lastName", "Simpson"))
 						),
-						new Conjunction<Object>(new Disjunction<>(new EmptyResultOnTypeMismatch<>(equal(ctx, "firstName", "Homer")))),
+						new EmptyResultOnTypeMismatch<>(in(ctx, "registrationDate", "2014-03-25", "2014-03-20")),
+						new EmptyResultOnTypeMismatch<>(equal(ctx, "firstName", "Homer")),
 						new Like<>(ctx.queryContext(), "nickName", "Hom")
 				);
 	}
@@ -138,7 +138,7 @@ public class AnnotatedDisjunctionSpecInterfaceArgumentResolverTest extends Annot
 								),
 								new EmptyResultOnTypeMismatch<>(in(ctx,"registrationDate", "2014-03-25", "2014-03-20"))
 						),
-						new Disjunction<Object>(new Conjunction<>(new EmptyResultOnTypeMismatch<>(equal(ctx, "firstName", "Homer")))),
+						new EmptyResultOnTypeMismatch<>(equal(ctx, "firstName", "Homer")),
 						new Like<>(ctx.queryContext(), "nickName", "Hom")
 				);
 	}
@@ -128,15 +128,13 @@ public class AnnotatedJoinFetchSpecInterfaceArgumentResolverTest extends Annotat
 		Collection<Specification<Object>> innerSpecs = proxiedInnerSpecs(resolved);
 
 		Assertions.assertThat(innerSpecs)
-				.hasSize(6)
+				.hasSize(7)
 				.containsOnly(
 						new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "orders" }, LEFT,true),
 						new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "badges" }, INNER, true),
 						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "b.badgeType", new String[]{ "Beef Eater" }, converter)),
-						new Conjunction<>(
-								new EmptyResultOnTypeMismatch<>(new In<>(ctx.queryContext(), "gender", new String[]{ "MALE" }, converter)),
-								new EmptyResultOnTypeMismatch<>(new In<>(ctx.queryContext(), "lastName", new String[]{ "Simpson" }, converter))
-						),
+						new EmptyResultOnTypeMismatch<>(new In<>(ctx.queryContext(), "gender", new String[]{ "MALE" }, converter)),
+						new EmptyResultOnTypeMismatch<>(new In<>(ctx.queryContext(), "lastName", new String[]{ "Simpson" }, converter)),
 						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o.itemName", new String[]{ "Pizza" }, converter)),
 						new Like<>(ctx.queryContext(), "nickName", "Hom")
 				);
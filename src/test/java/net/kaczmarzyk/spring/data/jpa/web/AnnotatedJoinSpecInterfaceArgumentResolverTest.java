@@ -127,14 +127,12 @@ public class AnnotatedJoinSpecInterfaceArgumentResolverTest extends AnnotatedSpe
 		Collection<Specification<Object>> innerSpecs = proxiedInnerSpecs(resolved);
 
 		Assertions.assertThat(innerSpecs)
-				.hasSize(6)
+				.hasSize(7)
 				.containsOnly(
 						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges", "b", JoinType.INNER, true),
 						new EmptyResultOnTypeMismatch<>(equal(ctx, "b.badgeType", "Beef Eater")),
-						new Conjunction<>(
-								new EmptyResultOnTypeMismatch<>(in(ctx, "gender", "MALE")),
-								new EmptyResultOnTypeMismatch<>(in(ctx, "lastName", "Simpson"))
-						),
+						new EmptyResultOnTypeMismatch<>(in(ctx, "gender", "MALE")),
+						new EmptyResultOnTypeMismatch<>(in(ctx, "lastName", "Simpson")),
 						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", LEFT, true),
 						new EmptyResultOnTypeMismatch<>(equal(ctx, "o.itemName", "Pizza")),
 						new Like<>(ctx.queryContext(), "nickName", "Hom")
@@ -17,7 +17,6 @@ package net.kaczmarzyk.spring.data.jpa.web;
 
 import net.kaczmarzyk.spring.data.jpa.Customer;
 import net.kaczmarzyk.spring.data.jpa.domain.*;
-import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.*;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -96,12 +95,10 @@ public class AnnotatedJoinsSpecInterfaceArgumentResolverTest extends AnnotatedSp
 				.isInstanceOf(OrderedItemNameFilter.class);
 
 		assertThat(proxiedInnerSpecs(resolved))
-				.hasSize(2)
+				.hasSize(3)
 				.containsExactlyInAnyOrder(
-						new Conjunction<>(
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", INNER, true),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders2", "o2", LEFT, true)
-						),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", INNER, true),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders2", "o2", LEFT, true),
 						new EmptyResultOnTypeMismatch<>(equal(ctx, "o.itemName", "Item-123"))
 				);
 	}
@@ -128,18 +125,14 @@ public class AnnotatedJoinsSpecInterfaceArgumentResolverTest extends AnnotatedSp
 				.isInstanceOf(SpecExtendedByTwoOtherInterfacesWithJoinsFilter.class);
 
 		Assertions.assertThat(proxiedInnerSpecs(resolved))
-				.hasSize(6)
+				.hasSize(8)
 				.containsOnly(
 						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges", "b", JoinType.INNER, true),
 						new EmptyResultOnTypeMismatch<>(equal(ctx, "b.badgeType", "Beef Eater")),
-						new Conjunction<>(
-								new EmptyResultOnTypeMismatch<>(in(ctx, "gender", "MALE")),
-								new EmptyResultOnTypeMismatch<>(in(ctx, "lastName", "Simpson"))
-						),
-						new Conjunction<>(
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", JoinType.INNER, true),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders2", "o2", LEFT, true)
-						),
+						new EmptyResultOnTypeMismatch<>(in(ctx, "gender", "MALE")),
+						new EmptyResultOnTypeMismatch<>(in(ctx, "lastName", "Simpson")),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", JoinType.INNER, true),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders2", "o2", LEFT, true),
 						new EmptyResultOnTypeMismatch<>(equal(ctx, "o.itemName", "Pizza")),
 						new Like<>(ctx.queryContext(), "nickName", "Hom")
 				);
@@ -123,7 +123,7 @@ public class AnnotatedOrSpecInterfaceArgumentResolverTest extends AnnotatedSpecI
 		Assertions.assertThat(innerSpecs)
 				.hasSize(3)
 				.containsOnly(
-						new Disjunction<>(new EmptyResultOnTypeMismatch<>(equal(ctx, "firstName", "Homer"))),
+						new EmptyResultOnTypeMismatch<>(equal(ctx, "firstName", "Homer")),
 						new Disjunction<>(
 								new EmptyResultOnTypeMismatch<>(equal(ctx, "gender", "MALE")),
 								new EmptyResultOnTypeMismatch<>(equal(ctx, "lastName", "Simpson"))
@@ -16,7 +16,6 @@
 package net.kaczmarzyk.spring.data.jpa.web;
 
 import net.kaczmarzyk.spring.data.jpa.Customer;
-import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
 import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
 import net.kaczmarzyk.spring.data.jpa.domain.Equal;
 import net.kaczmarzyk.spring.data.jpa.domain.JoinFetch;
@@ -121,12 +120,10 @@ public class AnnotatedRepeatedJoinFetchSpecInterfaceArgumentResolverTest extends
 		Specification<?> resolved = (Specification<?>) specificationArgumentResolver.resolveArgument(param, null, req, null);
 
 		assertThat(proxiedInnerSpecs(resolved))
-				.hasSize(3)
+				.hasSize(4)
 				.containsExactlyInAnyOrder(
-						new Conjunction<>(
-								new JoinFetch<>(queryCtx, new String[]{ "orders" }, LEFT, true),
-								new JoinFetch<>(queryCtx, new String[]{ "badges" }, INNER, true)
-						),
+						new JoinFetch<>(queryCtx, new String[]{ "orders" }, LEFT, true),
+						new JoinFetch<>(queryCtx, new String[]{ "badges" }, INNER, true),
 						new JoinFetch<>(queryCtx, new String[]{ "orders2" }, LEFT, true),
 						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o.itemName", new String[]{ "Duff Beer" }, defaultConverter))
 				);
@@ -147,16 +144,12 @@ public class AnnotatedRepeatedJoinFetchSpecInterfaceArgumentResolverTest extends
 		Specification<?> resolved = (Specification<?>) specificationArgumentResolver.resolveArgument(param, null, req, null);
 
 		assertThat(proxiedInnerSpecs(resolved))
-				.hasSize(2)
+				.hasSize(4)
 				.containsExactlyInAnyOrder(
-						new Conjunction<>(
-								new JoinFetch<>(queryCtx, new String[]{ "orders" }, LEFT, true),
-								new JoinFetch<>(queryCtx, new String[]{ "badges" }, INNER, true)
-						),
-						new Conjunction<>(
-								new JoinFetch<>(queryCtx, new String[]{ "orders2" }, RIGHT, false),
-								new JoinFetch<>(queryCtx, new String[]{ "badges2" }, RIGHT, true)
-						)
+						new JoinFetch<>(queryCtx, new String[]{ "orders" }, LEFT, true),
+						new JoinFetch<>(queryCtx, new String[]{ "badges" }, INNER, true),
+						new JoinFetch<>(queryCtx, new String[]{ "orders2" }, RIGHT, false),
+						new JoinFetch<>(queryCtx, new String[]{ "badges2" }, RIGHT, true)
 				);
 	}
 }
@@ -15,7 +15,6 @@
  */
 package net.kaczmarzyk.spring.data.jpa.web;
 
-import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
 import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
 import net.kaczmarzyk.spring.data.jpa.domain.Equal;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.And;
@@ -108,16 +107,12 @@ public class AnnotatedRepeatedJoinSpecInterfaceArgumentResolverTest extends Anno
 		Specification<?> resolved = (Specification<?>) specificationArgumentResolver.resolveArgument(param, null, req, null);
 
 		assertThat(proxiedInnerSpecs(resolved))
-				.hasSize(2)
+				.hasSize(4)
 				.containsExactlyInAnyOrder(
-						new Conjunction<>(
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o.itemName", new String[]{ "Duff Beer" }, defaultConverter)),
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "b.badgeType", new String[]{ "Hard Drinker" }, defaultConverter))
-						),
-						new Conjunction<>(
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", LEFT, true),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges", "b", INNER, true)
-						)
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o.itemName", new String[]{ "Duff Beer" }, defaultConverter)),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "b.badgeType", new String[]{ "Hard Drinker" }, defaultConverter)),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", LEFT, true),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges", "b", INNER, true)
 				);
 	}
 
@@ -136,16 +131,12 @@ public class AnnotatedRepeatedJoinSpecInterfaceArgumentResolverTest extends Anno
 		Specification<?> resolved = (Specification<?>) specificationArgumentResolver.resolveArgument(param, null, req, null);
 
 		assertThat(proxiedInnerSpecs(resolved))
-				.hasSize(4)
+				.hasSize(6)
 				.containsExactlyInAnyOrder(
-						new Conjunction<>(
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o.itemName", new String[]{ "Duff Beer" }, defaultConverter)),
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "b.badgeType", new String[]{ "Hard Drinker" }, defaultConverter))
-						),
-						new Conjunction<>(
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", LEFT, true),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges", "b", INNER, true)
-						),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o.itemName", new String[]{ "Duff Beer" }, defaultConverter)),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "b.badgeType", new String[]{ "Hard Drinker" }, defaultConverter)),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", LEFT, true),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges", "b", INNER, true),
 						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "discounts", "d", RIGHT, true),
 						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "d.discountType", new String[]{ "Gold customer" }, defaultConverter))
 				);
@@ -167,24 +158,16 @@ public class AnnotatedRepeatedJoinSpecInterfaceArgumentResolverTest extends Anno
 		Specification<?> resolved = (Specification<?>) specificationArgumentResolver.resolveArgument(param, null, req, null);
 
 		assertThat(proxiedInnerSpecs(resolved))
-				.hasSize(4)
+				.hasSize(8)
 				.containsExactlyInAnyOrder(
-						new Conjunction<>(
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o.itemName", new String[]{ "Duff Beer" }, defaultConverter)),
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "b.badgeType", new String[]{ "Hard Drinker" }, defaultConverter))
-						),
-						new Conjunction<>(
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", LEFT, true),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges", "b", INNER, true)
-						),
-						new Conjunction<>(
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o2.itemName2", new String[]{ "Duff Beer2" }, defaultConverter)),
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "b2.badgeType2", new String[]{ "Hard Drinker2" }, defaultConverter))
-						),
-						new Conjunction<>(
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders2", "o2", LEFT, false),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges2", "b2", RIGHT, true)
-						)
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o.itemName", new String[]{ "Duff Beer" }, defaultConverter)),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "b.badgeType", new String[]{ "Hard Drinker" }, defaultConverter)),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders", "o", LEFT, true),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges", "b", INNER, true),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "o2.itemName2", new String[]{ "Duff Beer2" }, defaultConverter)),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "b2.badgeType2", new String[]{ "Hard Drinker2" }, defaultConverter)),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "orders2", "o2", LEFT, false),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "badges2", "b2", RIGHT, true)
 				);
 	}
 
@@ -17,10 +17,13 @@ package net.kaczmarzyk.spring.data.jpa.web;
 
 
 import net.kaczmarzyk.spring.data.jpa.Customer;
+import net.kaczmarzyk.spring.data.jpa.domain.CountCapped;
 import net.kaczmarzyk.spring.data.jpa.domain.EmptyResultOnTypeMismatch;
+import net.kaczmarzyk.spring.data.jpa.domain.FieldSelection;
 import net.kaczmarzyk.spring.data.jpa.domain.Equal;
 import net.kaczmarzyk.spring.data.jpa.domain.In;
 import net.kaczmarzyk.spring.data.jpa.domain.Like;
+import net.kaczmarzyk.spring.data.jpa.domain.MarkerWrapper;
 import net.kaczmarzyk.spring.data.jpa.utils.Converter;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.*;
@@ -35,6 +38,7 @@ import java.util.Locale;
 
 import static net.kaczmarzyk.spring.data.jpa.web.utils.NativeWebRequestBuilder.nativeWebRequest;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -97,6 +101,17 @@ public class AnnotatedSpecInterfaceArgumentResolverTest extends AnnotatedSpecInt
 	public static interface IfaceWithOr extends Specification<Object> {
 	}
 
+	@CountCap(1000)
+	@Spec(path = "name", spec = Like.class)
+	public static interface IfaceWithCountCap extends Specification<Object> {
+	}
+
+	@CountCap(1000)
+	@SelectedFields(value = "firstName", param = "fields", allowed = { "firstName", "lastName" })
+	@Spec(path = "name", spec = Like.class)
+	public static interface IfaceWithSelectedFields extends Specification<Object> {
+	}
+
 	@Spec(path = "name", spec = Like.class)
 	public static class Clazz extends Like<Object> {
 		public Clazz(QueryContext queryCtx, String path, String[] args) {
@@ -142,6 +157,9 @@ public class AnnotatedSpecInterfaceArgumentResolverTest extends AnnotatedSpecInt
 		public void methodWithOr(IfaceWithOr arg) {}
 		public void methodWithDisjunction(IfaceWithDisjunction arg) {}
 		public void methodWithInheritanceTree(GrandChildInterface arg) {}
+		public void methodWithCountCap(IfaceWithCountCap arg) {}
+		public void methodWithCountCapOnParameter(@CountCap(50) IfaceWithCountCap arg) {}
+		public void methodWithSelectedFields(IfaceWithSelectedFields arg) {}
 	}
 
 	NativeWebRequest req = mock(NativeWebRequest.class);
@@ -223,6 +241,66 @@ public class AnnotatedSpecInterfaceArgumentResolverTest extends AnnotatedSpecInt
 		assertThat(resolver.resolveArgument(param, null, req, null)).isInstanceOf(IfaceWithOr.class);
 	}
 
+	@Test
+	public void resolvedSpecRetainsCountCapOfInterface() throws Exception {
+		MethodParameter param = methodParameter("methodWithCountCap", IfaceWithCountCap.class);
+
+		Object resolved = resolver.resolveArgument(param, null, req, null);
+
+		assertThat(resolved).isInstanceOf(IfaceWithCountCap.class);
+		assertThat(MarkerWrapper.findMarker(resolved, CountCapped.class).map(CountCapped::getCountCap)).contains(1000);
+	}
+
+	@Test
+	public void countCapOfParameterTakesPrecedenceOverCountCapOfInterface() throws Exception {
+		MethodParameter param = methodParameter("methodWithCountCapOnParameter", IfaceWithCountCap.class);
+
+		Object resolved = resolver.resolveArgument(param, null, req, null);
+
+		assertThat(MarkerWrapper.findMarker(resolved, CountCapped.class).map(CountCapped::getCountCap)).contains(50);
+	}
+
+	@Test
+	public void resolvedSpecIsNotCountCappedWithoutAnnotation() throws Exception {
+		MethodParameter param = methodParameter("methodWithSimpleSpec", IfaceWithSimpleSpec.class);
+
+		assertThat(MarkerWrapper.findMarker(resolver.resolveArgument(param, null, req, null), CountCapped.class)).isEmpty();
+	}
+
+	@Test
+	public void resolvedSpecSelectsFieldsRequestedWithParameter() throws Exception {
+		MethodParameter param = methodParameter("methodWithSelectedFields", IfaceWithSelectedFields.class);
+		NativeWebRequest req = nativeWebRequest()
+				.withParameterValues("name", "Homer")
+				.withParameterValues("fields", "lastName, firstName", "lastName").build();
+
+		Object resolved = resolver.resolveArgument(param, null, req, null);
+
+		assertThat(resolved).isInstanceOf(IfaceWithSelectedFields.class);
+		assertThat(MarkerWrapper.findMarker(resolved, FieldSelection.class).orElseThrow().getSelectedFields()).containsExactly("lastName", "firstName");
+		assertThat(MarkerWrapper.findMarker(resolved, CountCapped.class).map(CountCapped::getCountCap)).contains(1000);
+	}
+
+	@Test
+	public void resolvedSpecSelectsDefaultFieldsIfNoneAreRequested() throws Exception {
+		MethodParameter param = methodParameter("methodWithSelectedFields", IfaceWithSelectedFields.class);
+
+		Object resolved = resolver.resolveArgument(param, null, req, null);
+
+		assertThat(MarkerWrapper.findMarker(resolved, FieldSelection.class).orElseThrow().getSelectedFields()).containsExactly("firstName");
+	}
+
+	@Test
+	public void rejectsRequestedFieldsWhichAreNotAllowed() {
+		MethodParameter param = methodParameter("methodWithSelectedFields", IfaceWithSelectedFields.class);
+		NativeWebRequest req = nativeWebRequest()
+				.withParameterValues("fields", "firstName,password").build();
+
+		assertThatThrownBy(() -> resolver.resolveArgument(param, null, req, null))
+				.isInstanceOf(InvalidParameterValuesException.class)
+				.hasMessageContaining("'password'");
+	}
+
 	@Test
 	public void resolvedSpecHasWorkingToStringMethod() throws Exception {
 		MethodParameter param = methodParameter("methodWithOr", IfaceWithOr.class);
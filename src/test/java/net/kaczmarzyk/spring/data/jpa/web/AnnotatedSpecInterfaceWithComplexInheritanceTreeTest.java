@@ -212,7 +212,7 @@ public class AnnotatedSpecInterfaceWithComplexInheritanceTreeTest extends Annota
 
 		Collection<Specification<Object>> resolvedInnerSpecs = proxiedInnerSpecs(resolved);
 		assertThat(resolvedInnerSpecs)
-				.hasSize(10)
+				.hasSize(19)
 				.containsOnly(
 						// DisjunctionFilter
 						new net.kaczmarzyk.spring.data.jpa.domain.Disjunction<Object>(
@@ -228,28 +228,24 @@ public class AnnotatedSpecInterfaceWithComplexInheritanceTreeTest extends Annota
 								new EmptyResultOnTypeMismatch<>(new NotIn<>(ctx.queryContext(), "disjunctionOr1Path2", new String[]{ "disjunctionOr1Param2Val" }, converter))
 						),
 						// JoinsFilter
-						new net.kaczmarzyk.spring.data.jpa.domain.Conjunction<>(
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "joins1join1", "joins1join1alias", LEFT, true),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "joins1join2", "joins1join2alias", RIGHT, false),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "joins1join3", "joins1join3alias", INNER, true)
-						),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "joins1join1", "joins1join1alias", LEFT, true),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "joins1join2", "joins1join2alias", RIGHT, false),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "joins1join3", "joins1join3alias", INNER, true),
 						// SpecFilter
 						new Like<>(ctx.queryContext(), "spec1", "spec1Val"),
 						// Spec2Filter
 						new Like<>(ctx.queryContext(), "spec2", "spec2Val"),
 						// ConjunctionFilter
-						new net.kaczmarzyk.spring.data.jpa.domain.Conjunction<Object>(
-								new net.kaczmarzyk.spring.data.jpa.domain.Disjunction<>(
-										new EmptyResultOnTypeMismatch<>(newEqualIgnoreCase(ctx.queryContext(), "conjunction1or1spec1", new String[]{ "conjunction1or1spec1Val" }, converter)),
-										new EmptyResultOnTypeMismatch<>(newNotEqualIgnoreCase(ctx.queryContext(), "conjunction1or1spec2", new String[]{ "conjunction1or1spec2Val" }, converter))
-								),
-								new net.kaczmarzyk.spring.data.jpa.domain.Disjunction<>(
-										new EmptyResultOnTypeMismatch<>(newEqualIgnoreCase(ctx.queryContext(), "conjunction1or2spec1", new String[]{ "conjunction1or2spec1Val" }, converter)),
-										new EmptyResultOnTypeMismatch<>(newNotEqualIgnoreCase(ctx.queryContext(), "conjunction1or2spec2", new String[]{ "conjunction1or2spec2Val" }, converter))
-								),
-								new Like<>(ctx.queryContext(), "conjunction1AndSpec1", "conjunction1AndSpec1Val"),
-								new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "conjunction1AndSpec2", new String[]{ "conjunction1AndSpec2Val" }, converter))
+						new net.kaczmarzyk.spring.data.jpa.domain.Disjunction<>(
+								new EmptyResultOnTypeMismatch<>(newEqualIgnoreCase(ctx.queryContext(), "conjunction1or1spec1", new String[]{ "conjunction1or1spec1Val" }, converter)),
+								new EmptyResultOnTypeMismatch<>(newNotEqualIgnoreCase(ctx.queryContext(), "conjunction1or1spec2", new String[]{ "conjunction1or1spec2Val" }, converter))
 						),
+						new net.kaczmarzyk.spring.data.jpa.domain.Disjunction<>(
+								new EmptyResultOnTypeMismatch<>(newEqualIgnoreCase(ctx.queryContext(), "conjunction1or2spec1", new String[]{ "conjunction1or2spec1Val" }, converter)),
+								new EmptyResultOnTypeMismatch<>(newNotEqualIgnoreCase(ctx.queryContext(), "conjunction1or2spec2", new String[]{ "conjunction1or2spec2Val" }, converter))
+						),
+						new Like<>(ctx.queryContext(), "conjunction1AndSpec1", "conjunction1AndSpec1Val"),
+						new EmptyResultOnTypeMismatch<>(new Equal<>(ctx.queryContext(), "conjunction1AndSpec2", new String[]{ "conjunction1AndSpec2Val" }, converter)),
 						// OrFilter
 						new net.kaczmarzyk.spring.data.jpa.domain.Disjunction<>(
 								new EmptyResultOnTypeMismatch<>(new NotNull<>(ctx.queryContext(), "or1spec1", new String[]{ "or1spec1Val" }, converter)),
@@ -260,17 +256,13 @@ public class AnnotatedSpecInterfaceWithComplexInheritanceTreeTest extends Annota
 						// JoinFilter
 						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "join1", "join1alias", LEFT, false),
 						// 3xJoinFetch
-						new net.kaczmarzyk.spring.data.jpa.domain.Conjunction<>(
-								new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(ctx.queryContext(), new String[]{"repeatedJoinFetch1Path1", "repeatedJoinFetch1Path2"}, LEFT, false),
-								new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(ctx.queryContext(), new String[]{"repeatedJoinFetch2Path1"}, INNER, true),
-								new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(ctx.queryContext(), new String[]{"repeatedJoinFetch3Path1", "repeatedJoinFetch3Path2"}, RIGHT, false)
-						),
+						new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(ctx.queryContext(), new String[]{"repeatedJoinFetch1Path1", "repeatedJoinFetch1Path2"}, LEFT, false),
+						new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(ctx.queryContext(), new String[]{"repeatedJoinFetch2Path1"}, INNER, true),
+						new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(ctx.queryContext(), new String[]{"repeatedJoinFetch3Path1", "repeatedJoinFetch3Path2"}, RIGHT, false),
 						// 3xJoin
-						new net.kaczmarzyk.spring.data.jpa.domain.Conjunction<>(
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "repeatedJoin1", "repeatedJoin1alias", LEFT, false),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "repeatedJoin2", "repeatedJoin2alias", INNER, true),
-								new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "repeatedJoin3", "repeatedJoin3alias", RIGHT, false)
-						)
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "repeatedJoin1", "repeatedJoin1alias", LEFT, false),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "repeatedJoin2", "repeatedJoin2alias", INNER, true),
+						new net.kaczmarzyk.spring.data.jpa.domain.Join<>(ctx.queryContext(), "repeatedJoin3", "repeatedJoin3alias", RIGHT, false)
 				);
 	}
 
@@ -16,15 +16,33 @@
 package net.kaczmarzyk.spring.data.jpa.web;
 
 import com.jparams.verifier.tostring.ToStringVerifier;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
 public class DefaultQueryContextTest {
 
 	@Test
 	public void toStringVerifier() {
 		ToStringVerifier.forClass(DefaultQueryContext.class)
-				.withIgnoredFields("evaluatedJoinFetch", "rootCache")
+				.withIgnoredFields("evaluatedJoinFetch", "rootCache", "nullRejectedJoins", "semiJoins", "existsSubqueries")
 				.verify();
 	}
 
+	@Test
+	public void cachesJoinFetchesPerQueryRoot() {
+		DefaultQueryContext context = new DefaultQueryContext();
+		Root<?> contentQueryRoot = mock(Root.class);
+		Root<?> otherQueryRoot = mock(Root.class);
+		Fetch<?, ?> fetch = mock(Fetch.class);
+
+		context.putEvaluatedJoinFetch("o", contentQueryRoot, fetch);
+
+		assertThat(context.getEvaluatedJoinFetch("o", contentQueryRoot)).isSameAs(fetch);
+		assertThat(context.getEvaluatedJoinFetch("o", otherQueryRoot)).isNull();
+	}
+
 }
@@ -25,6 +25,8 @@ import org.springframework.core.MethodParameter;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.web.context.request.NativeWebRequest;
 
+import net.kaczmarzyk.spring.data.jpa.domain.DistinctStrategy;
+import net.kaczmarzyk.spring.data.jpa.domain.JoinStrategy;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Join;
 
 
@@ -43,10 +45,54 @@ public class JoinSpecificationResolverTest extends ResolverTestBase {
         		new net.kaczmarzyk.spring.data.jpa.domain.Join<>(new DefaultQueryContext(), "orders", "o", JoinType.RIGHT, false));
     }
     
+    @Test
+    public void resolvesJoinWithDistinctStrategy() throws Exception {
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod2"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+
+        Specification<?> resolved = (Specification<?>) resolver.resolveArgument(param, null, req, null);
+
+        assertThat(resolved).isEqualTo(new net.kaczmarzyk.spring.data.jpa.domain.Join<>(
+                new DefaultQueryContext(), "orders", "o", JoinType.LEFT, true, JoinStrategy.JOIN, DistinctStrategy.AUTO));
+    }
+
+    @Test
+    public void resolvesJoinWithDefaultDistinctStrategyOfTheResolver() throws Exception {
+        SpecificationArgumentResolver resolverWithDefaultStrategy = new SpecificationArgumentResolver(DistinctStrategy.AUTO);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod3"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+
+        Specification<?> resolved = (Specification<?>) resolverWithDefaultStrategy.resolveArgument(param, null, req, null);
+
+        assertThat(resolved).isEqualTo(new net.kaczmarzyk.spring.data.jpa.domain.Join<>(
+                new DefaultQueryContext(), "orders", "o", JoinType.LEFT, true, JoinStrategy.JOIN, DistinctStrategy.AUTO));
+    }
+
+    @Test
+    public void resolvesJoinWithExplicitDefaultDistinctStrategy() throws Exception {
+        SpecificationArgumentResolver resolverWithDefaultStrategy = new SpecificationArgumentResolver(DistinctStrategy.AUTO);
+        MethodParameter param = MethodParameter.forExecutable(testMethod("testMethod4"), 0);
+        NativeWebRequest req = mock(NativeWebRequest.class);
+
+        assertThat(resolverWithDefaultStrategy.resolveArgument(param, null, req, null)).isEqualTo(new net.kaczmarzyk.spring.data.jpa.domain.Join<>(
+                new DefaultQueryContext(), "orders", "o", JoinType.LEFT, true, JoinStrategy.JOIN, DistinctStrategy.AUTO));
+        assertThat(resolver.resolveArgument(param, null, req, null)).isEqualTo(new net.kaczmarzyk.spring.data.jpa.domain.Join<>(
+                new DefaultQueryContext(), "orders", "o", JoinType.LEFT, true, JoinStrategy.JOIN, DistinctStrategy.SQL));
+    }
+
     public static class TestController {
 
         public void testMethod1(@Join(path = "orders", alias = "o", type = JoinType.RIGHT, distinct = false) Specification<Object> spec) {
         }
+
+        public void testMethod2(@Join(path = "orders", alias = "o", distinctStrategy = DistinctStrategy.AUTO) Specification<Object> spec) {
+        }
+
+        public void testMethod3(@Join(path = "orders", alias = "o") Specification<Object> spec) {
+        }
+
+        public void testMethod4(@Join(path = "orders", alias = "o", distinctStrategy = DistinctStrategy.DEFAULT) Specification<Object> spec) {
+        }
     }
 
 	@Override
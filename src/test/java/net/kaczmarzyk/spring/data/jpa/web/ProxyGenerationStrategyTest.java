@@ -15,20 +15,19 @@
  */
 package net.kaczmarzyk.spring.data.jpa.web;
 
+import net.kaczmarzyk.spring.data.jpa.domain.Disjunction;
 import net.kaczmarzyk.spring.data.jpa.domain.Like;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Conjunction;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Join;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Or;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Spec;
-import net.kaczmarzyk.utils.ReflectionUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.web.context.request.NativeWebRequest;
 
 import jakarta.persistence.criteria.JoinType;
-import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -82,9 +81,10 @@ public class ProxyGenerationStrategyTest extends ResolverTestBase {
 
         assertThatSpecIsNotProxy(resolved);
 
-        List<Specification<?>> resolvedDisjunction = ReflectionUtils.get(resolved, "innerSpecs");
+        assertThat(resolved)
+                .isInstanceOf(Disjunction.class);
 
-        assertThat(innerSpecs(resolvedDisjunction.get(0)))
+        assertThat(innerSpecs(resolved))
                 .hasSize(2)
                 .contains(
                         new Like<>(queryCtx, "path1", new String[] { "value1" }),
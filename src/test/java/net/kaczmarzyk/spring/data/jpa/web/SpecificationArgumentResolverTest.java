@@ -15,7 +15,6 @@
  */
 package net.kaczmarzyk.spring.data.jpa.web;
 
-import net.kaczmarzyk.spring.data.jpa.domain.Conjunction;
 import net.kaczmarzyk.spring.data.jpa.domain.Like;
 import net.kaczmarzyk.spring.data.jpa.utils.QueryContext;
 import net.kaczmarzyk.spring.data.jpa.web.annotation.Join;
@@ -66,11 +65,10 @@ public class SpecificationArgumentResolverTest extends ResolverTestBase {
         assertThatSpecIsNotProxy(resolved);
 
         assertThat(innerSpecs(resolved))
-            .hasSize(2)
+            .hasSize(3)
             .contains(new Like<>(queryCtx, "path1", new String[]{ "value1" }))
-            .contains(new Conjunction<>(
-                    new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "fetch1" }, JoinType.LEFT, true),
-                    new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "fetch2" }, JoinType.INNER, true)));
+            .contains(new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "fetch1" }, JoinType.LEFT, true))
+            .contains(new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "fetch2" }, JoinType.INNER, true));
     }
     
     @Test
@@ -116,11 +114,10 @@ public class SpecificationArgumentResolverTest extends ResolverTestBase {
         assertThatSpecIsProxy(resolved);
 
         assertThat(proxiedInnerSpecs(resolved))
-                .hasSize(2)
+                .hasSize(3)
                 .contains(new Like<>(queryCtx, "path1", new String[]{ "value1" }))
-                .contains(new Conjunction<>(
-                        new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "fetch1" }, JoinType.LEFT, true),
-                        new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "fetch2" }, JoinType.LEFT, true)));
+                .contains(new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "fetch1" }, JoinType.LEFT, true))
+                .contains(new net.kaczmarzyk.spring.data.jpa.domain.JoinFetch<>(queryCtx, new String[]{ "fetch2" }, JoinType.LEFT, true));
     }
     
     @Override